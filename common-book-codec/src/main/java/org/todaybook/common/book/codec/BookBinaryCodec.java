@@ -0,0 +1,288 @@
+package org.todaybook.common.book.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary form of a {@link BookMessage} ({@link BookContentType#BINARY_V1}). Field names are
+ * not repeated per message and absent fields take no space:
+ *
+ * <pre>
+ * byte     version (1)
+ * byte     presence bitmap, bit i set when field i is present:
+ *            0 isbn, 1 title, 2 categories, 3 description,
+ *            4 author, 5 publisher, 6 publishedAt, 7 thumbnail
+ * then every present field, in that order:
+ *   string       varint UTF-8 byte length, then the bytes
+ *   categories   varint count, then that many strings (present only when non-empty)
+ *   publishedAt  zigzag varint epoch day
+ * </pre>
+ *
+ * <p>Varints are unsigned LEB128: seven bits per byte, low bits first, high bit set on every byte
+ * but the last. A new layout gets a new version byte (and content type); readers reject versions
+ * they do not know rather than guess.
+ */
+public final class BookBinaryCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final int ISBN = 1;
+    private static final int TITLE = 1 << 1;
+    private static final int CATEGORIES = 1 << 2;
+    private static final int DESCRIPTION = 1 << 3;
+    private static final int AUTHOR = 1 << 4;
+    private static final int PUBLISHER = 1 << 5;
+    private static final int PUBLISHED_AT = 1 << 6;
+    private static final int THUMBNAIL = 1 << 7;
+
+    private BookBinaryCodec() {
+    }
+
+    public static byte[] encode(BookMessage book) {
+        List<String> categories = book.categories();
+        // UTF-8 lengths are needed for the prefixes and the exact buffer size; computed once.
+        int[] lengths = new int[6 + categories.size()];
+        String[] strings = {book.isbn(), book.title(), book.description(), book.author(), book.publisher(),
+            book.thumbnail()};
+
+        int presence = 0;
+        int size = 2;
+        for (int i = 0; i < strings.length; i++) {
+            if (strings[i] != null) {
+                presence |= bitOf(i);
+                lengths[i] = utf8Length(strings[i]);
+                size += varintSize(lengths[i]) + lengths[i];
+            }
+        }
+        if (!categories.isEmpty()) {
+            presence |= CATEGORIES;
+            size += varintSize(categories.size());
+            for (int i = 0; i < categories.size(); i++) {
+                int length = utf8Length(categories.get(i));
+                lengths[6 + i] = length;
+                size += varintSize(length) + length;
+            }
+        }
+        int epochDay = 0;
+        if (book.publishedAt() != null) {
+            presence |= PUBLISHED_AT;
+            epochDay = zigzag(Math.toIntExact(book.publishedAt().toEpochDay()));
+            size += varintSize(epochDay);
+        }
+
+        Writer out = new Writer(size);
+        out.writeByte(VERSION);
+        out.writeByte(presence);
+        out.writeString(strings[0], lengths[0]);
+        out.writeString(strings[1], lengths[1]);
+        if ((presence & CATEGORIES) != 0) {
+            out.writeVarint(categories.size());
+            for (int i = 0; i < categories.size(); i++) {
+                out.writeString(categories.get(i), lengths[6 + i]);
+            }
+        }
+        out.writeString(strings[2], lengths[2]);
+        out.writeString(strings[3], lengths[3]);
+        out.writeString(strings[4], lengths[4]);
+        if ((presence & PUBLISHED_AT) != 0) {
+            out.writeVarint(epochDay);
+        }
+        out.writeString(strings[5], lengths[5]);
+        return out.buffer;
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code data} is truncated, has trailing bytes or an
+     *     unknown version
+     */
+    public static BookMessage decode(byte[] data) {
+        Reader in = new Reader(data);
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported book binary version: " + version);
+        }
+        int presence = in.readByte();
+
+        String isbn = (presence & ISBN) != 0 ? in.readString() : null;
+        String title = (presence & TITLE) != 0 ? in.readString() : null;
+        List<String> categories = List.of();
+        if ((presence & CATEGORIES) != 0) {
+            int count = in.readVarint();
+            if (count > in.remaining()) {
+                throw new IllegalArgumentException("Truncated book binary: " + count + " categories");
+            }
+            List<String> read = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                read.add(in.readString());
+            }
+            categories = read;
+        }
+        String description = (presence & DESCRIPTION) != 0 ? in.readString() : null;
+        String author = (presence & AUTHOR) != 0 ? in.readString() : null;
+        String publisher = (presence & PUBLISHER) != 0 ? in.readString() : null;
+        LocalDate publishedAt = (presence & PUBLISHED_AT) != 0
+            ? LocalDate.ofEpochDay(unzigzag(in.readVarint()))
+            : null;
+        String thumbnail = (presence & THUMBNAIL) != 0 ? in.readString() : null;
+
+        if (in.remaining() != 0) {
+            throw new IllegalArgumentException("Trailing bytes after book binary: " + in.remaining());
+        }
+        return new BookMessage(isbn, title, categories, description, author, publisher, publishedAt, thumbnail);
+    }
+
+    // Index into the strings array of encode() -> presence bit.
+    private static int bitOf(int stringIndex) {
+        return switch (stringIndex) {
+            case 0 -> ISBN;
+            case 1 -> TITLE;
+            case 2 -> DESCRIPTION;
+            case 3 -> AUTHOR;
+            case 4 -> PUBLISHER;
+            default -> THUMBNAIL;
+        };
+    }
+
+    /**
+     * Number of bytes {@code value} takes in UTF-8, as written by this codec and by
+     * {@code String.getBytes(UTF_8)}: a lone surrogate counts as the single {@code '?'} it is
+     * replaced with. Also used to estimate serialized record sizes without encoding.
+     *
+     * @return the UTF-8 length, or {@code 0} for {@code null}
+     */
+    public static int utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = value.length();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                // Two chars, four bytes.
+                length += 2;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // A lone surrogate is written as '?', like String.getBytes(UTF_8).
+                continue;
+            } else if (c >= 0x800) {
+                length += 2;
+            } else if (c >= 0x80) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    private static int varintSize(int value) {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Writer {
+
+        private final byte[] buffer;
+        private int position;
+
+        private Writer(int size) {
+            this.buffer = new byte[size];
+        }
+
+        void writeByte(int value) {
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeString(String value, int utf8Length) {
+            if (value == null) {
+                return;
+            }
+            writeVarint(utf8Length);
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    buffer[position++] = '?';
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data) {
+            this.data = data;
+        }
+
+        int remaining() {
+            return data.length - position;
+        }
+
+        int readByte() {
+            if (position >= data.length) {
+                throw truncated();
+            }
+            return data[position++] & 0xFF;
+        }
+
+        int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in book binary at " + position);
+        }
+
+        String readString() {
+            int length = readVarint();
+            if (length < 0 || length > remaining()) {
+                throw truncated();
+            }
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private IllegalArgumentException truncated() {
+            return new IllegalArgumentException("Truncated book binary at " + position + " of " + data.length);
+        }
+    }
+}
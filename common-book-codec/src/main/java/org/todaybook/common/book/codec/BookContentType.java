@@ -0,0 +1,55 @@
+package org.todaybook.common.book.codec;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * Encoding of a book record value, signalled by the {@value #HEADER} header. Records without the
+ * header are JSON, which is what the worker published before the header existed.
+ */
+public enum BookContentType {
+
+    JSON("application/json"),
+    BINARY_V1("application/vnd.todaybook.book.v1+binary");
+
+    public static final String HEADER = "content-type";
+
+    private final String mimeType;
+    private final byte[] headerValue;
+
+    BookContentType(String mimeType) {
+        this.mimeType = mimeType;
+        this.headerValue = mimeType.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the header names a content type this codec cannot read
+     */
+    public static BookContentType of(Headers headers) {
+        Header header = (headers == null) ? null : headers.lastHeader(HEADER);
+        if (header == null || header.value() == null) {
+            return JSON;
+        }
+
+        String value = new String(header.value(), StandardCharsets.US_ASCII).trim();
+        for (BookContentType type : values()) {
+            if (type.mimeType.equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported " + HEADER + ": " + value);
+    }
+
+    public String mimeType() {
+        return mimeType;
+    }
+
+    /**
+     * Replaces any {@value #HEADER} header on {@code headers} with this type.
+     */
+    public void writeTo(Headers headers) {
+        headers.remove(HEADER);
+        headers.add(HEADER, headerValue);
+    }
+}
@@ -0,0 +1,23 @@
+package org.todaybook.common.book.codec;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A parsed book as published on {@code book.parsed}, in either content type. This is the wire
+ * contract for downstream services; the worker maps its domain model onto it.
+ */
+public record BookMessage(
+    String isbn,
+    String title,
+    List<String> categories,
+    String description,
+    String author,
+    String publisher,
+    LocalDate publishedAt,
+    String thumbnail
+) {
+    public BookMessage {
+        categories = categories == null ? List.of() : List.copyOf(categories);
+    }
+}
@@ -0,0 +1,48 @@
+package org.todaybook.common.book.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Reads book records in whichever content type the {@value BookContentType#HEADER} header names,
+ * so a consumer keeps working while the producer switches between JSON and binary.
+ */
+public class BookMessageDeserializer implements Deserializer<BookMessage> {
+
+    private final ObjectMapper objectMapper;
+
+    public BookMessageDeserializer() {
+        this(new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+    }
+
+    public BookMessageDeserializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public BookMessage deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public BookMessage deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return switch (BookContentType.of(headers)) {
+                case JSON -> objectMapper.readValue(data, BookMessage.class);
+                case BINARY_V1 -> BookBinaryCodec.decode(data);
+            };
+        } catch (IOException | IllegalArgumentException e) {
+            throw new SerializationException("Failed to read book record from topic " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.todaybook.common.book.codec;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Writes book records as {@link BookContentType#BINARY_V1} and marks them with the
+ * {@value BookContentType#HEADER} header.
+ */
+public class BookMessageSerializer implements Serializer<BookMessage> {
+
+    @Override
+    public byte[] serialize(String topic, BookMessage data) {
+        return data == null ? null : BookBinaryCodec.encode(data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, BookMessage data) {
+        if (data == null) {
+            return null;
+        }
+        BookContentType.BINARY_V1.writeTo(headers);
+        return BookBinaryCodec.encode(data);
+    }
+}
@@ -0,0 +1,111 @@
+package org.todaybook.common.book.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BookBinaryCodec Unit Tests")
+class BookBinaryCodecTest {
+
+    @Test
+    @DisplayName("Given_FullBook_When_EncodeAndDecode_Then_RoundTrips")
+    void givenFullBook_whenEncodeAndDecode_thenRoundTrips() {
+        BookMessage book = new BookMessage("9788966262281", "클린 코드", List.of("IT", "프로그래밍"),
+            "애자일 소프트웨어 장인 정신 😀", "Robert C. Martin", "인사이트", LocalDate.of(2013, 12, 24),
+            "http://image");
+
+        assertThat(BookBinaryCodec.decode(BookBinaryCodec.encode(book))).isEqualTo(book);
+    }
+
+    @Test
+    @DisplayName("Given_AbsentFields_When_EncodeAndDecode_Then_KeepsNullsAndEmptyStrings")
+    void givenAbsentFields_whenEncodeAndDecode_thenKeepsNullsAndEmptyStrings() {
+        BookMessage book = new BookMessage("9788966262281", "", List.of(), null, null, null, null, null);
+
+        byte[] encoded = BookBinaryCodec.encode(book);
+
+        // version, bitmap, 13-byte isbn with its length, empty title
+        assertThat(encoded).hasSize(2 + 14 + 1);
+        assertThat(BookBinaryCodec.decode(encoded)).isEqualTo(book);
+    }
+
+    @Test
+    @DisplayName("Given_DateBeforeEpoch_When_EncodeAndDecode_Then_RoundTrips")
+    void givenDateBeforeEpoch_whenEncodeAndDecode_thenRoundTrips() {
+        BookMessage book = new BookMessage(null, null, null, null, null, null, LocalDate.of(1955, 3, 1), null);
+
+        assertThat(BookBinaryCodec.decode(BookBinaryCodec.encode(book)).publishedAt())
+            .isEqualTo(LocalDate.of(1955, 3, 1));
+    }
+
+    @Test
+    @DisplayName("Given_LongDescription_When_Encode_Then_UsesMultiByteLengthPrefix")
+    void givenLongDescription_whenEncode_thenUsesMultiByteLengthPrefix() {
+        String description = "가".repeat(100);
+        BookMessage book = new BookMessage(null, null, null, description, null, null, null, null);
+
+        byte[] encoded = BookBinaryCodec.encode(book);
+
+        assertThat(encoded).hasSize(2 + 2 + 300);
+        assertThat(BookBinaryCodec.decode(encoded).description()).isEqualTo(description);
+    }
+
+    @Test
+    @DisplayName("Given_LoneSurrogate_When_EncodeAndDecode_Then_ReplacesItLikeJdkUtf8")
+    void givenLoneSurrogate_whenEncodeAndDecode_thenReplacesItLikeJdkUtf8() {
+        BookMessage book = new BookMessage(null, "a\uD83Db", null, null, null, null, null, null);
+
+        assertThat(BookBinaryCodec.decode(BookBinaryCodec.encode(book)).title()).isEqualTo("a?b");
+    }
+
+    @Test
+    @DisplayName("Given_MixedText_When_Utf8Length_Then_MatchesJdkEncoding")
+    void givenMixedText_whenUtf8Length_thenMatchesJdkEncoding() {
+        for (String value : List.of("", "isbn", "é", "클린 코드", "😀", "a\uD83Db", "\uDE00x")) {
+            assertThat(BookBinaryCodec.utf8Length(value))
+                .as("value [%s]", value)
+                .isEqualTo(value.getBytes(StandardCharsets.UTF_8).length);
+        }
+        assertThat(BookBinaryCodec.utf8Length(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("Given_UnknownVersion_When_Decode_Then_Rejects")
+    void givenUnknownVersion_whenDecode_thenRejects() {
+        byte[] encoded = BookBinaryCodec.encode(
+            new BookMessage("9788966262281", null, null, null, null, null, null, null));
+        encoded[0] = 2;
+
+        assertThatThrownBy(() -> BookBinaryCodec.decode(encoded))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("version");
+    }
+
+    @Test
+    @DisplayName("Given_TruncatedPayload_When_Decode_Then_Rejects")
+    void givenTruncatedPayload_whenDecode_thenRejects() {
+        byte[] encoded = BookBinaryCodec.encode(
+            new BookMessage("9788966262281", "title", null, null, null, null, null, null));
+
+        assertThatThrownBy(() -> BookBinaryCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Given_TypicalBook_When_Encode_Then_IsLessThanHalfOfJson")
+    void givenTypicalBook_whenEncode_thenIsLessThanHalfOfJson() {
+        BookMessage book = new BookMessage("9788966262281", "클린 코드", List.of("IT"), "desc", "Robert C. Martin",
+            "인사이트", LocalDate.of(2013, 12, 24), "http://image");
+        String json = "{\"isbn\":\"9788966262281\",\"title\":\"클린 코드\",\"categories\":[\"IT\"],"
+            + "\"description\":\"desc\",\"author\":\"Robert C. Martin\",\"publisher\":\"인사이트\","
+            + "\"publishedAt\":\"2013-12-24\",\"thumbnail\":\"http://image\"}";
+
+        assertThat(BookBinaryCodec.encode(book).length).isLessThan(json.getBytes(StandardCharsets.UTF_8).length / 2);
+    }
+}
@@ -25,4 +25,12 @@ public class LoggingErrorHandler extends DefaultErrorHandler {
             records.size(), thrownException.getMessage());
         super.handleRemaining(thrownException, records, consumer, container);
     }
+
+    @Override
+    public void handleBatch(Exception thrownException, org.apache.kafka.clients.consumer.ConsumerRecords<?, ?> data,
+                            org.apache.kafka.clients.consumer.Consumer<?, ?> consumer,
+                            org.springframework.kafka.listener.MessageListenerContainer container, Runnable invokeListener) {
+        log.warn("Kafka batch listener failed. records={}, ex={}", data.count(), thrownException.getMessage());
+        super.handleBatch(thrownException, data, consumer, container, invokeListener);
+    }
 }
@@ -0,0 +1,53 @@
+package org.todaybook.bookpreprocessingworker.application.normalize;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link AuthorNormalizer} with the regex chain it replaced, on typical Naver author fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthorNormalizerBenchmark {
+
+    private static final Pattern SEPARATOR = Pattern.compile(
+        "\\s*(\\^|;|\\||/|&|,|\\band\\b|\\+|·|ㆍ)\\s*",
+        Pattern.CASE_INSENSITIVE
+    );
+    private static final Pattern ROLE = Pattern.compile(
+        "\\b(author|editor|translator|translated|illustrator|ed\\.|eds\\.|trans\\.)\\b",
+        Pattern.CASE_INSENSITIVE
+    );
+    private static final Pattern ROLE_KR = Pattern.compile(
+        "(저자|지음|글쓴이|옮김|역자|번역|편저|편집|편역|감수|엮음|글씀|그림)"
+    );
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Param({
+        "한강",
+        "유발 하라리 지음^조현욱 옮김^이태수 감수",
+        "J. K. Rowling (Author), Mary GrandPré (Illustrator)",
+    })
+    public String author;
+
+    @Benchmark
+    public String regexChain() {
+        String candidate = SEPARATOR.split(author, 2)[0].trim();
+        String withoutRoles = ROLE.matcher(candidate).replaceAll("");
+        withoutRoles = ROLE_KR.matcher(withoutRoles).replaceAll("");
+        return WHITESPACE.matcher(withoutRoles).replaceAll(" ").trim();
+    }
+
+    @Benchmark
+    public String automaton() {
+        return AuthorNormalizer.DEFAULT.normalize(author);
+    }
+}
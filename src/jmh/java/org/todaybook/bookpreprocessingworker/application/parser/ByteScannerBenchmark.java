@@ -0,0 +1,70 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the vector and scalar {@link ByteScanner} on a raw row whose description is
+ * {@code descriptionRepeat} sentences long, both as a bare sentinel search and as a full
+ * {@link Utf8RawColumns} parse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ByteScannerBenchmark {
+
+    private static final ColumnProjection PROJECTION = ColumnProjection.of(1, 3, 4, 5, 9, 10, 11, 14, 17);
+
+    @Param({"1", "20", "120"})
+    public int descriptionRepeat;
+
+    private final ByteScanner scalar = ByteScanner.scalar();
+    private final ByteScanner preferred = ByteScanner.INSTANCE;
+    private byte[] row;
+
+    @Setup
+    public void setUp() {
+        String description = "설명 문장입니다. Lorem ipsum dolor sit amet ".repeat(descriptionRepeat);
+        row = ("\"115982\",\"9780761921585\",\"cloth\",\"Title\",\"Author\",\"Pub\",\"\",\"\",\"121081\","
+            + "\"http://image\",\"" + description + "\",\"\",\"slug\",\"\",\"2000-12-29\",\"Y\",\"Y\",\"0761921583\"")
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int scalarSentinels() {
+        return countSentinels(scalar);
+    }
+
+    @Benchmark
+    public int vectorSentinels() {
+        return countSentinels(preferred);
+    }
+
+    @Benchmark
+    public int scalarParseRow() {
+        return Utf8RawColumns.parse(row, PROJECTION, scalar).size();
+    }
+
+    @Benchmark
+    public int vectorParseRow() {
+        return Utf8RawColumns.parse(row, PROJECTION, preferred).size();
+    }
+
+    private int countSentinels(ByteScanner scanner) {
+        int count = 0;
+        int i = scanner.indexOfEither(row, 0, row.length, (byte) ',', (byte) '"');
+        while (i >= 0) {
+            count++;
+            i = scanner.indexOfEither(row, i + 1, row.length, (byte) ',', (byte) '"');
+        }
+        return count;
+    }
+}
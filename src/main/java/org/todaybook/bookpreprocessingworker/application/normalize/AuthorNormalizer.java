@@ -0,0 +1,390 @@
+package org.todaybook.bookpreprocessingworker.application.normalize;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reduces an author field to its first name without role words, replacing the chain
+ * {@code SEPARATOR.split(s, 2)[0].trim()} → {@code ROLE_EN.replaceAll} → {@code ROLE_KR.replaceAll}
+ * → {@code \s+} collapse → {@code trim()}. Output is identical to that chain on the JDK 21
+ * toolchain, including its quirks:
+ * <ul>
+ *   <li>the cut is at the first separator ({@code ^ ; | / & , + · ㆍ} or the word {@code and});</li>
+ *   <li>English roles need a word boundary on both sides, evaluated on the cut text, so
+ *       {@code "ed."} is only removed when a word character follows the dot;</li>
+ *   <li>English matching is ASCII case-insensitive, Korean roles match anywhere, and Korean roles
+ *       are removed after English ones, so {@code "지author음"} loses both;</li>
+ *   <li>word characters are {@code [A-Za-z0-9_]}, as for {@code \b} in {@code java.util.regex} since
+ *       JDK 19, so {@code "김author"} loses its role; a non-spacing mark still joins the word
+ *       before it when that word starts at a letter or digit of any script, as the JDK does.</li>
+ * </ul>
+ *
+ * <p>Separators and role keywords can be configured ({@link #compile}); {@link #DEFAULT} uses the
+ * lists above. A role starting with an ASCII letter follows the English rules, any other role the
+ * Korean ones. All role keywords are compiled into one trie. The field is scanned once to find the
+ * cut, then the kept part once for English and once for Korean roles; at each position the trie is
+ * walked for at most the longest keyword, and only where a keyword can start. The English pass
+ * allocates only when it removes something. Instances are immutable.
+ */
+public final class AuthorNormalizer {
+
+    public static final String DEFAULT_SEPARATORS = "^;|/&,+·ㆍ";
+    public static final List<String> DEFAULT_SEPARATOR_WORDS = List.of("and");
+    public static final List<String> DEFAULT_ROLES = List.of(
+        "author", "editor", "translator", "translated", "illustrator", "ed.", "eds.", "trans.",
+        "저자", "지음", "글쓴이", "옮김", "역자", "번역", "편저", "편집", "편역", "감수", "엮음", "글씀", "그림"
+    );
+
+    public static final AuthorNormalizer DEFAULT =
+        compile(DEFAULT_SEPARATORS, DEFAULT_SEPARATOR_WORDS, DEFAULT_ROLES);
+
+    private static final int ASCII_LIMIT = 0x80;
+
+    private final boolean[] asciiSeparators;
+    private final char[] otherSeparators;
+    private final boolean[] separatorWordStarts;
+    private final Trie separatorWords;
+    private final Trie roles;
+
+    private AuthorNormalizer(
+        boolean[] asciiSeparators,
+        char[] otherSeparators,
+        boolean[] separatorWordStarts,
+        Trie separatorWords,
+        Trie roles
+    ) {
+        this.asciiSeparators = asciiSeparators;
+        this.otherSeparators = otherSeparators;
+        this.separatorWordStarts = separatorWordStarts;
+        this.separatorWords = separatorWords;
+        this.roles = roles;
+    }
+
+    /**
+     * @param separators characters that end the first author
+     * @param separatorWords words that end the first author when they stand alone, matched ASCII
+     *     case-insensitively
+     * @param roles role keywords to remove
+     * @throws IllegalArgumentException if a separator word is not made of ASCII letters, a role is
+     *     blank or starts with an ASCII character other than a letter, or a keyword is a prefix of
+     *     another in the same list
+     */
+    public static AuthorNormalizer compile(String separators, List<String> separatorWords, List<String> roles) {
+        boolean[] asciiSeparators = new boolean[ASCII_LIMIT];
+        StringBuilder otherSeparators = new StringBuilder();
+        for (int i = 0; i < separators.length(); i++) {
+            char c = separators.charAt(i);
+            if (c < ASCII_LIMIT) {
+                asciiSeparators[c] = true;
+            } else if (otherSeparators.indexOf(String.valueOf(c)) < 0) {
+                otherSeparators.append(c);
+            }
+        }
+
+        boolean[] separatorWordStarts = new boolean[ASCII_LIMIT];
+        List<String> words = new ArrayList<>(separatorWords.size());
+        for (String word : separatorWords) {
+            if (word == null || word.isEmpty() || !word.chars().allMatch(c -> isAsciiLetter((char) c))) {
+                throw new IllegalArgumentException("Separator word must be ASCII letters: '" + word + "'");
+            }
+            String lower = word.toLowerCase(Locale.ROOT);
+            separatorWordStarts[lower.charAt(0)] = true;
+            separatorWordStarts[Character.toUpperCase(lower.charAt(0))] = true;
+            words.add(lower);
+        }
+
+        List<String> keywords = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            if (role == null || role.isBlank()) {
+                throw new IllegalArgumentException("Role keyword must not be blank");
+            }
+            char first = role.charAt(0);
+            if (first < ASCII_LIMIT && !isAsciiLetter(first)) {
+                throw new IllegalArgumentException("Role keyword must start with a letter: '" + role + "'");
+            }
+            keywords.add(first < ASCII_LIMIT ? role.toLowerCase(Locale.ROOT) : role);
+        }
+
+        return new AuthorNormalizer(
+            asciiSeparators,
+            otherSeparators.toString().toCharArray(),
+            separatorWordStarts,
+            Trie.compile(words),
+            Trie.compile(keywords)
+        );
+    }
+
+    /**
+     * @param cleaned author text with tags already removed
+     * @return the normalized first author; may be blank, never {@code null} for non-null input
+     */
+    public String normalize(String cleaned) {
+        int cut = firstSeparator(cleaned);
+        int start = 0;
+        int end = cut;
+        while (start < end && cleaned.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && cleaned.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return stripRoles(cleaned, start, end);
+    }
+
+    private int firstSeparator(String text) {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < ASCII_LIMIT) {
+                if (asciiSeparators[c] || (separatorWordStarts[c] && isSeparatorWord(text, i, length))) {
+                    return i;
+                }
+            } else if (isOtherSeparator(c)) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    private boolean isSeparatorWord(String text, int i, int length) {
+        if (isWordBefore(text, 0, i)) {
+            return false;
+        }
+        int matched = separatorWords.match(text, i, length, true);
+        return matched > 0 && !isWordAt(text, 0, i + matched, length);
+    }
+
+    private boolean isOtherSeparator(char c) {
+        for (char separator : otherSeparators) {
+            if (separator == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes role keywords from {@code text[start, end)}, collapses whitespace and trims. English
+     * roles go first, with word boundaries that treat {@code start} and {@code end} as the ends of
+     * the input; Korean roles are then removed from what is left, so text joined by removing an
+     * English role ({@code "지author음"}) can still form a Korean role, as in the regex chain.
+     */
+    private String stripRoles(String text, int start, int end) {
+        String withoutEnglish = stripEnglishRoles(text, start, end);
+        if (withoutEnglish != null) {
+            return stripKoreanRoles(withoutEnglish, 0, withoutEnglish.length());
+        }
+        return stripKoreanRoles(text, start, end);
+    }
+
+    /**
+     * @return {@code text[start, end)} without English roles, or {@code null} if it has none
+     */
+    private String stripEnglishRoles(String text, int start, int end) {
+        StringBuilder out = null;
+        int copied = start;
+        for (int i = start; i < end; i++) {
+            int matched = matchEnglishRole(text, start, end, i);
+            if (matched > 0) {
+                if (out == null) {
+                    out = new StringBuilder(end - start);
+                }
+                out.append(text, copied, i);
+                i += matched - 1;
+                copied = i + 1;
+            }
+        }
+        return out == null ? null : out.append(text, copied, end).toString();
+    }
+
+    private String stripKoreanRoles(String text, int start, int end) {
+        char[] out = new char[end - start];
+        int size = 0;
+        char last = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= ASCII_LIMIT) {
+                int matched = roles.match(text, i, end, false);
+                if (matched > 0) {
+                    i += matched - 1;
+                    continue;
+                }
+            }
+
+            if (isRegexWhitespace(c)) {
+                if (size > 0 && last == ' ') {
+                    continue;
+                }
+                c = ' ';
+            }
+            out[size++] = c;
+            last = c;
+        }
+
+        int from = 0;
+        while (from < size && out[from] <= ' ') {
+            from++;
+        }
+        while (size > from && out[size - 1] <= ' ') {
+            size--;
+        }
+        return new String(out, from, size - from);
+    }
+
+    /**
+     * @return length of the English role keyword starting at {@code i}, or {@code 0}
+     */
+    private int matchEnglishRole(String text, int start, int end, int i) {
+        char first = text.charAt(i);
+        if (!isAsciiLetter(first) || isWordBefore(text, start, i)) {
+            return 0;
+        }
+        int length = roles.match(text, i, end, true);
+        if (length == 0) {
+            return 0;
+        }
+        boolean endsWithWord = isWord(text.charAt(i + length - 1));
+        boolean wordAfter = isWordAt(text, start, i + length, end);
+        // \b after the keyword: a word end needs a non-word next, a non-word end ("ed.") a word next.
+        return (endsWithWord != wordAfter) ? length : 0;
+    }
+
+    // ===================== \b support (java.util.regex semantics, JDK 19+) =====================
+
+    private static boolean isWordBefore(String text, int start, int index) {
+        if (index <= start) {
+            return false;
+        }
+        int ch = Character.codePointBefore(text, index);
+        return isWord(ch) || (isNonSpacingMark(ch) && hasBaseCharacter(text, start, index - 1));
+    }
+
+    private static boolean isWordAt(String text, int start, int index, int end) {
+        if (index >= end) {
+            return false;
+        }
+        int ch = Character.codePointAt(text, index);
+        return isWord(ch) || (isNonSpacingMark(ch) && hasBaseCharacter(text, start, index));
+    }
+
+    private static boolean hasBaseCharacter(String text, int start, int index) {
+        for (int x = index; x >= start; x--) {
+            int ch = Character.codePointAt(text, x);
+            if (Character.isLetterOrDigit(ch)) {
+                return true;
+            }
+            if (!isNonSpacingMark(ch)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWord(int ch) {
+        return ch < ASCII_LIMIT && (ch == '_' || isAsciiLetter((char) ch) || (ch >= '0' && ch <= '9'));
+    }
+
+    private static boolean isNonSpacingMark(int ch) {
+        return Character.getType(ch) == Character.NON_SPACING_MARK;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Keyword trie in flat arrays. No keyword is a prefix of another, so a walk ends at most one
+     * keyword and there is no alternation order to honour.
+     */
+    private static final class Trie {
+
+        private final char[][] labels;
+        private final int[][] targets;
+        private final int[] keywordLength;
+
+        private Trie(char[][] labels, int[][] targets, int[] keywordLength) {
+            this.labels = labels;
+            this.targets = targets;
+            this.keywordLength = keywordLength;
+        }
+
+        static Trie compile(List<String> keywords) {
+            List<StringBuilder> nodeLabels = new ArrayList<>();
+            List<List<Integer>> nodeTargets = new ArrayList<>();
+            List<Integer> lengths = new ArrayList<>();
+            nodeLabels.add(new StringBuilder());
+            nodeTargets.add(new ArrayList<>());
+            lengths.add(0);
+
+            for (String keyword : keywords) {
+                int node = 0;
+                for (int i = 0; i < keyword.length(); i++) {
+                    char c = keyword.charAt(i);
+                    int edge = nodeLabels.get(node).indexOf(String.valueOf(c));
+                    if (edge < 0) {
+                        nodeLabels.get(node).append(c);
+                        nodeTargets.get(node).add(nodeLabels.size());
+                        nodeLabels.add(new StringBuilder());
+                        nodeTargets.add(new ArrayList<>());
+                        lengths.add(0);
+                        node = nodeLabels.size() - 1;
+                    } else {
+                        node = nodeTargets.get(node).get(edge);
+                    }
+                }
+                lengths.set(node, keyword.length());
+            }
+
+            int count = nodeLabels.size();
+            char[][] labels = new char[count][];
+            int[][] targets = new int[count][];
+            int[] keywordLength = new int[count];
+            for (int n = 0; n < count; n++) {
+                labels[n] = nodeLabels.get(n).toString().toCharArray();
+                targets[n] = nodeTargets.get(n).stream().mapToInt(Integer::intValue).toArray();
+                keywordLength[n] = lengths.get(n);
+                if (keywordLength[n] > 0 && labels[n].length > 0) {
+                    throw new IllegalArgumentException("A keyword is a prefix of another: " + keywords);
+                }
+            }
+            return new Trie(labels, targets, keywordLength);
+        }
+
+        /**
+         * @return length of the keyword starting at {@code from}, or {@code 0}
+         */
+        int match(String text, int from, int end, boolean foldAsciiCase) {
+            int node = 0;
+            for (int i = from; i < end; i++) {
+                char c = text.charAt(i);
+                if (foldAsciiCase && c >= 'A' && c <= 'Z') {
+                    c = (char) (c + ('a' - 'A'));
+                }
+                node = next(node, c);
+                if (node < 0) {
+                    return 0;
+                }
+                if (keywordLength[node] > 0) {
+                    return keywordLength[node];
+                }
+            }
+            return 0;
+        }
+
+        private int next(int node, char c) {
+            char[] edges = labels[node];
+            for (int e = 0; e < edges.length; e++) {
+                if (edges[e] == c) {
+                    return targets[node][e];
+                }
+            }
+            return -1;
+        }
+    }
+}
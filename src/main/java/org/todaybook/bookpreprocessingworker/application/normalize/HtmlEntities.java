@@ -0,0 +1,89 @@
+package org.todaybook.bookpreprocessingworker.application.normalize;
+
+/**
+ * Named HTML entities seen in Naver and publisher feeds, in a collision-free (perfect) hash table.
+ * A lookup hashes the name straight out of the source text and does one region compare; nothing
+ * is allocated. {@link #MULTIPLIER} was searched offline for this key set; the static initializer
+ * fails fast if an edit to {@link #NAMES} introduces a collision.
+ */
+final class HtmlEntities {
+
+    static final int MAX_NAME_LENGTH = 8;
+
+    private static final int BITS = 9;
+    private static final int MULTIPLIER = 152_969;
+
+    private static final String[] NAMES = {
+        "amp", "lt", "gt", "quot", "apos", "nbsp", "middot", "hellip", "ndash", "mdash",
+        "lsquo", "rsquo", "sbquo", "ldquo", "rdquo", "bdquo", "laquo", "raquo", "lsaquo", "rsaquo",
+        "copy", "reg", "trade", "times", "divide", "deg", "plusmn", "para", "sect", "bull",
+        "prime", "Prime", "euro", "yen", "pound", "cent", "iexcl", "iquest", "shy", "ordm",
+        "ordf", "sup1", "sup2", "sup3", "frac12", "frac14", "frac34", "micro", "larr", "rarr",
+        "uarr", "darr", "harr", "thinsp", "ensp", "emsp", "agrave", "aacute", "acirc", "auml",
+        "atilde", "aring", "aelig", "ccedil", "egrave", "eacute", "ecirc", "euml", "igrave", "iacute",
+        "icirc", "iuml", "ntilde", "ograve", "oacute", "ocirc", "otilde", "ouml", "oslash", "ugrave",
+        "uacute", "ucirc", "uuml", "yacute", "yuml", "szlig", "oelig", "Agrave", "Aacute", "Acirc",
+        "Auml", "Ccedil", "Egrave", "Eacute", "Ecirc", "Euml", "Icirc", "Iuml", "Ntilde", "Ocirc",
+        "Ouml", "Ucirc", "Uuml", "OElig",
+    };
+
+    private static final char[] VALUES = {
+        '&', '<', '>', '"', '\'', '\u00A0', '·', '…', '–', '—',
+        '‘', '’', '‚', '“', '”', '„', '«', '»', '‹', '›',
+        '©', '®', '™', '×', '÷', '°', '±', '¶', '§', '•',
+        '′', '″', '€', '¥', '£', '¢', '¡', '¿', '\u00AD', 'º',
+        'ª', '¹', '²', '³', '½', '¼', '¾', 'µ', '←', '→',
+        '↑', '↓', '↔', '\u2009', '\u2002', '\u2003', 'à', 'á', 'â', 'ä',
+        'ã', 'å', 'æ', 'ç', 'è', 'é', 'ê', 'ë', 'ì', 'í',
+        'î', 'ï', 'ñ', 'ò', 'ó', 'ô', 'õ', 'ö', 'ø', 'ù',
+        'ú', 'û', 'ü', 'ý', 'ÿ', 'ß', 'œ', 'À', 'Á', 'Â',
+        'Ä', 'Ç', 'È', 'É', 'Ê', 'Ë', 'Î', 'Ï', 'Ñ', 'Ô',
+        'Ö', 'Û', 'Ü', 'Œ',
+    };
+
+    private static final String[] TABLE_NAMES = new String[1 << BITS];
+    private static final char[] TABLE_VALUES = new char[1 << BITS];
+
+    static {
+        if (NAMES.length != VALUES.length) {
+            throw new IllegalStateException("Entity names and values are out of sync");
+        }
+        for (int i = 0; i < NAMES.length; i++) {
+            String name = NAMES[i];
+            int slot = slot(name, 0, name.length());
+            if (TABLE_NAMES[slot] != null) {
+                throw new IllegalStateException(
+                    "Entity '" + name + "' collides with '" + TABLE_NAMES[slot] + "'; search a new MULTIPLIER");
+            }
+            TABLE_NAMES[slot] = name;
+            TABLE_VALUES[slot] = VALUES[i];
+        }
+    }
+
+    private HtmlEntities() {
+    }
+
+    /**
+     * @return the character for the entity named {@code text[start, end)}, or {@code -1} if unknown
+     */
+    static int lookup(String text, int start, int end) {
+        int length = end - start;
+        if (length <= 0 || length > MAX_NAME_LENGTH) {
+            return -1;
+        }
+        int slot = slot(text, start, end);
+        String name = TABLE_NAMES[slot];
+        if (name == null || name.length() != length || !text.regionMatches(start, name, 0, length)) {
+            return -1;
+        }
+        return TABLE_VALUES[slot];
+    }
+
+    private static int slot(String text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = hash * MULTIPLIER + text.charAt(i);
+        }
+        return (hash * 0x9E3779B9) >>> (32 - BITS);
+    }
+}
@@ -0,0 +1,153 @@
+package org.todaybook.bookpreprocessingworker.application.normalize;
+
+/**
+ * Validates ISBNs and turns them into one canonical key: the 13-digit ISBN.
+ *
+ * <p>Characters other than {@code 0-9}, {@code X} and {@code x} are ignored inside a token, so
+ * {@code "89-6626-228-7"} and {@code "8966262287 (pbk)"} both read as {@code 8966262287}. A token
+ * is an ISBN-13 when it has 13 digits and a valid mod-10 check digit, or an ISBN-10 when it has
+ * 9 digits followed by a digit or {@code X} and a valid mod-11 check digit. ISBN-10s are returned
+ * as their {@code 978}-prefixed ISBN-13, so both forms of the same book share a key.
+ *
+ * <p>Scanning is a single pass that keeps the digits and both checksums in primitives; the only
+ * allocation is the returned string.
+ */
+public final class IsbnNormalizer {
+
+    private static final int ISBN_10_LENGTH = 10;
+    private static final int ISBN_13_LENGTH = 13;
+    private static final long ISBN_10_PREFIX = 978_000_000_000L;
+    /** Set on scan results that came from an ISBN-10, so {@link #extract} can prefer real ISBN-13s. */
+    private static final long CONVERTED = 1L << 62;
+
+    private IsbnNormalizer() {
+    }
+
+    /**
+     * Reads the whole value as one ISBN.
+     *
+     * @return the canonical ISBN-13, or {@code null} if the value is not a valid ISBN
+     */
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        long isbn = scan(raw, 0, raw.length());
+        return isbn < 0 ? null : format(isbn);
+    }
+
+    /**
+     * Reads a value holding several ISBNs separated by whitespace, {@code ,}, {@code ;} or
+     * {@code /}, as in Naver's {@code "8966262287 9788966262281"}. The first valid ISBN-13 wins;
+     * otherwise the first valid ISBN-10 is converted.
+     *
+     * @return the canonical ISBN-13, or {@code null} if no token is a valid ISBN
+     */
+    public static String extract(String raw) {
+        if (raw == null) {
+            return null;
+        }
+
+        long fromIsbn10 = -1;
+        int length = raw.length();
+        int tokenStart = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i < length && !isSeparator(raw.charAt(i))) {
+                continue;
+            }
+            if (i > tokenStart) {
+                long isbn = scan(raw, tokenStart, i);
+                if (isbn >= 0) {
+                    if (!isConverted(isbn)) {
+                        return format(isbn);
+                    }
+                    if (fromIsbn10 < 0) {
+                        fromIsbn10 = isbn & ~CONVERTED;
+                    }
+                }
+            }
+            tokenStart = i + 1;
+        }
+        return fromIsbn10 < 0 ? null : format(fromIsbn10);
+    }
+
+    /**
+     * @return the ISBN-13 as a number ({@link #CONVERTED} set when it was an ISBN-10), or {@code -1}
+     */
+    private static long scan(String text, int from, int to) {
+        int count = 0;
+        long digits = 0;
+        int sum10 = 0;
+        int sum13 = 0;
+        boolean checkX = false;
+
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            int value;
+            if (c >= '0' && c <= '9') {
+                value = c - '0';
+            } else if (c == 'X' || c == 'x') {
+                value = 10;
+            } else {
+                continue;
+            }
+
+            if (checkX || count == ISBN_13_LENGTH) {
+                // X was not the last character, or there are too many characters for any ISBN
+                return -1;
+            }
+            if (value == 10) {
+                if (count != ISBN_10_LENGTH - 1) {
+                    return -1;
+                }
+                checkX = true;
+            } else {
+                digits = digits * 10 + value;
+                sum13 += (count & 1) == 0 ? value : value * 3;
+            }
+            sum10 += (ISBN_10_LENGTH - count) * value;
+            count++;
+        }
+
+        if (count == ISBN_13_LENGTH) {
+            return sum13 % 10 == 0 ? digits : -1;
+        }
+        if (count == ISBN_10_LENGTH && sum10 % 11 == 0) {
+            long first9 = checkX ? digits : digits / 10;
+            return toIsbn13(first9) | CONVERTED;
+        }
+        return -1;
+    }
+
+    private static long toIsbn13(long isbn10Body) {
+        long body = ISBN_10_PREFIX + isbn10Body;
+        int sum = 0;
+        long rest = body;
+        // the 12-digit body's last digit sits at an odd position (weight 3)
+        for (int position = 11; position >= 0; position--) {
+            int digit = (int) (rest % 10);
+            sum += (position & 1) == 0 ? digit : digit * 3;
+            rest /= 10;
+        }
+        return body * 10 + (10 - sum % 10) % 10;
+    }
+
+    private static boolean isConverted(long isbn) {
+        return (isbn & CONVERTED) != 0;
+    }
+
+    private static String format(long isbn) {
+        char[] chars = new char[ISBN_13_LENGTH];
+        long rest = isbn & ~CONVERTED;
+        for (int i = ISBN_13_LENGTH - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+        return new String(chars);
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r'
+            || c == ',' || c == ';' || c == '/';
+    }
+}
@@ -0,0 +1,94 @@
+package org.todaybook.bookpreprocessingworker.application.normalize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Size-bounded memo of raw author and publisher strings to their normalized form. Both values
+ * repeat heavily across records, so a hit skips the normalizer and hands every book the same
+ * {@code String} instance instead of a fresh copy.
+ *
+ * <p>Caffeine is used for its striped, lock-free reads; statistics are recorded so the caches can
+ * be bound to a meter registry. A size of {@code 0} or less builds no cache at all: every call runs
+ * the normalizer, and the cache accessors are empty.
+ *
+ * <p>Authors depend on the {@link NormalizationRules} they were normalized with, so their entries
+ * are keyed by the rules instance as well: a result still being computed under replaced rules may
+ * land in the cache after the swap, but is never returned for the new ones.
+ */
+public class NormalizationCaches {
+
+    public static final long DEFAULT_AUTHOR_CACHE_SIZE = 50_000;
+    public static final long DEFAULT_PUBLISHER_CACHE_SIZE = 10_000;
+
+    private final Cache<AuthorKey, String> authors;
+    private final Cache<String, String> publishers;
+
+    public NormalizationCaches(long authorCacheSize, long publisherCacheSize) {
+        this.authors = authorCacheSize > 0 ? build(authorCacheSize) : null;
+        this.publishers = publisherCacheSize > 0 ? build(publisherCacheSize) : null;
+    }
+
+    public static NormalizationCaches withDefaults() {
+        return new NormalizationCaches(DEFAULT_AUTHOR_CACHE_SIZE, DEFAULT_PUBLISHER_CACHE_SIZE);
+    }
+
+    /**
+     * @param normalizer normalizes {@code raw} under {@code rules}
+     * @return the cached result of {@code normalizer} for {@code raw} under {@code rules};
+     *     {@code null} results are returned but not cached
+     */
+    public String author(NormalizationRules rules, String raw, Function<String, String> normalizer) {
+        if (raw == null) {
+            return null;
+        }
+        if (authors == null) {
+            return normalizer.apply(raw);
+        }
+        return authors.get(new AuthorKey(rules, raw), key -> normalizer.apply(key.raw()));
+    }
+
+    /**
+     * @return the cached result of {@code normalizer} for {@code raw}; {@code null} results are
+     *     returned but not cached
+     */
+    public String publisher(String raw, Function<String, String> normalizer) {
+        if (raw == null) {
+            return null;
+        }
+        return publishers == null ? normalizer.apply(raw) : publishers.get(raw, normalizer);
+    }
+
+    /**
+     * Drops every cached author, e.g. once the rules they were normalized with are replaced.
+     */
+    public void invalidateAuthors() {
+        if (authors != null) {
+            authors.invalidateAll();
+        }
+    }
+
+    /**
+     * @return the author cache, or empty if author caching is disabled
+     */
+    public Optional<Cache<?, String>> authorCache() {
+        return Optional.ofNullable(authors);
+    }
+
+    /**
+     * @return the publisher cache, or empty if publisher caching is disabled
+     */
+    public Optional<Cache<String, String>> publisherCache() {
+        return Optional.ofNullable(publishers);
+    }
+
+    private static <K> Cache<K, String> build(long maximumSize) {
+        return Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+
+    // NormalizationRules has identity equality, so each rules instance is its own key space.
+    private record AuthorKey(NormalizationRules rules, String raw) {
+    }
+}
@@ -0,0 +1,128 @@
+package org.todaybook.bookpreprocessingworker.application.normalize;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.todaybook.bookpreprocessingworker.application.parser.RawField;
+import org.todaybook.bookpreprocessingworker.domain.model.Book;
+
+/**
+ * The tunable part of normalization, compiled once into immutable matchers: the author separators
+ * and role keywords ({@link AuthorNormalizer}), the minimum description length and the fields a
+ * book must have to be published. A new rule set replaces the old one as a whole
+ * ({@code NormalizationRulesUseCase#replaceRules}); records already being normalized finish with
+ * the rules they started with.
+ */
+public final class NormalizationRules {
+
+    public static final int DEFAULT_MIN_DESCRIPTION_LENGTH = 30;
+    public static final Set<RawField> DEFAULT_REQUIRED_FIELDS = Collections.unmodifiableSet(
+        EnumSet.of(RawField.ISBN, RawField.TITLE, RawField.AUTHOR, RawField.DESCRIPTION)
+    );
+    private static final Set<RawField> REQUIRABLE_FIELDS = Collections.unmodifiableSet(EnumSet.of(
+        RawField.ISBN,
+        RawField.TITLE,
+        RawField.AUTHOR,
+        RawField.PUBLISHER,
+        RawField.IMAGE,
+        RawField.DESCRIPTION,
+        RawField.PUBLISHED_AT
+    ));
+
+    public static final NormalizationRules DEFAULT = new NormalizationRules(
+        DEFAULT_MIN_DESCRIPTION_LENGTH,
+        AuthorNormalizer.DEFAULT,
+        EnumSet.copyOf(DEFAULT_REQUIRED_FIELDS)
+    );
+
+    private final int minDescriptionLength;
+    private final AuthorNormalizer authorNormalizer;
+    private final Set<RawField> requiredFields;
+    private final RawField[] requiredOrder;
+
+    private NormalizationRules(int minDescriptionLength, AuthorNormalizer authorNormalizer, EnumSet<RawField> required) {
+        this.minDescriptionLength = minDescriptionLength;
+        this.authorNormalizer = authorNormalizer;
+        this.requiredFields = Collections.unmodifiableSet(required);
+        this.requiredOrder = required.toArray(RawField[]::new);
+    }
+
+    /**
+     * The ISBN is always required, since it is the record key.
+     *
+     * @throws IllegalArgumentException if the description length is negative, the author lists do
+     *     not compile ({@link AuthorNormalizer#compile}) or a required field is a fallback column
+     */
+    public static NormalizationRules compile(
+        int minDescriptionLength,
+        String authorSeparators,
+        List<String> authorSeparatorWords,
+        List<String> authorRoles,
+        Collection<RawField> requiredFields
+    ) {
+        if (minDescriptionLength < 0) {
+            throw new IllegalArgumentException("Minimum description length must not be negative: " + minDescriptionLength);
+        }
+        EnumSet<RawField> required = EnumSet.of(RawField.ISBN);
+        for (RawField field : requiredFields) {
+            if (!REQUIRABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException(field + " cannot be required; require " + REQUIRABLE_FIELDS);
+            }
+            required.add(field);
+        }
+        return new NormalizationRules(
+            minDescriptionLength,
+            AuthorNormalizer.compile(authorSeparators, authorSeparatorWords, authorRoles),
+            required
+        );
+    }
+
+    public int minDescriptionLength() {
+        return minDescriptionLength;
+    }
+
+    public AuthorNormalizer authorNormalizer() {
+        return authorNormalizer;
+    }
+
+    public Set<RawField> requiredFields() {
+        return requiredFields;
+    }
+
+    /**
+     * @return the first required field that is blank in {@code book}, or {@code null}
+     */
+    public RawField firstMissing(Book book) {
+        for (RawField field : requiredOrder) {
+            if (isBlank(field, book)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBlank(RawField field, Book book) {
+        return switch (field) {
+            case ISBN -> isBlank(book.isbn());
+            case TITLE -> isBlank(book.title());
+            case AUTHOR -> isBlank(book.author());
+            case PUBLISHER -> isBlank(book.publisher());
+            case IMAGE -> isBlank(book.thumbnail());
+            case DESCRIPTION -> isBlank(book.description());
+            case PUBLISHED_AT -> book.publishedAt() == null;
+            default -> false;
+        };
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @Override
+    public String toString() {
+        return "NormalizationRules{minDescriptionLength=" + minDescriptionLength
+            + ", requiredFields=" + requiredFields + '}';
+    }
+}
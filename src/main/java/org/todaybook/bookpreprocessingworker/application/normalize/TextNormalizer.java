@@ -0,0 +1,238 @@
+package org.todaybook.bookpreprocessingworker.application.normalize;
+
+/**
+ * Single-pass cleanup of free-text fields. One scan removes tags, optionally decodes HTML entities
+ * and collapses whitespace, and the result is trimmed by index. Input that needs no change is
+ * returned as-is; otherwise one {@code char[]} is allocated at the first change. Decoding only ever
+ * shortens the text, so that array never grows.
+ *
+ * <p>Entities are decoded after tag removal in effect: {@code &lt;b&gt;} becomes the text
+ * {@code <b>}, not a tag. Named entities come from {@link HtmlEntities}; numeric ones
+ * ({@code &#39;}, {@code &#x2F;}) accept any valid code point. Unknown or unterminated entities
+ * are kept verbatim. A decoded whitespace character is collapsed like a literal one.
+ *
+ * <p>Tag, whitespace and trim handling are identical to the regex chain this replaced:
+ * <ul>
+ *   <li>a tag is {@code <[^>]*>}: a {@code <} with no {@code >} after it is kept,</li>
+ *   <li>whitespace is the regex {@code \s} set ({@code [ \t\n\x0B\f\r]}), collapsed to one space,</li>
+ *   <li>trimming is {@link String#trim()}: every char {@code <= ' '} at either end.</li>
+ * </ul>
+ */
+public final class TextNormalizer {
+
+    // Longest entity body between '&' and ';', e.g. "#x0010FFFF".
+    private static final int MAX_ENTITY_BODY = 10;
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Removes tags. {@code null} becomes {@code ""}.
+     */
+    public static String stripTags(String raw) {
+        if (raw == null) {
+            return "";
+        }
+        return stripTagSpans(raw);
+    }
+
+    /**
+     * Removes tags, decodes entities and trims; whitespace inside is kept as-is.
+     */
+    public static String cleanText(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        return scan(raw, true, false, true, 0);
+    }
+
+    /**
+     * Removes tags, decodes entities, collapses whitespace and trims.
+     *
+     * @return the normalized text, or {@code null} if it is empty or shorter than {@code minLength}
+     */
+    public static String normalize(String raw, int minLength) {
+        // Normalizing never makes text longer, so a short input can be rejected without scanning.
+        if (raw == null || raw.length() < Math.max(1, minLength)) {
+            return null;
+        }
+        return scan(raw, true, true, true, Math.max(1, minLength));
+    }
+
+    /**
+     * Tag removal alone needs no per-character work between tags, so it jumps from {@code <} to
+     * {@code >} with {@link String#indexOf(int, int)}, which the JIT compiles to a vectorized search,
+     * and copies the text between tags in bulk.
+     */
+    private static String stripTagSpans(String raw) {
+        int open = raw.indexOf('<');
+        if (open < 0) {
+            return raw;
+        }
+
+        int length = raw.length();
+        char[] out = null;
+        int size = 0;
+        int from = 0;
+        while (open >= 0) {
+            int close = raw.indexOf('>', open + 1);
+            if (close < 0) {
+                break;
+            }
+            if (out == null) {
+                out = new char[length];
+            }
+            raw.getChars(from, open, out, size);
+            size += open - from;
+            from = close + 1;
+            open = raw.indexOf('<', from);
+        }
+        if (out == null) {
+            return raw;
+        }
+        raw.getChars(from, length, out, size);
+        size += length - from;
+        return new String(out, 0, size);
+    }
+
+    private static String scan(
+        String raw,
+        boolean decodeEntities,
+        boolean collapseWhitespace,
+        boolean trim,
+        int minLength
+    ) {
+        int length = raw.length();
+        char[] out = null;
+        int size = 0;
+        char last = 0;
+        boolean tagsPossible = true;
+
+        for (int i = 0; i < length; i++) {
+            char c = raw.charAt(i);
+            if (c == '<' && tagsPossible) {
+                int close = raw.indexOf('>', i + 1);
+                if (close >= 0) {
+                    if (out == null) {
+                        out = copyPrefix(raw, size);
+                    }
+                    i = close;
+                    continue;
+                }
+                // No '>' left anywhere, so no later '<' can open a tag either.
+                tagsPossible = false;
+            }
+            if (c == '&' && decodeEntities) {
+                int semicolon = entityEnd(raw, i);
+                int codePoint = (semicolon < 0) ? -1 : decodeEntity(raw, i + 1, semicolon);
+                if (codePoint >= 0) {
+                    if (out == null) {
+                        out = copyPrefix(raw, size);
+                    }
+                    i = semicolon;
+                    if (Character.isSupplementaryCodePoint(codePoint)) {
+                        last = Character.highSurrogate(codePoint);
+                        out[size++] = last;
+                        c = Character.lowSurrogate(codePoint);
+                    } else {
+                        c = (char) codePoint;
+                    }
+                }
+            }
+            if (collapseWhitespace && isWhitespace(c)) {
+                if (size > 0 && last == ' ') {
+                    if (out == null) {
+                        out = copyPrefix(raw, size);
+                    }
+                    continue;
+                }
+                if (c != ' ' && out == null) {
+                    out = copyPrefix(raw, size);
+                }
+                c = ' ';
+            }
+            if (out != null) {
+                out[size] = c;
+            }
+            size++;
+            last = c;
+        }
+
+        int start = 0;
+        int end = size;
+        if (trim) {
+            while (start < end && charAt(raw, out, start) <= ' ') {
+                start++;
+            }
+            while (end > start && charAt(raw, out, end - 1) <= ' ') {
+                end--;
+            }
+        }
+        if (end - start < minLength) {
+            return null;
+        }
+        if (out == null) {
+            return (start == 0 && end == length) ? raw : raw.substring(start, end);
+        }
+        return new String(out, start, end - start);
+    }
+
+    private static int entityEnd(String raw, int ampersand) {
+        int limit = Math.min(raw.length(), ampersand + 2 + MAX_ENTITY_BODY);
+        for (int i = ampersand + 1; i < limit; i++) {
+            char c = raw.charAt(i);
+            if (c == ';') {
+                return i;
+            }
+            if (!Character.isLetterOrDigit(c) && c != '#') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int decodeEntity(String raw, int start, int end) {
+        if (raw.charAt(start) != '#') {
+            return HtmlEntities.lookup(raw, start, end);
+        }
+
+        int radix = 10;
+        int i = start + 1;
+        if (i < end && (raw.charAt(i) == 'x' || raw.charAt(i) == 'X')) {
+            radix = 16;
+            i++;
+        }
+        if (i == end) {
+            return -1;
+        }
+        int codePoint = 0;
+        for (; i < end; i++) {
+            int digit = Character.digit(raw.charAt(i), radix);
+            if (digit < 0) {
+                return -1;
+            }
+            codePoint = codePoint * radix + digit;
+            if (codePoint > Character.MAX_CODE_POINT) {
+                return -1;
+            }
+        }
+        if (codePoint == 0 || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            return -1;
+        }
+        return codePoint;
+    }
+
+    private static char[] copyPrefix(String raw, int size) {
+        char[] out = new char[raw.length()];
+        raw.getChars(0, size, out, 0);
+        return out;
+    }
+
+    private static char charAt(String raw, char[] out, int index) {
+        return out == null ? raw.charAt(index) : out[index];
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,90 @@
+package org.todaybook.bookpreprocessingworker.application.normalize;
+
+import java.text.Normalizer;
+
+/**
+ * Brings short identifying fields (title, author, publisher) to one Unicode form so the same value
+ * from different sources compares equal: full-width forms are folded first ({@code ＡＢＣ１} →
+ * {@code ABC1}, ideographic space → space, half-width katakana and symbols → their normal width),
+ * then the text is composed to NFC, which turns decomposed Hangul jamo from macOS exports back into
+ * syllables.
+ *
+ * <p>Most values are ASCII, Latin-1, precomposed Hangul syllables, compatibility jamo or common CJK
+ * ideographs, none of which NFC or folding change; a scan for anything else returns such values
+ * untouched without calling {@link Normalizer}.
+ */
+public final class UnicodeNormalizer {
+
+    private static final char IDEOGRAPHIC_SPACE = '\u3000';
+    private static final char FULLWIDTH_FIRST = '\uFF01';
+    private static final char FULLWIDTH_LAST = '\uFF5E';
+    private static final int FULLWIDTH_OFFSET = 0xFEE0;
+    private static final char HALFWIDTH_AND_FULLWIDTH_LAST = '\uFFEE';
+
+    private UnicodeNormalizer() {
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        int first = firstUnstable(value);
+        if (first < 0) {
+            return value;
+        }
+
+        String folded = fold(value, first);
+        return Normalizer.isNormalized(folded, Normalizer.Form.NFC)
+            ? folded
+            : Normalizer.normalize(folded, Normalizer.Form.NFC);
+    }
+
+    /**
+     * @return the index of the first char that NFC or folding might change, or {@code -1}
+     */
+    private static int firstUnstable(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!isStable(value.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isStable(char c) {
+        return c < '\u0300'                          // up to the combining diacritical marks
+            || (c >= '\uAC00' && c <= '\uD7A3')     // precomposed Hangul syllables
+            || (c >= '\u3131' && c <= '\u318E')     // Hangul compatibility jamo
+            || (c >= '\u4E00' && c <= '\u9FFF');    // CJK unified ideographs
+    }
+
+    private static String fold(String value, int from) {
+        char[] out = null;
+        for (int i = from; i < value.length(); i++) {
+            char c = value.charAt(i);
+            char folded = fold(c);
+            if (folded != c) {
+                if (out == null) {
+                    out = value.toCharArray();
+                }
+                out[i] = folded;
+            }
+        }
+        return out == null ? value : new String(out);
+    }
+
+    private static char fold(char c) {
+        if (c == IDEOGRAPHIC_SPACE) {
+            return ' ';
+        }
+        if (c >= FULLWIDTH_FIRST && c <= FULLWIDTH_LAST) {
+            return (char) (c - FULLWIDTH_OFFSET);
+        }
+        if (c > FULLWIDTH_LAST && c <= HALFWIDTH_AND_FULLWIDTH_LAST) {
+            // Remaining width variants (half-width katakana/jamo, ￦, ￠...) each map to one char.
+            String compatible = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFKC);
+            return compatible.length() == 1 ? compatible.charAt(0) : c;
+        }
+        return c;
+    }
+}
@@ -0,0 +1,63 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+/**
+ * Finds the next occurrence of one or two sentinel bytes in a range. {@link #INSTANCE} uses the
+ * Vector API when the JVM was started with {@code --add-modules jdk.incubator.vector} and a plain
+ * loop otherwise; both return the same index.
+ */
+abstract class ByteScanner {
+
+    static final ByteScanner INSTANCE = load();
+
+    /**
+     * @return the first index in {@code [from, to)} holding {@code b}, or {@code -1}
+     */
+    abstract int indexOf(byte[] bytes, int from, int to, byte b);
+
+    /**
+     * @return the first index in {@code [from, to)} holding {@code b1} or {@code b2}, or {@code -1}
+     */
+    abstract int indexOfEither(byte[] bytes, int from, int to, byte b1, byte b2);
+
+    static ByteScanner scalar() {
+        return new Scalar();
+    }
+
+    private static ByteScanner load() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // Loaded by name so this class never links against the incubator module when it is absent.
+                return (ByteScanner) Class.forName(ByteScanner.class.getPackageName() + ".VectorByteScanner")
+                    .getDeclaredConstructor()
+                    .newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // fall through to the scalar loop
+            }
+        }
+        return scalar();
+    }
+
+    static final class Scalar extends ByteScanner {
+
+        @Override
+        int indexOf(byte[] bytes, int from, int to, byte b) {
+            for (int i = from; i < to; i++) {
+                if (bytes[i] == b) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int indexOfEither(byte[] bytes, int from, int to, byte b1, byte b2) {
+            for (int i = from; i < to; i++) {
+                byte b = bytes[i];
+                if (b == b1 || b == b2) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import java.util.Arrays;
+
+/**
+ * The set of column indices a caller will read from a raw row. Parsers record only these columns
+ * and stop scanning once they are past {@link #maxIndex()}.
+ */
+public final class ColumnProjection {
+
+    private final boolean[] included;
+    private final int maxIndex;
+
+    private ColumnProjection(boolean[] included, int maxIndex) {
+        this.included = included;
+        this.maxIndex = maxIndex;
+    }
+
+    public static ColumnProjection of(int... indices) {
+        if (indices.length == 0) {
+            throw new IllegalArgumentException("At least one column index is required");
+        }
+        int max = Arrays.stream(indices).max().getAsInt();
+        boolean[] included = new boolean[max + 1];
+        for (int index : indices) {
+            if (index < 0) {
+                throw new IllegalArgumentException("Column index must not be negative: " + index);
+            }
+            included[index] = true;
+        }
+        return new ColumnProjection(included, max);
+    }
+
+    public boolean includes(int index) {
+        return index >= 0 && index <= maxIndex && included[index];
+    }
+
+    public int maxIndex() {
+        return maxIndex;
+    }
+}
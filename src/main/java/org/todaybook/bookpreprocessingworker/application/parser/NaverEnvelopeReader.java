@@ -0,0 +1,81 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+import org.todaybook.bookpreprocessingworker.application.dto.NaverBookItem;
+
+/**
+ * Streams the {@code items[]} of a Naver search API response
+ * ({@code lastBuildDate/total/start/display/items}) with Jackson's token API.
+ * Only one item is bound at a time; the envelope itself is never materialized as a tree.
+ */
+@Component
+public class NaverEnvelopeReader {
+
+    private static final String ITEMS_FIELD = "items";
+
+    private final ObjectMapper objectMapper;
+
+    public NaverEnvelopeReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return number of items handed to {@code sink}
+     */
+    public int read(byte[] payload, Consumer<NaverBookItem> sink) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(payload)) {
+            return read(parser, sink);
+        }
+    }
+
+    /**
+     * @return number of items handed to {@code sink}
+     */
+    public int read(InputStream payload, Consumer<NaverBookItem> sink) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(payload)) {
+            return read(parser, sink);
+        }
+    }
+
+    private int read(JsonParser parser, Consumer<NaverBookItem> sink) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Naver envelope must be a JSON object");
+        }
+
+        int count = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (ITEMS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                count += readItems(parser, sink);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return count;
+    }
+
+    private int readItems(JsonParser parser, Consumer<NaverBookItem> sink) throws IOException {
+        int count = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonParseException(parser, "Unexpected end of input inside items[]");
+            }
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            sink.accept(objectMapper.readValue(parser, NaverBookItem.class));
+            count++;
+        }
+        return count;
+    }
+}
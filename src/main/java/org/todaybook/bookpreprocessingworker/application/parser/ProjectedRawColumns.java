@@ -0,0 +1,55 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+/**
+ * Base for the raw row parsers: keeps the offsets of the projected columns only and decodes a
+ * column when it is read. {@link #size()} counts the columns scanned, which stops at
+ * {@code projection.maxIndex() + 1} even if the row has more.
+ */
+abstract class ProjectedRawColumns implements RawColumns {
+
+    private final ColumnProjection projection;
+    private final int[] starts;
+    private final int[] ends;
+    private int count;
+
+    ProjectedRawColumns(ColumnProjection projection) {
+        this.projection = projection;
+        this.starts = new int[projection.maxIndex() + 1];
+        this.ends = new int[projection.maxIndex() + 1];
+    }
+
+    /**
+     * Records the column ending at {@code end}.
+     *
+     * @return {@code false} once every projected column has been seen and the scan can stop
+     */
+    final boolean column(int index, int start, int end) {
+        if (projection.includes(index)) {
+            starts[index] = start;
+            ends[index] = end;
+        }
+        count = index + 1;
+        return index < projection.maxIndex();
+    }
+
+    @Override
+    public final String get(int index) {
+        if (index < 0 || index >= count) {
+            return null;
+        }
+        if (!projection.includes(index)) {
+            throw new IllegalArgumentException("Column " + index + " is not in the projection");
+        }
+        return decode(starts[index], ends[index]).trim();
+    }
+
+    @Override
+    public final int size() {
+        return count;
+    }
+
+    /**
+     * Decodes {@code [start, end)} with quotes removed and {@code ""} turned into {@code "}.
+     */
+    abstract String decode(int start, int end);
+}
@@ -0,0 +1,89 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Parses publish dates without {@code DateTimeFormatter}, picking the shape from the length and
+ * separator positions and returning {@code null} instead of throwing.
+ *
+ * <p>Accepted shapes, after trimming:
+ * <ul>
+ *   <li>{@code yyyyMMdd}, {@code yyyy-MM-dd}, {@code yyyy.MM.dd}</li>
+ *   <li>{@code yyyyMM}: the first day of the month</li>
+ *   <li>{@code yyyy}: the first day of the year</li>
+ * </ul>
+ * The year must be 1-9999 and the day must exist in that month, so {@code 20230230} is rejected.
+ */
+public final class PublishDateParser {
+
+    private PublishDateParser() {
+    }
+
+    /**
+     * @return the date, or {@code null} if the value is blank or matches none of the shapes
+     */
+    public static LocalDate parse(CharSequence value) {
+        if (value == null) {
+            return null;
+        }
+
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        return switch (end - start) {
+            case 4 -> date(digits(value, start, 4), 1, 1);
+            case 6 -> date(digits(value, start, 4), digits(value, start + 4, 2), 1);
+            case 8 -> date(
+                digits(value, start, 4),
+                digits(value, start + 4, 2),
+                digits(value, start + 6, 2)
+            );
+            case 10 -> {
+                char separator = value.charAt(start + 4);
+                if ((separator != '-' && separator != '.') || value.charAt(start + 7) != separator) {
+                    yield null;
+                }
+                yield date(
+                    digits(value, start, 4),
+                    digits(value, start + 5, 2),
+                    digits(value, start + 8, 2)
+                );
+            }
+            default -> null;
+        };
+    }
+
+    /**
+     * @return the non-negative number in {@code value[from, from + count)}, or {@code -1} if a
+     *     character is not an ASCII digit
+     */
+    private static int digits(CharSequence value, int from, int count) {
+        int result = 0;
+        for (int i = from; i < from + count; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static LocalDate date(int year, int month, int day) {
+        if (year < 1 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+        if (day > 28 && day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+}
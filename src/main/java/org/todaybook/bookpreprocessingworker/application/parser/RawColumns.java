@@ -0,0 +1,15 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+/**
+ * Columns of one raw quoted row. Values are unquoted ({@code ""} becomes {@code "}) and trimmed.
+ */
+public interface RawColumns {
+
+    /**
+     * @return the column value, or {@code null} if the row has no such column
+     * @throws IllegalArgumentException if the column was not part of the parse projection
+     */
+    String get(int index);
+
+    int size();
+}
@@ -0,0 +1,33 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import java.util.List;
+
+/**
+ * Columns of a raw row that normalization reads. The header names are matched case-insensitively
+ * with everything but letters and digits removed, so {@code "ISBN_13"} and {@code "isbn13"} are the
+ * same name.
+ */
+public enum RawField {
+    ISBN("isbn13", "isbn", "eaisbn"),
+    TITLE("title", "booktitle"),
+    AUTHOR("author", "authors"),
+    PUBLISHER("publisher"),
+    IMAGE("image", "imageurl", "thumbnail", "cover"),
+    DESCRIPTION("description", "intro"),
+    FALLBACK_DESCRIPTION("description2", "contents"),
+    PUBLISHED_AT("pubdate", "publishdate", "publishedat", "publishpredate"),
+    FALLBACK_ISBN("isbn10", "setisbn", "fallbackisbn");
+
+    private final List<String> headerNames;
+
+    RawField(String... headerNames) {
+        this.headerNames = List.of(headerNames);
+    }
+
+    /**
+     * @return the normalized header names that identify this column
+     */
+    public List<String> headerNames() {
+        return headerNames;
+    }
+}
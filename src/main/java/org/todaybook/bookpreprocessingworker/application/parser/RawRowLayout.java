@@ -0,0 +1,176 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Where each {@link RawField} sits in a raw row, compiled into an index table and the
+ * {@link ColumnProjection}s the parsers need. {@link #DEFAULT} is the layout of the original dump;
+ * other layouts come from configuration or from a header row ({@link #detect(String)}).
+ */
+public final class RawRowLayout {
+
+    public static final RawRowLayout DEFAULT = of(defaultColumns());
+
+    // Header rows are parsed up to this many columns.
+    private static final int MAX_HEADER_COLUMNS = 128;
+    private static final ColumnProjection HEADER_PROJECTION =
+        ColumnProjection.of(IntStream.range(0, MAX_HEADER_COLUMNS).toArray());
+
+    private final int[] indices;
+    private final ColumnProjection projection;
+    private final ColumnProjection keyProjection;
+
+    private RawRowLayout(int[] indices) {
+        this.indices = indices;
+        this.projection = ColumnProjection.of(Arrays.stream(indices).filter(i -> i >= 0).toArray());
+        this.keyProjection = ColumnProjection.of(IntStream.of(
+            indices[RawField.ISBN.ordinal()],
+            indices[RawField.FALLBACK_ISBN.ordinal()]
+        ).filter(i -> i >= 0).toArray());
+    }
+
+    /**
+     * @throws IllegalArgumentException if an index is negative or a required field is missing: an
+     *     ISBN (or fallback ISBN), the title, the author and a description (or fallback description)
+     */
+    public static RawRowLayout of(Map<RawField, Integer> columns) {
+        int[] indices = new int[RawField.values().length];
+        Arrays.fill(indices, -1);
+        columns.forEach((field, index) -> {
+            if (index == null || index < 0) {
+                throw new IllegalArgumentException("Column index of " + field + " must not be negative: " + index);
+            }
+            indices[field.ordinal()] = index;
+        });
+
+        requireAny(indices, RawField.ISBN, RawField.FALLBACK_ISBN);
+        requireAny(indices, RawField.TITLE);
+        requireAny(indices, RawField.AUTHOR);
+        requireAny(indices, RawField.DESCRIPTION, RawField.FALLBACK_DESCRIPTION);
+        return new RawRowLayout(indices);
+    }
+
+    /**
+     * Builds a layout from a header row by matching each column name against
+     * {@link RawField#headerNames()}. The first column matching a field wins.
+     *
+     * @return the layout, or empty if the row is not a header with the required fields
+     */
+    public static Optional<RawRowLayout> detect(String headerRow) {
+        if (headerRow == null || headerRow.isBlank()) {
+            return Optional.empty();
+        }
+
+        RawColumns header = StringRawColumns.parse(headerRow, HEADER_PROJECTION);
+        Map<RawField, Integer> columns = new EnumMap<>(RawField.class);
+        for (int i = 0; i < header.size(); i++) {
+            String name = normalizeHeaderName(header.get(i));
+            for (RawField field : RawField.values()) {
+                if (!columns.containsKey(field) && field.headerNames().contains(name)) {
+                    columns.put(field, i);
+                    break;
+                }
+            }
+        }
+
+        try {
+            return Optional.of(of(columns));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the column index of {@code field}, or {@code -1} if this layout does not map it
+     */
+    public int index(RawField field) {
+        return indices[field.ordinal()];
+    }
+
+    /**
+     * @return the value of {@code field} in {@code columns}, or {@code null} if it is unmapped or
+     *     the row is too short
+     */
+    public String get(RawColumns columns, RawField field) {
+        int index = indices[field.ordinal()];
+        return index < 0 ? null : columns.get(index);
+    }
+
+    /**
+     * @return the columns normalization reads
+     */
+    public ColumnProjection projection() {
+        return projection;
+    }
+
+    /**
+     * @return the ISBN columns only, for routing keys
+     */
+    public ColumnProjection keyProjection() {
+        return keyProjection;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RawRowLayout other && Arrays.equals(indices, other.indices);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(indices);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("RawRowLayout{");
+        for (RawField field : RawField.values()) {
+            if (indices[field.ordinal()] >= 0) {
+                sb.append(field).append('=').append(indices[field.ordinal()]).append(", ");
+            }
+        }
+        sb.setLength(sb.length() - 2);
+        return sb.append('}').toString();
+    }
+
+    private static void requireAny(int[] indices, RawField... fields) {
+        for (RawField field : fields) {
+            if (indices[field.ordinal()] >= 0) {
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Column mapping needs one of " + Arrays.toString(fields));
+    }
+
+    private static String normalizeHeaderName(String name) {
+        if (name == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<RawField, Integer> defaultColumns() {
+        Map<RawField, Integer> columns = new EnumMap<>(RawField.class);
+        columns.put(RawField.ISBN, 1);
+        columns.put(RawField.TITLE, 3);
+        columns.put(RawField.AUTHOR, 4);
+        columns.put(RawField.PUBLISHER, 5);
+        columns.put(RawField.IMAGE, 9);
+        columns.put(RawField.DESCRIPTION, 10);
+        columns.put(RawField.FALLBACK_DESCRIPTION, 11);
+        columns.put(RawField.PUBLISHED_AT, 14);
+        columns.put(RawField.FALLBACK_ISBN, 17);
+        return columns;
+    }
+}
@@ -0,0 +1,47 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import java.util.Map;
+
+/**
+ * The configured raw row layouts, by profile name and by the topic they are bound to. Topics
+ * without a profile use {@link RawRowLayout#DEFAULT}.
+ */
+public final class RawRowLayouts {
+
+    private final Map<String, RawRowLayout> byName;
+    private final Map<String, RawRowLayout> byTopic;
+
+    public RawRowLayouts(Map<String, RawRowLayout> byName, Map<String, RawRowLayout> byTopic) {
+        this.byName = Map.copyOf(byName);
+        this.byTopic = Map.copyOf(byTopic);
+    }
+
+    public static RawRowLayouts defaults() {
+        return new RawRowLayouts(Map.of(), Map.of());
+    }
+
+    /**
+     * @throws UnknownColumnMappingException if no profile has that name
+     */
+    public RawRowLayout named(String name) {
+        RawRowLayout layout = byName.get(name);
+        if (layout == null) {
+            throw new UnknownColumnMappingException(name);
+        }
+        return layout;
+    }
+
+    /**
+     * Picks the layout for a record: an explicitly named profile wins over the topic binding.
+     *
+     * @param topic the topic the row was read from, may be {@code null}
+     * @param profile a profile name carried with the row, may be {@code null}
+     * @throws UnknownColumnMappingException if {@code profile} names no profile
+     */
+    public RawRowLayout resolve(String topic, String profile) {
+        if (profile != null && !profile.isBlank()) {
+            return named(profile.trim());
+        }
+        return topic == null ? RawRowLayout.DEFAULT : byTopic.getOrDefault(topic, RawRowLayout.DEFAULT);
+    }
+}
@@ -0,0 +1,89 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Splits a stream of quoted CSV rows into single rows, honoring quoted fields that contain commas,
+ * {@code ""} escapes and line breaks. The input is read through a fixed buffer, so a multi-megabyte
+ * chunk is never turned into one large {@code String}; only the current row is held.
+ *
+ * <p>Rows are emitted verbatim (quotes included) so they can be fed to
+ * {@code BookMessageUseCase#processRawRow}. Line endings ({@code \n} or {@code \r\n}) outside quotes
+ * terminate a row; blank lines are skipped. Instances are not thread-safe.
+ */
+public class RawRowSplitter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder row = new StringBuilder(512);
+
+    /**
+     * @return number of rows handed to {@code sink}
+     */
+    public int split(byte[] chunk, Consumer<String> sink) throws IOException {
+        return split(new ByteArrayInputStream(chunk), sink);
+    }
+
+    /**
+     * Decodes the stream as UTF-8. The stream is not closed.
+     *
+     * @return number of rows handed to {@code sink}
+     */
+    public int split(InputStream chunk, Consumer<String> sink) throws IOException {
+        return split(new InputStreamReader(chunk, StandardCharsets.UTF_8), sink);
+    }
+
+    /**
+     * @return number of rows handed to {@code sink}
+     */
+    public int split(Reader reader, Consumer<String> sink) throws IOException {
+        row.setLength(0);
+        boolean inQuotes = false;
+        int rows = 0;
+
+        int read;
+        while ((read = reader.read(buffer, 0, BUFFER_SIZE)) != -1) {
+            int segmentStart = 0;
+            for (int i = 0; i < read; i++) {
+                char c = buffer[i];
+                if (c == '"') {
+                    // An escaped quote ("") toggles twice, so parity alone tracks the quoted state.
+                    inQuotes = !inQuotes;
+                } else if (c == '\n' && !inQuotes) {
+                    row.append(buffer, segmentStart, i - segmentStart);
+                    segmentStart = i + 1;
+                    rows += emit(sink);
+                }
+            }
+            row.append(buffer, segmentStart, read - segmentStart);
+        }
+        rows += emit(sink);
+        return rows;
+    }
+
+    private int emit(Consumer<String> sink) {
+        int end = row.length();
+        if (end > 0 && row.charAt(end - 1) == '\r') {
+            end--;
+        }
+        boolean blank = true;
+        for (int i = 0; i < end && blank; i++) {
+            blank = Character.isWhitespace(row.charAt(i));
+        }
+
+        int emitted = 0;
+        if (!blank) {
+            sink.accept(row.substring(0, end));
+            emitted = 1;
+        }
+        row.setLength(0);
+        return emitted;
+    }
+}
@@ -0,0 +1,67 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+/**
+ * {@link RawColumns} over a raw row that is already a {@code String}. Projected columns are kept as
+ * offsets into the row and cut out (and unquoted) only when read.
+ */
+public final class StringRawColumns extends ProjectedRawColumns {
+
+    private final String row;
+
+    private StringRawColumns(String row, ColumnProjection projection) {
+        super(projection);
+        this.row = row;
+    }
+
+    public static StringRawColumns parse(String row, ColumnProjection projection) {
+        StringRawColumns columns = new StringRawColumns(row, projection);
+        columns.scan();
+        return columns;
+    }
+
+    private void scan() {
+        int length = row.length();
+        int index = 0;
+        int start = 0;
+        boolean inQuotes = false;
+        for (int i = 0; i < length; i++) {
+            char c = row.charAt(i);
+            if (c == '"') {
+                if (inQuotes && i + 1 < length && row.charAt(i + 1) == '"') {
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (c == ',' && !inQuotes) {
+                if (!column(index++, start, i)) {
+                    return;
+                }
+                start = i + 1;
+            }
+        }
+        column(index, start, length);
+    }
+
+    @Override
+    String decode(int start, int end) {
+        int firstQuote = row.indexOf('"', start);
+        if (firstQuote < 0 || firstQuote >= end) {
+            return row.substring(start, end);
+        }
+
+        StringBuilder unquoted = new StringBuilder(end - start);
+        boolean inQuotes = false;
+        for (int i = start; i < end; i++) {
+            char c = row.charAt(i);
+            if (c != '"') {
+                unquoted.append(c);
+            } else if (inQuotes && i + 1 < end && row.charAt(i + 1) == '"') {
+                unquoted.append('"');
+                i++;
+            } else {
+                inQuotes = !inQuotes;
+            }
+        }
+        return unquoted.toString();
+    }
+}
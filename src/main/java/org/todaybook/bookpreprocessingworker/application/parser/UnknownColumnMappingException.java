@@ -0,0 +1,12 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+/**
+ * Thrown when a row names a column mapping that is not configured. Retrying cannot succeed until
+ * the configuration changes, so adapters treat it as a permanent failure of that row.
+ */
+public class UnknownColumnMappingException extends IllegalArgumentException {
+
+    public UnknownColumnMappingException(String name) {
+        super("Unknown column mapping: " + name);
+    }
+}
@@ -0,0 +1,106 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link RawColumns} over the UTF-8 bytes of a raw row. The scan only records where each projected
+ * column starts and ends; a column is decoded to a {@code String} when it is read, so unused
+ * columns (slugs, flags, metadata) never are. Quotes, commas and {@code ""} escapes are single
+ * ASCII bytes that cannot occur inside a multi-byte UTF-8 sequence, so scanning bytes splits
+ * exactly like scanning the decoded characters, and lets {@link ByteScanner} jump between them a
+ * vector at a time.
+ */
+public final class Utf8RawColumns extends ProjectedRawColumns {
+
+    private static final byte COMMA = ',';
+    private static final byte QUOTE = '"';
+
+    private final byte[] row;
+    private final ByteScanner scanner;
+
+    private Utf8RawColumns(byte[] row, ColumnProjection projection, ByteScanner scanner) {
+        super(projection);
+        this.row = row;
+        this.scanner = scanner;
+    }
+
+    public static Utf8RawColumns parse(byte[] row, ColumnProjection projection) {
+        return parse(row, projection, ByteScanner.INSTANCE);
+    }
+
+    /**
+     * Parses with a given scanner, so benchmarks and tests can pin the scalar loop.
+     */
+    static Utf8RawColumns parse(byte[] row, ColumnProjection projection, ByteScanner scanner) {
+        Utf8RawColumns columns = new Utf8RawColumns(row, projection, scanner);
+        columns.scan();
+        return columns;
+    }
+
+    private void scan() {
+        int length = row.length;
+        int index = 0;
+        int start = 0;
+        int i = 0;
+        while (true) {
+            int next = scanner.indexOfEither(row, i, length, COMMA, QUOTE);
+            if (next < 0) {
+                break;
+            }
+            if (row[next] == COMMA) {
+                if (!column(index++, start, next)) {
+                    return;
+                }
+                start = next + 1;
+                i = next + 1;
+                continue;
+            }
+            int close = closingQuote(next + 1);
+            if (close < 0) {
+                // unterminated quote: no comma after it separates columns
+                break;
+            }
+            i = close + 1;
+        }
+        column(index, start, length);
+    }
+
+    /**
+     * @return the quote closing a section that starts at {@code from}, skipping {@code ""} escapes
+     */
+    private int closingQuote(int from) {
+        int i = from;
+        while (true) {
+            int quote = scanner.indexOf(row, i, row.length, QUOTE);
+            if (quote < 0 || quote + 1 >= row.length || row[quote + 1] != QUOTE) {
+                return quote;
+            }
+            i = quote + 2;
+        }
+    }
+
+    @Override
+    String decode(int start, int end) {
+        int firstQuote = scanner.indexOf(row, start, end, QUOTE);
+        if (firstQuote < 0) {
+            return new String(row, start, end - start, StandardCharsets.UTF_8);
+        }
+
+        byte[] unquoted = new byte[end - start];
+        int length = 0;
+        boolean inQuotes = false;
+        for (int i = start; i < end; i++) {
+            byte b = row[i];
+            if (b != '"') {
+                unquoted[length++] = b;
+            } else if (inQuotes && i + 1 < end && row[i + 1] == '"') {
+                unquoted[length++] = '"';
+                i++;
+            } else {
+                inQuotes = !inQuotes;
+            }
+        }
+        return new String(unquoted, 0, length, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,20 @@
+package org.todaybook.bookpreprocessingworker.application.port.in;
+
+/**
+ * Thrown by the batch entry points of {@link BookMessageUseCase} when one element of the batch could
+ * not be processed. Every element before {@link #failedIndex()} has already been handed to the
+ * publisher, so callers can resume from the failed element instead of replaying the whole batch.
+ */
+public class BookBatchProcessingException extends RuntimeException {
+
+    private final int failedIndex;
+
+    public BookBatchProcessingException(int failedIndex, Throwable cause) {
+        super("Failed to process batch element at index " + failedIndex, cause);
+        this.failedIndex = failedIndex;
+    }
+
+    public int failedIndex() {
+        return failedIndex;
+    }
+}
@@ -0,0 +1,38 @@
+package org.todaybook.bookpreprocessingworker.application.port.in;
+
+import org.todaybook.bookpreprocessingworker.application.dto.NaverBookItem;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
+
+/**
+ * Resolves the normalized ISBN of an inbound payload without running the full normalization, so
+ * adapters can route records that belong to the same book to the same worker.
+ */
+public interface BookKeyResolver {
+
+    /**
+     * @return the normalized ISBN of the raw row, or {@code null} if it has none
+     */
+    default String resolveRawRowKey(String rawRow) {
+        return resolveRawRowKey(rawRow, RawRowLayout.DEFAULT);
+    }
+
+    String resolveRawRowKey(String rawRow, RawRowLayout layout);
+
+    /**
+     * Same as {@link #resolveRawRowKey(String, RawRowLayout)}, read from the UTF-8 bytes of the row.
+     */
+    String resolveRawRowKey(byte[] rawRow, RawRowLayout layout);
+
+    /**
+     * Reads a Kafka record key as an ISBN, so a key in any form (ISBN-10, hyphenated) routes like
+     * the normalized ISBN of its payload.
+     *
+     * @return the normalized ISBN the key names, or {@code null} if it is not an ISBN
+     */
+    String resolveRecordKey(String recordKey);
+
+    /**
+     * @return the normalized ISBN of the Naver item, or {@code null} if it has none
+     */
+    String resolveItemKey(NaverBookItem item);
+}
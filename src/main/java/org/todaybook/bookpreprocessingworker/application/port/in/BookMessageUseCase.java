@@ -1,10 +1,47 @@
 package org.todaybook.bookpreprocessingworker.application.port.in;
 
+import java.util.List;
 import org.todaybook.bookpreprocessingworker.application.dto.NaverBookItem;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
 
 public interface BookMessageUseCase {
 
-    void processRawRow(String rawRow);
+    default void processRawRow(String rawRow) {
+        processRawRow(rawRow, RawRowLayout.DEFAULT);
+    }
+
+    /**
+     * Normalizes a row whose columns are laid out as {@code layout} describes.
+     */
+    void processRawRow(String rawRow, RawRowLayout layout);
+
+    /**
+     * Same as {@link #processRawRow(String)} for a UTF-8 encoded row; only the columns that are
+     * read get decoded.
+     */
+    default void processRawRow(byte[] rawRow) {
+        processRawRow(rawRow, RawRowLayout.DEFAULT);
+    }
+
+    void processRawRow(byte[] rawRow, RawRowLayout layout);
+
+    /**
+     * Normalizes every row of a polled batch and publishes the results in a single burst.
+     *
+     * @throws BookBatchProcessingException if a row fails; rows before it have been published
+     */
+    default void processRawRows(List<String> rawRows) {
+        processRawRows(rawRows, RawRowLayout.DEFAULT);
+    }
+
+    void processRawRows(List<String> rawRows, RawRowLayout layout);
 
     void processSingleItem(NaverBookItem item);
+
+    /**
+     * Batch counterpart of {@link #processSingleItem(NaverBookItem)}. {@code null} elements are skipped.
+     *
+     * @throws BookBatchProcessingException if an item fails; items before it have been published
+     */
+    void processItems(List<NaverBookItem> items);
 }
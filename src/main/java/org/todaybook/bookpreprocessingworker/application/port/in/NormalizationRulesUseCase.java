@@ -0,0 +1,17 @@
+package org.todaybook.bookpreprocessingworker.application.port.in;
+
+import org.todaybook.bookpreprocessingworker.application.normalize.NormalizationRules;
+
+/**
+ * Swaps the normalization rules at runtime, so rules can be tuned without a redeploy.
+ */
+public interface NormalizationRulesUseCase {
+
+    NormalizationRules currentRules();
+
+    /**
+     * Makes {@code rules} the rules for every record normalized from now on. Memoized results
+     * computed with the previous rules are dropped.
+     */
+    void replaceRules(NormalizationRules rules);
+}
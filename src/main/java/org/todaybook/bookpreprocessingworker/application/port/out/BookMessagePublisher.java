@@ -1,8 +1,16 @@
 package org.todaybook.bookpreprocessingworker.application.port.out;
 
+import java.util.List;
 import org.todaybook.bookpreprocessingworker.domain.model.Book;
 
 public interface BookMessagePublisher {
 
     void publish(Book book);
+
+    /**
+     * Publishes several books back to back without waiting on each send.
+     *
+     * @throws BookPublishException if a book cannot be sent; books before it were sent
+     */
+    void publishAll(List<Book> books);
 }
@@ -0,0 +1,19 @@
+package org.todaybook.bookpreprocessingworker.application.port.out;
+
+/**
+ * Thrown by {@link BookMessagePublisher#publishAll} when a book could not be handed to the
+ * transport. Books before {@link #failedIndex()} were already sent.
+ */
+public class BookPublishException extends RuntimeException {
+
+    private final int failedIndex;
+
+    public BookPublishException(int failedIndex, Throwable cause) {
+        super("Failed to publish book at index " + failedIndex, cause);
+        this.failedIndex = failedIndex;
+    }
+
+    public int failedIndex() {
+        return failedIndex;
+    }
+}
@@ -2,64 +2,69 @@ package org.todaybook.bookpreprocessingworker.application.service;
 
 import io.micrometer.common.util.StringUtils;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Locale;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.todaybook.bookpreprocessingworker.application.dto.NaverBookItem;
+import org.todaybook.bookpreprocessingworker.application.normalize.IsbnNormalizer;
+import org.todaybook.bookpreprocessingworker.application.normalize.NormalizationCaches;
+import org.todaybook.bookpreprocessingworker.application.normalize.NormalizationRules;
+import org.todaybook.bookpreprocessingworker.application.normalize.TextNormalizer;
+import org.todaybook.bookpreprocessingworker.application.normalize.UnicodeNormalizer;
+import org.todaybook.bookpreprocessingworker.application.parser.PublishDateParser;
+import org.todaybook.bookpreprocessingworker.application.parser.RawColumns;
+import org.todaybook.bookpreprocessingworker.application.parser.RawField;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
+import org.todaybook.bookpreprocessingworker.application.parser.StringRawColumns;
+import org.todaybook.bookpreprocessingworker.application.parser.Utf8RawColumns;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookBatchProcessingException;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookKeyResolver;
 import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.application.port.in.NormalizationRulesUseCase;
 import org.todaybook.bookpreprocessingworker.application.port.out.BookMessagePublisher;
+import org.todaybook.bookpreprocessingworker.application.port.out.BookPublishException;
 import org.todaybook.bookpreprocessingworker.domain.model.Book;
 
 @Service
-public class BookPreprocessingService implements BookMessageUseCase {
+public class BookPreprocessingService implements BookMessageUseCase, BookKeyResolver, NormalizationRulesUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(BookPreprocessingService.class);
-    private static final int MIN_DESCRIPTION_LENGTH = 30;
-
-    // ===================== Date Formats =====================
-
-    private static final DateTimeFormatter NAVER_PUBDATE_FORMAT =
-        DateTimeFormatter.ofPattern("yyyyMMdd");
-
-    private static final DateTimeFormatter RAW_PUBDATE_FORMAT =
-        DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    private static final DateTimeFormatter RAW_PUBDATE_COMPACT_FORMAT =
-        DateTimeFormatter.ofPattern("yyyyMMdd");
-
-    // ===================== Raw Row Column Index =====================
-
-    private static final int RAW_ISBN_13_INDEX = 1;
-    private static final int RAW_TITLE_INDEX = 3;
-    private static final int RAW_AUTHOR_INDEX = 4;
-    private static final int RAW_PUBLISHER_INDEX = 5;
-    private static final int RAW_IMAGE_INDEX = 9;
-    private static final int RAW_DESCRIPTION_INDEX = 10;
-    private static final int RAW_PUBDATE_INDEX = 14;
-    private static final int RAW_FALLBACK_ISBN_INDEX = 17;
-
-    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]*>");
-    private static final Pattern AUTHOR_SEPARATOR_PATTERN = Pattern.compile(
-        "\\s*(\\^|;|\\||/|&|,|\\band\\b|\\+|·|ㆍ)\\s*",
-        Pattern.CASE_INSENSITIVE
-    );
-    private static final Pattern AUTHOR_ROLE_PATTERN = Pattern.compile(
-        "\\b(author|editor|translator|translated|illustrator|ed\\.|eds\\.|trans\\.)\\b",
-        Pattern.CASE_INSENSITIVE
-    );
-    private static final Pattern AUTHOR_ROLE_KR_PATTERN = Pattern.compile(
-        "(저자|지음|글쓴이|옮김|역자|번역|편저|편집|편역|감수|엮음|글씀|그림)"
-    );
 
     private final BookMessagePublisher publisher;
-
-    public BookPreprocessingService(BookMessagePublisher publisher) {
+    private final NormalizationCaches caches;
+    // Read once per record and replaced as a whole, so the hot path needs no lock.
+    private volatile NormalizationRules rules;
+
+    public BookPreprocessingService(
+        BookMessagePublisher publisher,
+        NormalizationCaches caches,
+        NormalizationRules rules
+    ) {
         this.publisher = publisher;
+        this.caches = caches;
+        this.rules = rules;
+    }
+
+    // =========================================================
+    // RULES
+    // =========================================================
+
+    @Override
+    public NormalizationRules currentRules() {
+        return rules;
+    }
+
+    @Override
+    public void replaceRules(NormalizationRules rules) {
+        this.rules = rules;
+        // Entries of the old rules can no longer be hit; free them instead of waiting for eviction.
+        caches.invalidateAuthors();
+        log.info("Normalization rules replaced: {}", rules);
     }
 
     // =========================================================
@@ -67,58 +72,94 @@ public class BookPreprocessingService implements BookMessageUseCase {
     // =========================================================
 
     @Override
-    public void processRawRow(String rawRow) {
-        if (StringUtils.isBlank(rawRow)) {
-            log.warn("Skipping empty raw row");
+    public void processRawRow(String rawRow, RawRowLayout layout) {
+        Book book = toBookFromRawRow(rawRow, layout);
+        if (book == null) {
             return;
         }
 
-        List<String> columns = parseRawColumns(rawRow);
-        if (columns.isEmpty()) {
-            log.warn("Skipping malformed raw row. columnSize={}", columns.size());
+        log.info("Publishing book from RAW. isbn={}, title={}", book.isbn(), book.title());
+        publisher.publish(book);
+    }
+
+    @Override
+    public void processRawRow(byte[] rawRow, RawRowLayout layout) {
+        Book book = toBookFromRawRow(rawRow, layout);
+        if (book == null) {
             return;
         }
 
-        String isbn = extractRawIsbn(columns);
-        String title = cleanTitle(getColumn(columns, RAW_TITLE_INDEX));
-        String author = normalizeAuthor(getColumn(columns, RAW_AUTHOR_INDEX));
-        String description = normalizeDescription(
-            firstNonBlank(
-                getColumn(columns, RAW_DESCRIPTION_INDEX),
-                getColumn(columns, RAW_DESCRIPTION_INDEX + 1)
-            )
-        );
+        log.info("Publishing book from RAW. isbn={}, title={}", book.isbn(), book.title());
+        publisher.publish(book);
+    }
 
-        if (StringUtils.isBlank(isbn)) {
-            log.warn("Skipping raw row: missing or invalid isbn");
+    @Override
+    public void processRawRows(List<String> rawRows, RawRowLayout layout) {
+        if (rawRows == null || rawRows.isEmpty()) {
             return;
         }
-        if (StringUtils.isBlank(title)) {
-            log.warn("Skipping raw row: missing title. isbn={}", isbn);
-            return;
+
+        PendingBatch batch = new PendingBatch(rawRows.size());
+        for (int i = 0; i < rawRows.size(); i++) {
+            try {
+                batch.add(i, toBookFromRawRow(rawRows.get(i), layout));
+            } catch (RuntimeException e) {
+                publishBatch(batch, "RAW");
+                throw new BookBatchProcessingException(i, e);
+            }
         }
-        if (StringUtils.isBlank(author)) {
-            log.warn("Skipping raw row: missing author. isbn={}", isbn);
-            return;
+
+        log.info("Publishing RAW batch. rows={}, books={}, skipped={}",
+            rawRows.size(), batch.size(), rawRows.size() - batch.size());
+        publishBatch(batch, "RAW");
+    }
+
+    private Book toBookFromRawRow(String rawRow, RawRowLayout layout) {
+        if (StringUtils.isBlank(rawRow)) {
+            log.warn("Skipping empty raw row");
+            return null;
         }
-        if (StringUtils.isBlank(description)) {
-            log.warn("Skipping raw row: missing/short description. isbn={}", isbn);
-            return;
+        return toBookFromColumns(StringRawColumns.parse(rawRow, layout.projection()), layout);
+    }
+
+    private Book toBookFromRawRow(byte[] rawRow, RawRowLayout layout) {
+        if (isBlank(rawRow)) {
+            log.warn("Skipping empty raw row");
+            return null;
+        }
+        return toBookFromColumns(Utf8RawColumns.parse(rawRow, layout.projection()), layout);
+    }
+
+    private Book toBookFromColumns(RawColumns columns, RawRowLayout layout) {
+        if (columns.size() == 0) {
+            log.warn("Skipping malformed raw row. columnSize={}", columns.size());
+            return null;
         }
 
+        String isbn = extractRawIsbn(columns, layout);
+        if (StringUtils.isBlank(isbn)) {
+            log.warn("Skipping raw row: missing or invalid isbn");
+            return null;
+        }
+
+        NormalizationRules rules = this.rules;
         Book book = new Book(
             isbn,
-            title,
+            cleanTitle(getColumn(columns, layout, RawField.TITLE)),
             Collections.emptyList(),
-            description,
-            author,
-            getColumn(columns, RAW_PUBLISHER_INDEX),
-            parseRawPublishDate(getColumn(columns, RAW_PUBDATE_INDEX), isbn),
-            normalizeThumbnail(getColumn(columns, RAW_IMAGE_INDEX))
+            normalizeDescription(
+                firstNonBlank(
+                    getColumn(columns, layout, RawField.DESCRIPTION),
+                    getColumn(columns, layout, RawField.FALLBACK_DESCRIPTION)
+                ),
+                rules
+            ),
+            normalizeAuthor(getColumn(columns, layout, RawField.AUTHOR), rules),
+            caches.publisher(getColumn(columns, layout, RawField.PUBLISHER), UnicodeNormalizer::normalize),
+            parsePublishDate(getColumn(columns, layout, RawField.PUBLISHED_AT), isbn, "RAW"),
+            normalizeThumbnail(getColumn(columns, layout, RawField.IMAGE))
         );
-
-        log.info("Publishing book from RAW. isbn={}, title={}", book.isbn(), book.title());
-        publisher.publish(book);
+        return requireFields(book, rules, "raw row");
     }
 
     // =========================================================
@@ -127,163 +168,173 @@ public class BookPreprocessingService implements BookMessageUseCase {
 
     @Override
     public void processSingleItem(NaverBookItem item) {
-        if (item == null) {
-            log.warn("Skipping null Naver item");
+        Book book = toBookFromItem(item);
+        if (book == null) {
             return;
         }
 
-        String refinedIsbn = extractNormalizedIsbn(item.isbn());
-        String title = cleanTitle(item.title());
-        String author = normalizeAuthor(item.author());
-        String description = normalizeDescription(item.description());
+        log.info("Publishing book from NAVER. isbn={}, title={}", book.isbn(), book.title());
+        publisher.publish(book);
+    }
 
-        if (StringUtils.isBlank(refinedIsbn)) {
-            log.warn("Skipping Naver item: missing or invalid isbn");
+    @Override
+    public void processItems(List<NaverBookItem> items) {
+        if (items == null || items.isEmpty()) {
             return;
         }
-        if (StringUtils.isBlank(title)) {
-            log.warn("Skipping Naver item: missing title. isbn={}", refinedIsbn);
-            return;
+
+        PendingBatch batch = new PendingBatch(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                batch.add(i, toBookFromItem(items.get(i)));
+            } catch (RuntimeException e) {
+                publishBatch(batch, "NAVER");
+                throw new BookBatchProcessingException(i, e);
+            }
         }
-        if (StringUtils.isBlank(author)) {
-            log.warn("Skipping Naver item: missing author. isbn={}", refinedIsbn);
-            return;
+
+        log.info("Publishing NAVER batch. items={}, books={}, skipped={}",
+            items.size(), batch.size(), items.size() - batch.size());
+        publishBatch(batch, "NAVER");
+    }
+
+    private Book toBookFromItem(NaverBookItem item) {
+        if (item == null) {
+            log.warn("Skipping null Naver item");
+            return null;
         }
-        if (StringUtils.isBlank(description)) {
-            log.warn("Skipping Naver item: missing/short description. isbn={}", refinedIsbn);
-            return;
+
+        String refinedIsbn = IsbnNormalizer.extract(item.isbn());
+        if (StringUtils.isBlank(refinedIsbn)) {
+            log.warn("Skipping Naver item: missing or invalid isbn");
+            return null;
         }
 
+        NormalizationRules rules = this.rules;
         Book book = new Book(
             refinedIsbn,
-            title,
+            cleanTitle(item.title()),
             Collections.emptyList(),
-            description,
-            author,
-            item.publisher(),
-            parsePublishDateToDate(item.pubdate(), refinedIsbn),
+            normalizeDescription(item.description(), rules),
+            normalizeAuthor(item.author(), rules),
+            caches.publisher(item.publisher(), UnicodeNormalizer::normalize),
+            parsePublishDate(item.pubdate(), refinedIsbn, "NAVER"),
             normalizeThumbnail(item.image())
         );
-
-        log.info("Publishing book from NAVER. isbn={}, title={}", book.isbn(), book.title());
-        publisher.publish(book);
+        return requireFields(book, rules, "Naver item");
     }
 
     // =========================================================
-    // Helpers
+    // ROUTING KEYS
     // =========================================================
 
-    private List<String> parseRawColumns(String row) {
-        List<String> columns = new ArrayList<>();
-        StringBuilder current = new StringBuilder();
-        boolean inQuotes = false;
-
-        for (int i = 0; i < row.length(); i++) {
-            char c = row.charAt(i);
-            if (c == '"') {
-                if (inQuotes && i + 1 < row.length() && row.charAt(i + 1) == '"') {
-                    current.append('"');
-                    i++;
-                } else {
-                    inQuotes = !inQuotes;
-                }
-            } else if (c == ',' && !inQuotes) {
-                columns.add(current.toString().trim());
-                current.setLength(0);
-            } else {
-                current.append(c);
-            }
+    @Override
+    public String resolveRawRowKey(String rawRow, RawRowLayout layout) {
+        if (StringUtils.isBlank(rawRow)) {
+            return null;
         }
-        columns.add(current.toString().trim());
-        return columns;
+        return extractRawIsbn(StringRawColumns.parse(rawRow, layout.keyProjection()), layout);
     }
 
-    private String extractRawIsbn(List<String> columns) {
-        return firstNonBlank(
-            normalizeIsbn(getColumn(columns, RAW_ISBN_13_INDEX)),
-            normalizeIsbn(getColumn(columns, RAW_FALLBACK_ISBN_INDEX))
-        );
+    @Override
+    public String resolveRawRowKey(byte[] rawRow, RawRowLayout layout) {
+        if (isBlank(rawRow)) {
+            return null;
+        }
+        return extractRawIsbn(Utf8RawColumns.parse(rawRow, layout.keyProjection()), layout);
     }
 
-    private String normalizeIsbn(String raw) {
-        if (StringUtils.isBlank(raw)) {
-            return null;
+    @Override
+    public String resolveRecordKey(String recordKey) {
+        return IsbnNormalizer.normalize(recordKey);
+    }
+
+    @Override
+    public String resolveItemKey(NaverBookItem item) {
+        return item == null ? null : IsbnNormalizer.extract(item.isbn());
+    }
+
+    // =========================================================
+    // Batch publishing
+    // =========================================================
+
+    /**
+     * Publishes the books collected so far. A publisher failure is reported against the index of
+     * the source element the failed book came from.
+     */
+    private void publishBatch(PendingBatch batch, String source) {
+        if (batch.size() == 0) {
+            return;
         }
+        try {
+            publisher.publishAll(batch.books);
+        } catch (BookPublishException e) {
+            throw new BookBatchProcessingException(batch.sourceIndexes[e.failedIndex()], e.getCause());
+        }
+        log.debug("Published {} batch. books={}", source, batch.size());
+    }
 
-        String cleaned = raw.replaceAll("[^0-9Xx]", "");
-        if (cleaned.length() == 13 && cleaned.chars().allMatch(Character::isDigit)) {
-            return cleaned;
+    private static final class PendingBatch {
+
+        private final List<Book> books;
+        private final int[] sourceIndexes;
+
+        private PendingBatch(int capacity) {
+            this.books = new ArrayList<>(capacity);
+            this.sourceIndexes = new int[capacity];
         }
 
-        if (cleaned.length() == 10) {
-            String firstNine = cleaned.substring(0, 9);
-            char lastChar = cleaned.charAt(9);
-            if (firstNine.chars().allMatch(Character::isDigit)
-                && (Character.isDigit(lastChar) || lastChar == 'X' || lastChar == 'x')) {
-                return firstNine + Character.toUpperCase(lastChar);
+        private void add(int sourceIndex, Book book) {
+            if (book == null) {
+                return;
             }
+            sourceIndexes[books.size()] = sourceIndex;
+            books.add(book);
         }
 
-        return null;
+        private int size() {
+            return books.size();
+        }
     }
 
-    private LocalDate parseRawPublishDate(String value, String isbn) {
-        return parseDateWithFormats(value, isbn, "RAW", RAW_PUBDATE_FORMAT, RAW_PUBDATE_COMPACT_FORMAT);
-    }
+    // =========================================================
+    // Helpers
+    // =========================================================
 
-    private LocalDate parsePublishDateToDate(String value, String isbn) {
-        return parseDateWithFormats(value, isbn, "NAVER", NAVER_PUBDATE_FORMAT);
+    private String extractRawIsbn(RawColumns columns, RawRowLayout layout) {
+        return firstNonBlank(
+            IsbnNormalizer.normalize(getColumn(columns, layout, RawField.ISBN)),
+            IsbnNormalizer.normalize(getColumn(columns, layout, RawField.FALLBACK_ISBN))
+        );
     }
 
-    private LocalDate parseDateWithFormats(
-        String value,
-        String isbn,
-        String source,
-        DateTimeFormatter... formatters
-    ) {
+    private LocalDate parsePublishDate(String value, String isbn, String source) {
         if (StringUtils.isBlank(value)) {
             return null;
         }
 
-        String trimmed = value.trim();
-        for (DateTimeFormatter formatter : formatters) {
-            try {
-                return LocalDate.parse(trimmed, formatter);
-            } catch (Exception ignored) {
-                // Try the next formatter.
-            }
+        LocalDate date = PublishDateParser.parse(value);
+        if (date == null) {
+            log.warn("Failed to parse {} pubdate='{}' for isbn={}", source, value, isbn);
         }
-
-        log.warn("Failed to parse {} pubdate='{}' for isbn={}", source, value, isbn);
-        return null;
+        return date;
     }
 
-    private String getColumn(List<String> columns, int index) {
-        if (index < 0 || index >= columns.size()) return null;
-        String value = columns.get(index);
+    private String getColumn(RawColumns columns, RawRowLayout layout, RawField field) {
+        String value = layout.get(columns, field);
         return StringUtils.isBlank(value) ? null : value.trim();
     }
 
-    private String extractNormalizedIsbn(String raw) {
-        if (StringUtils.isBlank(raw)) {
-            return null;
+    private boolean isBlank(byte[] row) {
+        if (row == null) {
+            return true;
         }
-
-        String isbn10 = null;
-        String[] tokens = raw.split("[\\s,;/]+");
-        for (String token : tokens) {
-            String normalized = normalizeIsbn(token);
-            if (normalized == null) {
-                continue;
-            }
-            if (normalized.length() == 13) {
-                return normalized;
-            }
-            if (normalized.length() == 10 && isbn10 == null) {
-                isbn10 = normalized;
+        for (byte b : row) {
+            if (b > ' ' || b < 0) {
+                return false;
             }
         }
-        return isbn10;
+        return true;
     }
 
     private String firstNonBlank(String... values) {
@@ -296,44 +347,43 @@ public class BookPreprocessingService implements BookMessageUseCase {
     }
 
     private String cleanTitle(String title) {
-        if (title == null) return null;
-        return stripHtml(title).trim();
+        return UnicodeNormalizer.normalize(TextNormalizer.cleanText(title));
     }
 
-    private String normalizeDescription(String raw) {
-        if (StringUtils.isBlank(raw)) {
-            return null;
+    /**
+     * @return {@code book}, or {@code null} after logging if a field the rules require is blank
+     */
+    private Book requireFields(Book book, NormalizationRules rules, String source) {
+        RawField missing = rules.firstMissing(book);
+        if (missing == null) {
+            return book;
         }
-
-        String cleaned = stripHtml(raw)
-            .replaceAll("\\s+", " ")
-            .trim();
-
-        if (cleaned.length() < MIN_DESCRIPTION_LENGTH) {
-            return null;
-        }
-
-        return cleaned;
+        String reason = missing == RawField.DESCRIPTION
+            ? "missing/short description"
+            : "missing " + missing.name().toLowerCase(Locale.ROOT).replace('_', ' ');
+        log.warn("Skipping {}: {}. isbn={}", source, reason, book.isbn());
+        return null;
     }
 
-    private String normalizeAuthor(String raw) {
+    private String normalizeDescription(String raw, NormalizationRules rules) {
         if (StringUtils.isBlank(raw)) {
             return null;
         }
+        return TextNormalizer.normalize(raw, rules.minDescriptionLength());
+    }
 
-        String cleaned = stripHtml(raw);
-        String[] tokens = AUTHOR_SEPARATOR_PATTERN.split(cleaned, 2);
-        String candidate = tokens.length > 0 ? tokens[0].trim() : cleaned.trim();
-
-        if (StringUtils.isBlank(candidate)) {
+    private String normalizeAuthor(String raw, NormalizationRules rules) {
+        if (StringUtils.isBlank(raw)) {
             return null;
         }
 
-        String withoutRoles = AUTHOR_ROLE_PATTERN.matcher(candidate).replaceAll("");
-        withoutRoles = AUTHOR_ROLE_KR_PATTERN.matcher(withoutRoles).replaceAll("");
-        withoutRoles = withoutRoles.replaceAll("\\s+", " ").trim();
+        return caches.author(rules, raw, value -> normalizeUncachedAuthor(value, rules));
+    }
 
-        return StringUtils.isBlank(withoutRoles) ? null : withoutRoles;
+    private static String normalizeUncachedAuthor(String raw, NormalizationRules rules) {
+        String author = rules.authorNormalizer()
+            .normalize(TextNormalizer.stripTags(UnicodeNormalizer.normalize(raw)));
+        return StringUtils.isBlank(author) ? null : author;
     }
 
     private String normalizeThumbnail(String raw) {
@@ -347,11 +397,4 @@ public class BookPreprocessingService implements BookMessageUseCase {
         }
         return null;
     }
-
-    private String stripHtml(String raw) {
-        if (raw == null) {
-            return "";
-        }
-        return HTML_TAG_PATTERN.matcher(raw).replaceAll("");
-    }
 }
@@ -1,17 +1,33 @@
 package org.todaybook.bookpreprocessingworker.config;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.todaybook.bookpreprocessingworker.application.parser.RawField;
 
 @ConfigurationProperties(prefix = "app.kafka")
 public class AppKafkaProperties {
 
     private String inputTopic;
     private String csvInputTopic;
+    private String envelopeInputTopic;
+    private String csvChunkInputTopic;
     private String outputTopic;
     private String prefix;
     private String env;
     private String jsonGroupId;
     private String csvGroupId;
+    private String envelopeGroupId;
+    private final Listener listener = new Listener();
+    private final Delivery delivery = new Delivery();
+    private final Output output = new Output();
+    private final Transaction transaction = new Transaction();
+    private final Map<String, ColumnMapping> columnMappings = new LinkedHashMap<>();
+    private String columnMappingHeader = "column-mapping";
 
     /**
      * Kafka에서 사용될 입력 토픽의 이름을 반환한다.
@@ -49,6 +65,32 @@ public class AppKafkaProperties {
         this.csvInputTopic = csvInputTopic;
     }
 
+    /**
+     * Naver 검색 API 응답(envelope) 전체를 담는 입력 토픽의 이름을 반환한다.
+     *
+     * @return envelope 입력 토픽 이름. 설정되지 않은 경우 {@code null}이며 envelope 리스너는 비활성화된다.
+     */
+    public String getEnvelopeInputTopic() {
+        return envelopeInputTopic;
+    }
+
+    public void setEnvelopeInputTopic(String envelopeInputTopic) {
+        this.envelopeInputTopic = envelopeInputTopic;
+    }
+
+    /**
+     * 여러 raw row를 하나의 메시지에 담은 CSV 청크 입력 토픽의 이름을 반환한다.
+     *
+     * @return CSV 청크 입력 토픽 이름. 설정되지 않은 경우 {@code null}이며 청크 리스너는 비활성화된다.
+     */
+    public String getCsvChunkInputTopic() {
+        return csvChunkInputTopic;
+    }
+
+    public void setCsvChunkInputTopic(String csvChunkInputTopic) {
+        this.csvChunkInputTopic = csvChunkInputTopic;
+    }
+
     /**
      * Kafka 출력 토픽의 이름을 제공한다.
      *
@@ -98,4 +140,368 @@ public class AppKafkaProperties {
     public void setCsvGroupId(String csvGroupId) {
         this.csvGroupId = csvGroupId;
     }
+
+    /**
+     * envelope 리스너의 컨슈머 그룹 ID를 반환한다.
+     *
+     * @return envelope 컨슈머 그룹 ID. 설정되지 않은 경우 {@code null}이며 {@code spring.kafka.consumer.group-id}를 따른다.
+     */
+    public String getEnvelopeGroupId() {
+        return envelopeGroupId;
+    }
+
+    public void setEnvelopeGroupId(String envelopeGroupId) {
+        this.envelopeGroupId = envelopeGroupId;
+    }
+
+    public Listener getListener() {
+        return listener;
+    }
+
+    public Delivery getDelivery() {
+        return delivery;
+    }
+
+    public Output getOutput() {
+        return output;
+    }
+
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
+    /**
+     * 원본 row 컬럼 배치 프로파일을 이름별로 반환한다 ({@code app.kafka.column-mappings.<name>.*}).
+     *
+     * @return 프로파일 이름 → 컬럼 배치
+     */
+    public Map<String, ColumnMapping> getColumnMappings() {
+        return columnMappings;
+    }
+
+    /**
+     * 레코드별로 컬럼 배치 프로파일 이름을 지정하는 Kafka 헤더 이름을 반환한다.
+     *
+     * @return 헤더 이름. 기본값은 {@code column-mapping}.
+     */
+    public String getColumnMappingHeader() {
+        return columnMappingHeader;
+    }
+
+    public void setColumnMappingHeader(String columnMappingHeader) {
+        this.columnMappingHeader = columnMappingHeader;
+    }
+
+    /**
+     * 원본 row에서 각 필드가 위치한 컬럼 번호와, 이 배치를 기본으로 사용할 토픽 목록.
+     */
+    public static class ColumnMapping {
+
+        private final Map<RawField, Integer> columns = new EnumMap<>(RawField.class);
+        private List<String> topics = new ArrayList<>();
+
+        /**
+         * 필드별 0부터 시작하는 컬럼 번호를 반환한다. 예: {@code isbn: 0}, {@code published-at: 7}.
+         *
+         * @return 필드 → 컬럼 번호
+         */
+        public Map<RawField, Integer> getColumns() {
+            return columns;
+        }
+
+        /**
+         * 이 배치로 읽을 원본 row 토픽 목록을 반환한다. CSV 리스너가 기본 CSV 토픽과 함께 구독한다.
+         *
+         * @return 토픽 이름 목록
+         */
+        public List<String> getTopics() {
+            return topics;
+        }
+
+        public void setTopics(List<String> topics) {
+            this.topics = topics;
+        }
+    }
+
+    /**
+     * 트랜잭션(exactly-once) 모드 설정 ({@code app.kafka.transaction.*}). 켜면 입력 offset이 출력 레코드와
+     * 같은 프로듀서 트랜잭션으로 커밋된다. {@link ListenerMode#PARALLEL}과 함께 쓸 수 없다.
+     */
+    public static class Transaction {
+
+        private boolean enabled = false;
+        private String idPrefix = "book-preprocessor-tx-";
+
+        /**
+         * 트랜잭션 모드 사용 여부를 반환한다.
+         *
+         * @return 트랜잭션 모드 사용 여부. 기본값은 {@code false}.
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * 프로듀서 {@code transactional.id} 접두어를 반환한다. 인스턴스마다 달라야 서로를 fencing하지 않는다.
+         *
+         * @return transactional.id 접두어
+         */
+        public String getIdPrefix() {
+            return idPrefix;
+        }
+
+        public void setIdPrefix(String idPrefix) {
+            this.idPrefix = idPrefix;
+        }
+    }
+
+    /**
+     * 출력 토픽 배치와 배포 방식 설정 ({@code app.kafka.output.*}). 출력 레코드의 키는 정규화된 ISBN이다.
+     */
+    public static class Output {
+
+        private OutputPartitioning partitioning = OutputPartitioning.MURMUR2;
+        private OutputFormat format = OutputFormat.JSON;
+        private int registrantPrefixLength = 8;
+        private boolean compacted = false;
+        private Integer partitions;
+        private Short replicas;
+
+        /**
+         * 출력 레코드를 파티션에 배치하는 방식을 반환한다.
+         *
+         * @return 파티션 배치 방식. 기본값은 {@link OutputPartitioning#MURMUR2}.
+         */
+        public OutputPartitioning getPartitioning() {
+            return partitioning;
+        }
+
+        public void setPartitioning(OutputPartitioning partitioning) {
+            this.partitioning = partitioning;
+        }
+
+        /**
+         * 출력 토픽 레코드의 직렬화 형식을 반환한다. 레코드마다 {@code content-type} 헤더로 형식이 표시된다.
+         *
+         * @return 직렬화 형식. 기본값은 {@link OutputFormat#JSON}.
+         */
+        public OutputFormat getFormat() {
+            return format;
+        }
+
+        public void setFormat(OutputFormat format) {
+            this.format = format;
+        }
+
+        /**
+         * {@link OutputPartitioning#REGISTRANT_GROUP}에서 해시할 ISBN 앞자리 수를 반환한다.
+         *
+         * @return ISBN 앞자리 수. 기본값은 8 (예: {@code 97889xxx}).
+         */
+        public int getRegistrantPrefixLength() {
+            return registrantPrefixLength;
+        }
+
+        public void setRegistrantPrefixLength(int registrantPrefixLength) {
+            this.registrantPrefixLength = registrantPrefixLength;
+        }
+
+        /**
+         * 출력 토픽을 {@code cleanup.policy=compact}로 선언할지 여부를 반환한다. 켜면 기동 시 토픽이 없을 때
+         * compacted 토픽으로 생성하며, ISBN별 최신 레코드만 남는다.
+         *
+         * @return compacted 토픽 사용 여부. 기본값은 {@code false}.
+         */
+        public boolean isCompacted() {
+            return compacted;
+        }
+
+        public void setCompacted(boolean compacted) {
+            this.compacted = compacted;
+        }
+
+        /**
+         * compacted 토픽을 생성할 때의 파티션 수를 반환한다.
+         *
+         * @return 파티션 수. 설정되지 않은 경우 {@code null}이며 브로커 기본값을 따른다.
+         */
+        public Integer getPartitions() {
+            return partitions;
+        }
+
+        public void setPartitions(Integer partitions) {
+            this.partitions = partitions;
+        }
+
+        /**
+         * compacted 토픽을 생성할 때의 복제 수를 반환한다.
+         *
+         * @return 복제 수. 설정되지 않은 경우 {@code null}이며 브로커 기본값을 따른다.
+         */
+        public Short getReplicas() {
+            return replicas;
+        }
+
+        public void setReplicas(Short replicas) {
+            this.replicas = replicas;
+        }
+    }
+
+    /**
+     * 출력 전송 윈도우 설정 ({@code app.kafka.delivery.*}). 브로커 응답을 기다리는 전송이 한도에 닿으면
+     * 컨슈머 스레드가 대기하며, 입력 offset은 파생된 출력이 모두 응답을 받은 뒤에 커밋된다.
+     */
+    public static class Delivery {
+
+        private int maxInFlightRecords = 10_000;
+        private DataSize maxInFlightBytes = DataSize.ofMegabytes(16);
+
+        /**
+         * 브로커 응답을 기다리는 동안 동시에 보낼 수 있는 최대 레코드 수를 반환한다.
+         *
+         * @return 최대 전송 중 레코드 수. 기본값은 10000.
+         */
+        public int getMaxInFlightRecords() {
+            return maxInFlightRecords;
+        }
+
+        public void setMaxInFlightRecords(int maxInFlightRecords) {
+            this.maxInFlightRecords = maxInFlightRecords;
+        }
+
+        /**
+         * 브로커 응답을 기다리는 레코드의 추정 크기 합계 한도를 반환한다. 프로듀서 {@code buffer.memory}보다
+         * 작게 두어야 전송이 버퍼 부족으로 실패하기 전에 대기한다.
+         *
+         * @return 최대 전송 중 바이트 수. 기본값은 16MB.
+         */
+        public DataSize getMaxInFlightBytes() {
+            return maxInFlightBytes;
+        }
+
+        public void setMaxInFlightBytes(DataSize maxInFlightBytes) {
+            this.maxInFlightBytes = maxInFlightBytes;
+        }
+    }
+
+    /**
+     * 입력 토픽별 리스너 동작 방식 설정 ({@code app.kafka.listener.*}).
+     */
+    public static class Listener {
+
+        private ListenerMode csvMode = ListenerMode.RECORD;
+        private ListenerMode jsonMode = ListenerMode.RECORD;
+        private int chunkBatchSize = 500;
+        private boolean autoStartup = true;
+        private final Parallel parallel = new Parallel();
+
+        /**
+         * CSV(raw row) 토픽의 소비 방식을 반환한다.
+         *
+         * @return CSV 리스너 모드. 기본값은 {@link ListenerMode#RECORD}.
+         */
+        public ListenerMode getCsvMode() {
+            return csvMode;
+        }
+
+        public void setCsvMode(ListenerMode csvMode) {
+            this.csvMode = csvMode;
+        }
+
+        /**
+         * Naver JSON 토픽의 소비 방식을 반환한다.
+         *
+         * @return JSON 리스너 모드. 기본값은 {@link ListenerMode#RECORD}.
+         */
+        public ListenerMode getJsonMode() {
+            return jsonMode;
+        }
+
+        public void setJsonMode(ListenerMode jsonMode) {
+            this.jsonMode = jsonMode;
+        }
+
+        /**
+         * CSV 청크에서 분리한 row를 몇 개씩 묶어 처리할지 반환한다.
+         *
+         * @return 청크 처리 배치 크기
+         */
+        public int getChunkBatchSize() {
+            return chunkBatchSize;
+        }
+
+        public void setChunkBatchSize(int chunkBatchSize) {
+            this.chunkBatchSize = chunkBatchSize;
+        }
+
+        /**
+         * 리스너 컨테이너를 기동 시 자동으로 시작할지 여부를 반환한다. {@code backfill} 프로파일에서는 꺼진다.
+         *
+         * @return 자동 시작 여부. 기본값은 {@code true}.
+         */
+        public boolean isAutoStartup() {
+            return autoStartup;
+        }
+
+        public void setAutoStartup(boolean autoStartup) {
+            this.autoStartup = autoStartup;
+        }
+
+        public Parallel getParallel() {
+            return parallel;
+        }
+    }
+
+    /**
+     * {@link ListenerMode#PARALLEL} 모드의 워커 레인 설정 ({@code app.kafka.listener.parallel.*}).
+     */
+    public static class Parallel {
+
+        private int lanes = Runtime.getRuntime().availableProcessors();
+        private int laneCapacity = 256;
+        private boolean virtualThreads = false;
+
+        /**
+         * 레코드를 나눠 처리할 워커 레인 수를 반환한다.
+         *
+         * @return 레인 수. 기본값은 사용 가능한 CPU 수.
+         */
+        public int getLanes() {
+            return lanes;
+        }
+
+        public void setLanes(int lanes) {
+            this.lanes = lanes;
+        }
+
+        /**
+         * 레인별 대기 큐 크기를 반환한다. 큐가 가득 차면 컨슈머 스레드가 대기한다.
+         *
+         * @return 레인 큐 크기
+         */
+        public int getLaneCapacity() {
+            return laneCapacity;
+        }
+
+        public void setLaneCapacity(int laneCapacity) {
+            this.laneCapacity = laneCapacity;
+        }
+
+        /**
+         * 레인을 가상 스레드로 실행할지 여부를 반환한다.
+         *
+         * @return 가상 스레드 사용 여부. 기본값은 {@code false}(플랫폼 스레드).
+         */
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+    }
 }
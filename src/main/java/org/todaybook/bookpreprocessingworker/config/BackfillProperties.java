@@ -0,0 +1,126 @@
+package org.todaybook.bookpreprocessingworker.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@code backfill} 프로파일에서 로컬 CSV 덤프를 직접 읽어 재적재할 때의 설정 ({@code app.backfill.*}).
+ */
+@ConfigurationProperties(prefix = "app.backfill")
+public class BackfillProperties {
+
+    private Path file;
+    private long windowSize = 256L * 1024 * 1024;
+    private int batchSize = 1000;
+    private int parallelism = 1;
+    private boolean skipHeader = false;
+    private String columnMapping;
+    private Duration progressInterval = Duration.ofSeconds(10);
+    private boolean exitOnCompletion = true;
+
+    /**
+     * 재적재할 CSV 덤프 파일 경로를 반환한다.
+     *
+     * @return 덤프 파일 경로
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    public void setFile(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * 한 번에 메모리 매핑할 파일 구간 크기(byte)를 반환한다. 한 row는 이 크기를 넘을 수 없다.
+     *
+     * @return 매핑 윈도 크기. 기본값은 256MB.
+     */
+    public long getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(long windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * 정규화·발행을 한 번에 수행할 row 수를 반환한다.
+     *
+     * @return 배치 크기
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 파일을 몇 개의 row 경계 구간으로 나눠 동시에 처리할지 반환한다.
+     *
+     * @return 병렬도. 기본값은 {@code 1}(순차 처리).
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 첫 row를 헤더로 보고 건너뛸지 여부를 반환한다.
+     *
+     * @return 헤더 건너뛰기 여부. 기본값은 {@code false}.
+     */
+    public boolean isSkipHeader() {
+        return skipHeader;
+    }
+
+    public void setSkipHeader(boolean skipHeader) {
+        this.skipHeader = skipHeader;
+    }
+
+    /**
+     * 덤프를 읽을 때 쓸 컬럼 매핑({@code app.kafka.column-mappings}의 이름)을 반환한다. 지정하지 않으면
+     * 건너뛴 헤더 row에서 컬럼 위치를 감지하고, 감지하지 못하면 기본 레이아웃을 쓴다.
+     *
+     * @return 컬럼 매핑 이름. 기본값은 {@code null}.
+     */
+    public String getColumnMapping() {
+        return columnMapping;
+    }
+
+    public void setColumnMapping(String columnMapping) {
+        this.columnMapping = columnMapping;
+    }
+
+    /**
+     * 진행 상황(row 수, rows/sec)을 로그로 남기는 간격을 반환한다.
+     *
+     * @return 진행 로그 간격
+     */
+    public Duration getProgressInterval() {
+        return progressInterval;
+    }
+
+    public void setProgressInterval(Duration progressInterval) {
+        this.progressInterval = progressInterval;
+    }
+
+    /**
+     * 재적재가 끝나면 애플리케이션을 종료할지 여부를 반환한다.
+     *
+     * @return 완료 후 종료 여부. 기본값은 {@code true}.
+     */
+    public boolean isExitOnCompletion() {
+        return exitOnCompletion;
+    }
+
+    public void setExitOnCompletion(boolean exitOnCompletion) {
+        this.exitOnCompletion = exitOnCompletion;
+    }
+}
@@ -1,30 +1,52 @@
 package org.todaybook.bookpreprocessingworker.config;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.AfterRollbackProcessor;
 import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultAfterRollbackProcessor;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
 import org.springframework.util.backoff.FixedBackOff;
 import org.todaybook.bookpreprocessingworker.application.dto.NaverBookItem;
+import org.todaybook.bookpreprocessingworker.application.parser.UnknownColumnMappingException;
 import org.todaybook.bookpreprocessingworker.domain.model.Book;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.parallel.KeyOrderedDispatcher;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.BookJsonSerializer;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.BookValueSerializer;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.IsbnPartitioner;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.ContentDecodingDeserializer;
 
 @Configuration
 @EnableKafka
@@ -34,29 +56,79 @@ public class KafkaConfig {
     private static final String NAVER_DTO_PACKAGE =
         "org.todaybook.bookpreprocessingworker.application.dto";
 
+    private static final long RETRY_INTERVAL_MS = 1000L;
+    private static final long MAX_RETRIES = 2;
+
+    private static final String TRANSACTIONS_ENABLED = "app.kafka.transaction.enabled";
+
+    private static final String PARALLEL_MODE_ENABLED =
+        "'${app.kafka.listener.csv-mode:record}'.equalsIgnoreCase('parallel')"
+            + " or '${app.kafka.listener.json-mode:record}'.equalsIgnoreCase('parallel')";
+
     @Bean
     public TopicNames topicNames(AppKafkaProperties props) {
         return new TopicNames(props);
     }
 
+    /**
+     * Books are written by {@link BookValueSerializer}. The same factory also serializes dead letters
+     * (byte payloads as-is, anything else as JSON) so that, with transactions enabled, a dead letter is
+     * sent by the listener's transactional producer and commits together with the consumed offsets.
+     */
     @Bean
     public ProducerFactory<String, Book> bookProducerFactory(
         KafkaProperties kafkaProperties,
+        AppKafkaProperties appKafkaProperties,
         ObjectMapper objectMapper
     ) {
         Map<String, Object> props = kafkaProperties.buildProducerProperties(null);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         props.remove(JsonSerializer.ADD_TYPE_INFO_HEADERS);
-        JsonSerializer<Book> valueSerializer = new JsonSerializer<>(configuredObjectMapper(objectMapper));
-        valueSerializer.setAddTypeInfo(false);
-        return new DefaultKafkaProducerFactory<>(props, new StringSerializer(), valueSerializer);
+        AppKafkaProperties.Output output = appKafkaProperties.getOutput();
+        props.put(ProducerConfig.PARTITIONER_CLASS_CONFIG, IsbnPartitioner.class);
+        props.put(IsbnPartitioner.STRATEGY_CONFIG, output.getPartitioning().name());
+        props.put(IsbnPartitioner.PREFIX_LENGTH_CONFIG, output.getRegistrantPrefixLength());
+        BookJsonSerializer jsonSerializer = new BookJsonSerializer(objectMapper.getFactory());
+        Map<Class<?>, Serializer<?>> delegates = new LinkedHashMap<>();
+        delegates.put(Book.class, new BookValueSerializer(jsonSerializer, output.getFormat()));
+        delegates.putAll(deadLetterSerializers(objectMapper));
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(
+            props, new StringSerializer(), new DelegatingByTypeSerializer(delegates, true));
+        configureTransactionIds(factory, appKafkaProperties, "book-");
+        return retyped(factory);
+    }
+
+    /**
+     * Declares the output topic as compacted, so only the latest record per ISBN is kept. Created by
+     * {@code KafkaAdmin} when missing; an existing topic is only altered with
+     * {@code spring.kafka.admin.modify-topic-configs=true}.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.kafka.output", name = "compacted", havingValue = "true")
+    public NewTopic compactedOutputTopic(TopicNames topicNames, AppKafkaProperties props) {
+        AppKafkaProperties.Output output = props.getOutput();
+        TopicBuilder builder = TopicBuilder.name(topicNames.outputTopic()).compact();
+        if (output.getPartitions() != null) {
+            builder.partitions(output.getPartitions());
+        }
+        if (output.getReplicas() != null) {
+            builder.replicas(output.getReplicas());
+        }
+        return builder.build();
     }
 
     @Bean
     public KafkaTemplate<String, Book> bookKafkaTemplate(ProducerFactory<String, Book> bookProducerFactory) {
-        return new KafkaTemplate<>(bookProducerFactory);
+        KafkaTemplate<String, Book> template = new KafkaTemplate<>(bookProducerFactory);
+        // The backfill runner publishes outside any listener transaction.
+        template.setAllowNonTransactional(true);
+        return template;
     }
 
+    /**
+     * Non-transactional producer for dead letters. With transactions enabled it is not used by the
+     * containers: {@link #dlqKafkaTemplate} then sends through {@code bookProducerFactory}.
+     */
     @Bean
     public ProducerFactory<String, Object> dlqProducerFactory(
         KafkaProperties kafkaProperties,
@@ -65,13 +137,71 @@ public class KafkaConfig {
         Map<String, Object> props = kafkaProperties.buildProducerProperties(null);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         props.remove(JsonSerializer.ADD_TYPE_INFO_HEADERS);
-        JsonSerializer<Object> valueSerializer = new JsonSerializer<>(configuredObjectMapper(objectMapper));
-        valueSerializer.setAddTypeInfo(false);
+        DelegatingByTypeSerializer valueSerializer =
+            new DelegatingByTypeSerializer(deadLetterSerializers(objectMapper), true);
         return new DefaultKafkaProducerFactory<>(props, new StringSerializer(), valueSerializer);
     }
 
+    /**
+     * Runs listener containers in producer transactions: consumed offsets are sent with the
+     * published books and both become visible to {@code read_committed} consumers together.
+     * Requires {@code batch} mode for both raw topics, so a transaction covers a poll rather than a
+     * single row. Chunk and envelope listeners run one transaction per record by design, as each of
+     * their records already carries many rows. The modes are not checked when listeners do not
+     * auto-start (the {@code backfill} profile), since no container then runs in a transaction.
+     */
+    @Bean
+    @ConditionalOnProperty(name = TRANSACTIONS_ENABLED, havingValue = "true")
+    public KafkaTransactionManager<String, Book> kafkaTransactionManager(
+        ProducerFactory<String, Book> bookProducerFactory,
+        AppKafkaProperties props
+    ) {
+        AppKafkaProperties.Listener listener = props.getListener();
+        if (listener.isAutoStartup()
+            && (listener.getCsvMode() != ListenerMode.BATCH || listener.getJsonMode() != ListenerMode.BATCH)) {
+            // Record mode would commit one transaction per row; parallel lanes finish records after the
+            // consumer thread's transaction has moved on.
+            throw new IllegalStateException(
+                "app.kafka.transaction.enabled requires app.kafka.listener.csv-mode=batch and json-mode=batch,"
+                    + " got csv-mode=" + listener.getCsvMode() + ", json-mode=" + listener.getJsonMode());
+        }
+        return new KafkaTransactionManager<>(bookProducerFactory);
+    }
+
+    /**
+     * After a rolled-back transaction the records are re-polled; once retries are exhausted the
+     * failed record is dead-lettered in a {@code dlqKafkaTemplate} transaction that also commits
+     * its offset. Records the error handler recovers inside the listener transaction are
+     * dead-lettered in that transaction instead, as {@code dlqKafkaTemplate} shares its producer.
+     */
     @Bean
-    public KafkaTemplate<String, Object> dlqKafkaTemplate(ProducerFactory<String, Object> dlqProducerFactory) {
+    @ConditionalOnProperty(name = TRANSACTIONS_ENABLED, havingValue = "true")
+    public AfterRollbackProcessor<Object, Object> transactionalAfterRollbackProcessor(
+        DeadLetterPublishingRecoverer deadLetterPublishingRecoverer,
+        KafkaTemplate<String, Object> dlqKafkaTemplate
+    ) {
+        DefaultAfterRollbackProcessor<Object, Object> processor = new DefaultAfterRollbackProcessor<>(
+            deadLetterPublishingRecoverer,
+            new FixedBackOff(RETRY_INTERVAL_MS, MAX_RETRIES),
+            dlqKafkaTemplate,
+            true
+        );
+        // Same classification as dlqErrorHandler.
+        processor.addNotRetryableExceptions(JsonProcessingException.class, UnknownColumnMappingException.class);
+        return processor;
+    }
+
+    @Bean
+    public KafkaTemplate<String, Object> dlqKafkaTemplate(
+        ProducerFactory<String, Object> dlqProducerFactory,
+        ProducerFactory<String, Book> bookProducerFactory,
+        AppKafkaProperties props
+    ) {
+        if (props.getTransaction().isEnabled()) {
+            // The transaction manager binds bookProducerFactory; only a template on that same factory
+            // joins the listener transaction rather than committing the dead letter on its own.
+            return new KafkaTemplate<>(retyped(bookProducerFactory));
+        }
         return new KafkaTemplate<>(dlqProducerFactory);
     }
 
@@ -87,6 +217,18 @@ public class KafkaConfig {
         );
     }
 
+    @Bean
+    public ConsumerFactory<String, byte[]> bytesConsumerFactory(KafkaProperties kafkaProperties) {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        return new DefaultKafkaConsumerFactory<>(
+            props,
+            new StringDeserializer(),
+            new ByteArrayDeserializer()
+        );
+    }
+
     @Bean
     public ConsumerFactory<String, NaverBookItem> jsonConsumerFactory(
         KafkaProperties kafkaProperties,
@@ -103,7 +245,10 @@ public class KafkaConfig {
         return new DefaultKafkaConsumerFactory<>(
             props,
             new StringDeserializer(),
-            deserializer
+            new ContentDecodingDeserializer<>(
+                deserializer,
+                in -> kafkaConsumerObjectMapper.readValue(in, NaverBookItem.class)
+            )
         );
     }
 
@@ -119,6 +264,22 @@ public class KafkaConfig {
         return factory;
     }
 
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> csvBatchKafkaListenerContainerFactory(
+        ConsumerFactory<String, byte[]> bytesConsumerFactory,
+        CommonErrorHandler dlqErrorHandler,
+        ObjectProvider<KafkaTransactionManager<String, Book>> kafkaTransactionManager,
+        ObjectProvider<AfterRollbackProcessor<Object, Object>> transactionalAfterRollbackProcessor
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(bytesConsumerFactory);
+        factory.setCommonErrorHandler(dlqErrorHandler);
+        factory.setBatchListener(true);
+        configureTransactions(factory, kafkaTransactionManager, transactionalAfterRollbackProcessor);
+        return factory;
+    }
+
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, NaverBookItem> jsonKafkaListenerContainerFactory(
         ConsumerFactory<String, NaverBookItem> jsonConsumerFactory,
@@ -128,14 +289,172 @@ public class KafkaConfig {
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(jsonConsumerFactory);
         factory.setCommonErrorHandler(dlqErrorHandler);
+        configureOutOfOrderAcks(factory);
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, NaverBookItem> jsonBatchKafkaListenerContainerFactory(
+        ConsumerFactory<String, NaverBookItem> jsonConsumerFactory,
+        CommonErrorHandler dlqErrorHandler,
+        ObjectProvider<KafkaTransactionManager<String, Book>> kafkaTransactionManager,
+        ObjectProvider<AfterRollbackProcessor<Object, Object>> transactionalAfterRollbackProcessor
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, NaverBookItem> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(jsonConsumerFactory);
+        factory.setCommonErrorHandler(dlqErrorHandler);
+        factory.setBatchListener(true);
+        configureTransactions(factory, kafkaTransactionManager, transactionalAfterRollbackProcessor);
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> bytesKafkaListenerContainerFactory(
+        ConsumerFactory<String, byte[]> bytesConsumerFactory,
+        CommonErrorHandler dlqErrorHandler,
+        ObjectProvider<KafkaTransactionManager<String, Book>> kafkaTransactionManager,
+        ObjectProvider<AfterRollbackProcessor<Object, Object>> transactionalAfterRollbackProcessor
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(bytesConsumerFactory);
+        factory.setCommonErrorHandler(dlqErrorHandler);
+        configureOutOfOrderAcks(factory);
+        configureTransactions(factory, kafkaTransactionManager, transactionalAfterRollbackProcessor);
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> csvParallelKafkaListenerContainerFactory(
+        ConsumerFactory<String, byte[]> bytesConsumerFactory,
+        CommonErrorHandler dlqErrorHandler
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(bytesConsumerFactory);
+        factory.setCommonErrorHandler(dlqErrorHandler);
+        configureOutOfOrderAcks(factory);
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, NaverBookItem> jsonParallelKafkaListenerContainerFactory(
+        ConsumerFactory<String, NaverBookItem> jsonConsumerFactory,
+        CommonErrorHandler dlqErrorHandler
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, NaverBookItem> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(jsonConsumerFactory);
+        factory.setCommonErrorHandler(dlqErrorHandler);
+        configureOutOfOrderAcks(factory);
         return factory;
     }
 
+    @Bean(destroyMethod = "close")
+    @ConditionalOnExpression(PARALLEL_MODE_ENABLED)
+    public KeyOrderedDispatcher keyOrderedDispatcher(
+        AppKafkaProperties props,
+        DeadLetterPublishingRecoverer deadLetterPublishingRecoverer,
+        DeliveryTracker deliveryTracker
+    ) {
+        AppKafkaProperties.Parallel parallel = props.getListener().getParallel();
+        return new KeyOrderedDispatcher(
+            parallel.getLanes(),
+            parallel.getLaneCapacity(),
+            parallel.isVirtualThreads(),
+            deadLetterPublishingRecoverer,
+            new FixedBackOff(RETRY_INTERVAL_MS, MAX_RETRIES),
+            deliveryTracker
+        );
+    }
+
+    @Bean(destroyMethod = "close")
+    public DeliveryTracker deliveryTracker(
+        AppKafkaProperties props,
+        DeadLetterPublishingRecoverer deadLetterPublishingRecoverer,
+        KafkaTemplate<String, Book> bookKafkaTemplate
+    ) {
+        AppKafkaProperties.Delivery delivery = props.getDelivery();
+        // Only a listener transaction makes the tracker's wait redundant; the backfill runner sends
+        // non-transactionally even with transactions enabled.
+        return new DeliveryTracker(
+            delivery.getMaxInFlightRecords(),
+            delivery.getMaxInFlightBytes().toBytes(),
+            deadLetterPublishingRecoverer,
+            bookKafkaTemplate::inTransaction
+        );
+    }
+
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, Object> dlqKafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(dlqKafkaTemplate);
+    }
+
     @Bean
-    public CommonErrorHandler dlqErrorHandler(KafkaTemplate<String, Object> dlqKafkaTemplate) {
-        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(dlqKafkaTemplate);
-        FixedBackOff backOff = new FixedBackOff(1000L, 2);
-        return new org.todaybook.common.kafka.LoggingErrorHandler(recoverer, backOff);
+    public CommonErrorHandler dlqErrorHandler(DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
+        FixedBackOff backOff = new FixedBackOff(RETRY_INTERVAL_MS, MAX_RETRIES);
+        org.todaybook.common.kafka.LoggingErrorHandler handler =
+            new org.todaybook.common.kafka.LoggingErrorHandler(deadLetterPublishingRecoverer, backOff);
+        // Malformed payloads and unknown column mappings fail the same way on every attempt; send them
+        // straight to the DLT.
+        handler.addNotRetryableExceptions(JsonProcessingException.class, UnknownColumnMappingException.class);
+        return handler;
+    }
+
+    /**
+     * Lane workers and producer callbacks ({@link DeliveryTracker}) acknowledge records out of order;
+     * async acks make the container hold each partition's commit back until every lower offset has
+     * been acknowledged.
+     */
+    private void configureOutOfOrderAcks(ConcurrentKafkaListenerContainerFactory<?, ?> factory) {
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+    }
+
+    /**
+     * Without a transaction manager (the default) the container is left as configured. With one,
+     * each poll (batch listeners) or chunk/envelope record runs in a transaction that also
+     * carries its offsets. Acks then happen on the consumer thread inside it, so they are not async.
+     */
+    private void configureTransactions(
+        ConcurrentKafkaListenerContainerFactory<?, ?> factory,
+        ObjectProvider<KafkaTransactionManager<String, Book>> kafkaTransactionManager,
+        ObjectProvider<AfterRollbackProcessor<Object, Object>> transactionalAfterRollbackProcessor
+    ) {
+        KafkaTransactionManager<String, Book> transactionManager = kafkaTransactionManager.getIfAvailable();
+        if (transactionManager == null) {
+            return;
+        }
+        factory.getContainerProperties().setKafkaAwareTransactionManager(transactionManager);
+        factory.getContainerProperties().setAsyncAcks(false);
+        factory.setAfterRollbackProcessor(transactionalAfterRollbackProcessor.getObject());
+    }
+
+    private void configureTransactionIds(
+        DefaultKafkaProducerFactory<?, ?> factory,
+        AppKafkaProperties props,
+        String suffix
+    ) {
+        if (props.getTransaction().isEnabled()) {
+            factory.setTransactionIdPrefix(props.getTransaction().getIdPrefix() + suffix);
+        }
+    }
+
+    // Byte payloads (raw rows, chunks, envelopes) are dead-lettered as-is, not as base64 JSON strings.
+    private Map<Class<?>, Serializer<?>> deadLetterSerializers(ObjectMapper objectMapper) {
+        JsonSerializer<Object> jsonSerializer = new JsonSerializer<>(configuredObjectMapper(objectMapper));
+        jsonSerializer.setAddTypeInfo(false);
+        Map<Class<?>, Serializer<?>> delegates = new LinkedHashMap<>();
+        delegates.put(byte[].class, new ByteArraySerializer());
+        delegates.put(Object.class, jsonSerializer);
+        return delegates;
+    }
+
+    // Factories are only retyped over a DelegatingByTypeSerializer, which accepts any value.
+    @SuppressWarnings("unchecked")
+    private static <V> ProducerFactory<String, V> retyped(ProducerFactory<String, ?> factory) {
+        return (ProducerFactory<String, V>) factory;
     }
 
     private ObjectMapper configuredObjectMapper(ObjectMapper baseMapper) {
@@ -0,0 +1,19 @@
+package org.todaybook.bookpreprocessingworker.config;
+
+/**
+ * How a raw input topic is consumed.
+ */
+public enum ListenerMode {
+
+    /** One record per listener invocation (default). */
+    RECORD,
+
+    /** The whole poll is delivered as a list and normalized/published in one burst. */
+    BATCH,
+
+    /**
+     * Records are fanned out to worker lanes keyed by normalized ISBN, so one partition is
+     * processed by several threads while per-book ordering is kept.
+     */
+    PARALLEL
+}
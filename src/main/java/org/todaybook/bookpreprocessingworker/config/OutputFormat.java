@@ -0,0 +1,14 @@
+package org.todaybook.bookpreprocessingworker.config;
+
+/**
+ * Encoding of the records on the output topic. Every record carries a {@code content-type}
+ * header, so consumers using {@code BookMessageDeserializer} read either.
+ */
+public enum OutputFormat {
+
+    /** Jackson JSON, ISO dates (default). */
+    JSON,
+
+    /** {@code BookBinaryCodec}: varint-prefixed UTF-8 fields, a presence bitmap and an epoch-day date. */
+    BINARY
+}
@@ -0,0 +1,18 @@
+package org.todaybook.bookpreprocessingworker.config;
+
+/**
+ * How keyed output records are spread over the partitions of the output topic. Both keep every
+ * record of one ISBN on one partition, so updates of a book stay in order.
+ */
+public enum OutputPartitioning {
+
+    /** murmur2 over the whole ISBN key, the same placement as Kafka's default partitioner (default). */
+    MURMUR2,
+
+    /**
+     * murmur2 over the leading digits of the ISBN (EAN prefix, registration group and the start of
+     * the registrant), so books of one publisher tend to share a partition. Skews partitions the
+     * more digits are dropped.
+     */
+    REGISTRANT_GROUP
+}
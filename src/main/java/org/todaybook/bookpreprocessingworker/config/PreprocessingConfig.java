@@ -0,0 +1,82 @@
+package org.todaybook.bookpreprocessingworker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.todaybook.bookpreprocessingworker.application.normalize.NormalizationCaches;
+import org.todaybook.bookpreprocessingworker.application.normalize.NormalizationRules;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayouts;
+
+@Configuration
+public class PreprocessingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PreprocessingConfig.class);
+
+    /**
+     * Author/publisher caches, exported as {@code cache.gets{cache="book.author|book.publisher"}}
+     * and friends when a meter registry is present. A cache sized {@code 0} is not built, so it
+     * has no metrics either.
+     */
+    @Bean
+    public NormalizationCaches normalizationCaches(
+        PreprocessingProperties properties,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        NormalizationCaches caches = new NormalizationCaches(
+            properties.getAuthorCacheSize(),
+            properties.getPublisherCacheSize()
+        );
+        meterRegistry.ifAvailable(registry -> {
+            caches.authorCache().ifPresent(cache -> CaffeineCacheMetrics.monitor(registry, cache, "book.author"));
+            caches.publisherCache().ifPresent(cache -> CaffeineCacheMetrics.monitor(registry, cache, "book.publisher"));
+        });
+        return caches;
+    }
+
+    /**
+     * The rules from {@code app.preprocessing.rules}, compiled at startup. With
+     * {@code app.preprocessing.rules-file} set they are replaced by the file's rules as soon as it is
+     * read.
+     */
+    @Bean
+    public NormalizationRules normalizationRules(PreprocessingProperties props) {
+        try {
+            return props.getRules().compile();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid app.preprocessing.rules: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Compiles {@code app.kafka.column-mappings} once at startup; an invalid mapping or a topic bound
+     * to two mappings fails the context.
+     */
+    @Bean
+    public RawRowLayouts rawRowLayouts(AppKafkaProperties props) {
+        Map<String, RawRowLayout> byName = new LinkedHashMap<>();
+        Map<String, RawRowLayout> byTopic = new LinkedHashMap<>();
+        props.getColumnMappings().forEach((name, mapping) -> {
+            RawRowLayout layout;
+            try {
+                layout = RawRowLayout.of(mapping.getColumns());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Invalid app.kafka.column-mappings." + name + ": " + e.getMessage(), e);
+            }
+            byName.put(name, layout);
+            for (String topic : mapping.getTopics()) {
+                if (byTopic.putIfAbsent(topic, layout) != null) {
+                    throw new IllegalStateException("Topic " + topic + " is bound to more than one column mapping");
+                }
+            }
+            log.info("Column mapping '{}' -> {} (topics={})", name, layout, mapping.getTopics());
+        });
+        return new RawRowLayouts(byName, byTopic);
+    }
+}
@@ -0,0 +1,178 @@
+package org.todaybook.bookpreprocessingworker.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.todaybook.bookpreprocessingworker.application.normalize.AuthorNormalizer;
+import org.todaybook.bookpreprocessingworker.application.normalize.NormalizationCaches;
+import org.todaybook.bookpreprocessingworker.application.normalize.NormalizationRules;
+import org.todaybook.bookpreprocessingworker.application.parser.RawField;
+
+/**
+ * 레코드 정규화 단계의 설정 ({@code app.preprocessing.*}).
+ */
+@ConfigurationProperties(prefix = "app.preprocessing")
+public class PreprocessingProperties {
+
+    private long authorCacheSize = NormalizationCaches.DEFAULT_AUTHOR_CACHE_SIZE;
+    private long publisherCacheSize = NormalizationCaches.DEFAULT_PUBLISHER_CACHE_SIZE;
+    private final Rules rules = new Rules();
+    private Path rulesFile;
+    private Duration rulesReloadInterval = Duration.ofSeconds(30);
+
+    /**
+     * 원본 저자 문자열 → 정규화 결과 캐시의 최대 항목 수를 반환한다.
+     *
+     * @return 저자 캐시 크기. {@code 0} 이하이면 캐시를 만들지 않고 매번 정규화한다.
+     */
+    public long getAuthorCacheSize() {
+        return authorCacheSize;
+    }
+
+    public void setAuthorCacheSize(long authorCacheSize) {
+        this.authorCacheSize = authorCacheSize;
+    }
+
+    /**
+     * 출판사 문자열 정규 인스턴스 캐시의 최대 항목 수를 반환한다.
+     *
+     * @return 출판사 캐시 크기. {@code 0} 이하이면 캐시를 만들지 않고 매번 정규화한다.
+     */
+    public long getPublisherCacheSize() {
+        return publisherCacheSize;
+    }
+
+    public void setPublisherCacheSize(long publisherCacheSize) {
+        this.publisherCacheSize = publisherCacheSize;
+    }
+
+    /**
+     * 정규화·검증 규칙을 반환한다. {@link #getRulesFile()}이 지정되면 그 파일의 내용이 이 값을 대신한다.
+     *
+     * @return 정규화 규칙
+     */
+    public Rules getRules() {
+        return rules;
+    }
+
+    /**
+     * 런타임에 다시 읽을 규칙 파일 경로를 반환한다. 파일은 {@code app.preprocessing.rules}와 같은 키를
+     * 최상위에 두는 YAML 또는 properties 파일이다.
+     *
+     * @return 규칙 파일 경로. 기본값은 {@code null}(설정값의 규칙을 재시작 전까지 사용).
+     */
+    public Path getRulesFile() {
+        return rulesFile;
+    }
+
+    public void setRulesFile(Path rulesFile) {
+        this.rulesFile = rulesFile;
+    }
+
+    /**
+     * 규칙 파일의 변경 여부를 확인하는 간격을 반환한다.
+     *
+     * @return 확인 간격. 기본값은 30초.
+     */
+    public Duration getRulesReloadInterval() {
+        return rulesReloadInterval;
+    }
+
+    public void setRulesReloadInterval(Duration rulesReloadInterval) {
+        this.rulesReloadInterval = rulesReloadInterval;
+    }
+
+    /**
+     * 정규화·검증 규칙 ({@code app.preprocessing.rules.*}). {@link #compile()}으로 불변 매처로 변환된다.
+     */
+    public static class Rules {
+
+        private int minDescriptionLength = NormalizationRules.DEFAULT_MIN_DESCRIPTION_LENGTH;
+        private String authorSeparators = AuthorNormalizer.DEFAULT_SEPARATORS;
+        private List<String> authorSeparatorWords = new ArrayList<>(AuthorNormalizer.DEFAULT_SEPARATOR_WORDS);
+        private List<String> authorRoles = new ArrayList<>(AuthorNormalizer.DEFAULT_ROLES);
+        private Set<RawField> requiredFields = EnumSet.copyOf(NormalizationRules.DEFAULT_REQUIRED_FIELDS);
+
+        /**
+         * 정제 후 설명으로 인정할 최소 길이를 반환한다.
+         *
+         * @return 최소 설명 길이. 기본값은 {@code 30}.
+         */
+        public int getMinDescriptionLength() {
+            return minDescriptionLength;
+        }
+
+        public void setMinDescriptionLength(int minDescriptionLength) {
+            this.minDescriptionLength = minDescriptionLength;
+        }
+
+        /**
+         * 첫 번째 저자 뒤를 잘라낼 구분 문자들을 반환한다.
+         *
+         * @return 구분 문자열. 기본값은 {@code ^;|/&,+·ㆍ}.
+         */
+        public String getAuthorSeparators() {
+            return authorSeparators;
+        }
+
+        public void setAuthorSeparators(String authorSeparators) {
+            this.authorSeparators = authorSeparators;
+        }
+
+        /**
+         * 단어 경계에서 첫 번째 저자 뒤를 잘라낼 영문 단어들을 반환한다(대소문자 무시).
+         *
+         * @return 구분 단어 목록. 기본값은 {@code [and]}.
+         */
+        public List<String> getAuthorSeparatorWords() {
+            return authorSeparatorWords;
+        }
+
+        public void setAuthorSeparatorWords(List<String> authorSeparatorWords) {
+            this.authorSeparatorWords = authorSeparatorWords;
+        }
+
+        /**
+         * 저자 문자열에서 지울 역할어를 반환한다. 영문자로 시작하면 단어 경계에서만, 그 밖에는 어디서나 지운다.
+         *
+         * @return 역할어 목록
+         */
+        public List<String> getAuthorRoles() {
+            return authorRoles;
+        }
+
+        public void setAuthorRoles(List<String> authorRoles) {
+            this.authorRoles = authorRoles;
+        }
+
+        /**
+         * 발행에 필요한 필드를 반환한다. {@code isbn}은 항상 필수다.
+         *
+         * @return 필수 필드. 기본값은 {@code isbn, title, author, description}.
+         */
+        public Set<RawField> getRequiredFields() {
+            return requiredFields;
+        }
+
+        public void setRequiredFields(Set<RawField> requiredFields) {
+            this.requiredFields = requiredFields;
+        }
+
+        /**
+         * @throws IllegalArgumentException 규칙이 올바르지 않은 경우
+         */
+        public NormalizationRules compile() {
+            return NormalizationRules.compile(
+                minDescriptionLength,
+                authorSeparators == null ? "" : authorSeparators,
+                authorSeparatorWords,
+                authorRoles,
+                requiredFields
+            );
+        }
+    }
+}
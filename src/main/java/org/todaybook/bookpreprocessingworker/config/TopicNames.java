@@ -1,5 +1,7 @@
 package org.todaybook.bookpreprocessingworker.config;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
 import org.springframework.util.StringUtils;
 
 /**
@@ -10,7 +12,10 @@ public class TopicNames {
 
     private final String inputTopic;
     private final String csvInputTopic;
+    private final String envelopeInputTopic;
+    private final String csvChunkInputTopic;
     private final String outputTopic;
+    private final String[] csvInputTopics;
 
     public TopicNames(AppKafkaProperties props) {
         this.inputTopic = resolve(props.getInputTopic(), props);
@@ -18,7 +23,21 @@ public class TopicNames {
             StringUtils.hasText(props.getCsvInputTopic()) ? props.getCsvInputTopic() : props.getInputTopic(),
             props
         );
+        this.envelopeInputTopic = StringUtils.hasText(props.getEnvelopeInputTopic())
+            ? resolve(props.getEnvelopeInputTopic(), props)
+            : null;
+        this.csvChunkInputTopic = StringUtils.hasText(props.getCsvChunkInputTopic())
+            ? resolve(props.getCsvChunkInputTopic(), props)
+            : null;
         this.outputTopic = resolve(props.getOutputTopic(), props);
+
+        Set<String> csvTopics = new LinkedHashSet<>();
+        csvTopics.add(csvInputTopic);
+        props.getColumnMappings().values().forEach(mapping -> csvTopics.addAll(mapping.getTopics()));
+        if (csvChunkInputTopic != null) {
+            csvTopics.remove(csvChunkInputTopic);
+        }
+        this.csvInputTopics = csvTopics.toArray(String[]::new);
     }
 
     private String resolve(String explicit, AppKafkaProperties props) {
@@ -52,6 +71,28 @@ public class TopicNames {
         return csvInputTopic;
     }
 
+    /**
+     * @return the CSV input topic followed by the topics bound to column mappings, which the raw row
+     *     listeners subscribe to together (the chunk topic is left to its own listener)
+     */
+    public String[] csvInputTopics() {
+        return csvInputTopics.clone();
+    }
+
+    /**
+     * @return the Naver envelope topic, or {@code null} when envelope consumption is not configured
+     */
+    public String envelopeInputTopic() {
+        return envelopeInputTopic;
+    }
+
+    /**
+     * @return the multi-row CSV chunk topic, or {@code null} when chunk consumption is not configured
+     */
+    public String csvChunkInputTopic() {
+        return csvChunkInputTopic;
+    }
+
     public String outputTopic() {
         return outputTopic;
     }
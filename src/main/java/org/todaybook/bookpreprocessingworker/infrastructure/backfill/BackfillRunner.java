@@ -0,0 +1,238 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.backfill;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayouts;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookBatchProcessingException;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.config.BackfillProperties;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryFailedException;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+
+/**
+ * Re-imports a local CSV dump without going through the input topics. Rows are read from a memory
+ * mapping of {@code app.backfill.file} and pushed through {@link BookMessageUseCase#processRawRows}, so
+ * normalization and the output topic are the same as in the Kafka path. A row that fails
+ * normalization is logged and skipped; the rest of its batch is resubmitted. Each batch waits for
+ * its books to be acknowledged by the broker ({@link DeliveryTracker#awaitDelivery}); if a send
+ * fails, every row of the batch counts as failed, so the run ends with a non-zero exit code.
+ *
+ * <p>With {@code app.backfill.parallelism > 1} the file is cut into that many row-aligned ranges
+ * ({@link CsvRangePartitioner}) which are read and published concurrently on a {@link ForkJoinPool}.
+ * Output order is then only preserved within a range.
+ *
+ * <p>Rows are read with the column mapping named by {@code app.backfill.column-mapping}. Without
+ * one, a header row skipped with {@code app.backfill.skip-header} is matched against the known
+ * column names ({@link RawRowLayout#detect}); if that fails too, the default layout is used.
+ */
+@Component
+@Profile("backfill")
+public class BackfillRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BackfillRunner.class);
+
+    private final BookMessageUseCase bookMessageUseCase;
+    private final BackfillProperties props;
+    private final ConfigurableApplicationContext context;
+    private final RawRowLayouts layouts;
+    private final DeliveryTracker deliveryTracker;
+
+    public BackfillRunner(
+        BookMessageUseCase bookMessageUseCase,
+        BackfillProperties props,
+        ConfigurableApplicationContext context,
+        RawRowLayouts layouts,
+        DeliveryTracker deliveryTracker
+    ) {
+        this.bookMessageUseCase = bookMessageUseCase;
+        this.props = props;
+        this.context = context;
+        this.layouts = layouts;
+        this.deliveryTracker = deliveryTracker;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path file = props.getFile();
+        // An empty APP_BACKFILL_FILE binds to Path(""), which would resolve to the working directory.
+        if (file == null || file.toString().isBlank()) {
+            throw new IllegalStateException("app.backfill.file must be set in the backfill profile");
+        }
+
+        BackfillReport report = backfill(file);
+        log.info(">>> [backfill] finished {}. rows={}, failed={}, elapsed={}s, rows/sec={}",
+            file, report.rows(), report.failed(), report.elapsedMillis() / 1000.0, report.rowsPerSecond());
+
+        if (props.isExitOnCompletion()) {
+            int exitCode = SpringApplication.exit(context, () -> report.failed() == 0 ? 0 : 1);
+            System.exit(exitCode);
+        }
+    }
+
+    BackfillReport backfill(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int parallelism = Math.max(1, props.getParallelism());
+            log.info(">>> [backfill] reading {} ({} bytes, parallelism={})", file, size, parallelism);
+
+            RawRowLayout layout = resolveLayout(channel);
+            Progress progress = new Progress(size);
+            if (parallelism == 1) {
+                readRange(channel, 0, size, props.isSkipHeader(), layout, progress);
+                return progress.finish();
+            }
+
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                long[] bounds = CsvRangePartitioner.partition(channel, parallelism, props.getWindowSize(), pool);
+                List<Callable<Long>> ranges = new ArrayList<>(bounds.length - 1);
+                for (int i = 0; i < bounds.length - 1; i++) {
+                    long start = bounds[i];
+                    long end = bounds[i + 1];
+                    boolean skipHeader = props.isSkipHeader() && i == 0;
+                    ranges.add(() -> readRange(channel, start, end, skipHeader, layout, progress));
+                }
+                CsvRangePartitioner.invokeAll(pool, ranges);
+            } finally {
+                pool.shutdown();
+            }
+            return progress.finish();
+        }
+    }
+
+    private RawRowLayout resolveLayout(FileChannel channel) throws IOException {
+        String mapping = props.getColumnMapping();
+        if (mapping != null && !mapping.isBlank()) {
+            RawRowLayout layout = layouts.named(mapping);
+            log.info(">>> [backfill] using column mapping '{}': {}", mapping, layout);
+            return layout;
+        }
+        if (!props.isSkipHeader()) {
+            return RawRowLayout.DEFAULT;
+        }
+
+        long headerEnd = CsvRangePartitioner.nextRowStart(channel, 0, false, props.getWindowSize());
+        String[] header = new String[1];
+        new MappedCsvRowReader(props.getWindowSize()).read(channel, 0, headerEnd, (row, endOffset) -> header[0] = row);
+        return RawRowLayout.detect(header[0])
+            .map(detected -> {
+                log.info(">>> [backfill] detected column layout from header: {}", detected);
+                return detected;
+            })
+            .orElseGet(() -> {
+                log.info(">>> [backfill] header row not recognized; using the default column layout");
+                return RawRowLayout.DEFAULT;
+            });
+    }
+
+    private long readRange(
+        FileChannel channel,
+        long start,
+        long end,
+        boolean skipHeader,
+        RawRowLayout layout,
+        Progress progress
+    ) throws IOException {
+        List<String> batch = new ArrayList<>(props.getBatchSize());
+        long[] consumedUpTo = {start};
+        boolean[] headerPending = {skipHeader};
+        long rows = new MappedCsvRowReader(props.getWindowSize()).read(channel, start, end, (row, endOffset) -> {
+            if (headerPending[0]) {
+                headerPending[0] = false;
+                return;
+            }
+            batch.add(row);
+            if (batch.size() >= props.getBatchSize()) {
+                submit(batch, layout, progress);
+                progress.report(endOffset - consumedUpTo[0]);
+                consumedUpTo[0] = endOffset;
+            }
+        });
+        submit(batch, layout, progress);
+        progress.report(end - consumedUpTo[0]);
+        return rows;
+    }
+
+    private void submit(List<String> batch, RawRowLayout layout, Progress progress) {
+        List<String> pending = batch;
+        while (!pending.isEmpty()) {
+            List<String> rows = pending;
+            try {
+                deliveryTracker.awaitDelivery(() -> bookMessageUseCase.processRawRows(rows, layout));
+                progress.rows.add(rows.size());
+                break;
+            } catch (DeliveryFailedException e) {
+                // Which books of the batch were lost is unknown; none of its rows count as imported.
+                log.error(">>> [backfill] {} rows not delivered: {}", rows.size(), e.getCause().toString());
+                progress.rows.add(rows.size());
+                progress.failed.add(rows.size());
+                break;
+            } catch (BookBatchProcessingException e) {
+                int failedIndex = e.failedIndex();
+                log.warn(">>> [backfill] skipping row: {}", e.getCause().toString());
+                progress.rows.add(failedIndex + 1);
+                progress.failed.increment();
+                pending = new ArrayList<>(pending.subList(failedIndex + 1, pending.size()));
+            }
+        }
+        batch.clear();
+    }
+
+    record BackfillReport(long rows, long failed, long elapsedMillis) {
+
+        long rowsPerSecond() {
+            return elapsedMillis == 0 ? rows : rows * 1000 / elapsedMillis;
+        }
+    }
+
+    /**
+     * Counters shared by every range; any range thread may emit the periodic progress line.
+     */
+    private final class Progress {
+
+        private final long size;
+        private final long startedAt = System.nanoTime();
+        private final AtomicLong lastReportAt = new AtomicLong(startedAt);
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        private Progress(long size) {
+            this.size = size;
+        }
+
+        private void report(long consumedBytes) {
+            bytes.add(consumedBytes);
+            long now = System.nanoTime();
+            long last = lastReportAt.get();
+            if (now - last < props.getProgressInterval().toNanos() || !lastReportAt.compareAndSet(last, now)) {
+                return;
+            }
+            long elapsedMillis = Math.max(1, (now - startedAt) / 1_000_000);
+            long processed = rows.sum();
+            log.info(">>> [backfill] {}% rows={}, failed={}, rows/sec={}",
+                size == 0 ? 100 : bytes.sum() * 100 / size, processed, failed.sum(), processed * 1000 / elapsedMillis);
+        }
+
+        private BackfillReport finish() {
+            return new BackfillReport(rows.sum(), failed.sum(), (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+}
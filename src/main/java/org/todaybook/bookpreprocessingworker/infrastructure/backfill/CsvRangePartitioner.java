@@ -0,0 +1,134 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.backfill;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Cuts a CSV dump into byte ranges that each start on a real row boundary, so the ranges can be
+ * read independently. A naive cut may land inside a quoted field, where a {@code \n} is data, so
+ * the quote state at each cut is derived first:
+ * <ol>
+ *   <li>count quotes per naive segment in parallel; {@code ""} escapes add two and keep the parity,</li>
+ *   <li>XOR the parities of the preceding segments to get the state at each cut,</li>
+ *   <li>scan forward from each cut, with that state, to the first {@code \n} outside quotes.</li>
+ * </ol>
+ */
+final class CsvRangePartitioner {
+
+    private CsvRangePartitioner() {
+    }
+
+    /**
+     * @return {@code parts + 1} non-decreasing offsets from {@code 0} to the file size; range
+     *     {@code i} is {@code [bounds[i], bounds[i + 1])} and may be empty
+     */
+    static long[] partition(FileChannel channel, int parts, long windowSize, ExecutorService executor)
+        throws IOException {
+        long size = channel.size();
+        int count = (int) Math.max(1, Math.min(parts, size));
+        long[] cuts = new long[count + 1];
+        for (int i = 0; i <= count; i++) {
+            cuts[i] = size * i / count;
+        }
+
+        List<Callable<Boolean>> parityTasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long from = cuts[i];
+            long to = cuts[i + 1];
+            parityTasks.add(() -> hasOddQuotes(channel, from, to, windowSize));
+        }
+        List<Boolean> oddQuotes = invokeAll(executor, parityTasks);
+
+        List<Callable<Long>> syncTasks = new ArrayList<>(count - 1);
+        boolean inQuotes = false;
+        for (int i = 1; i < count; i++) {
+            inQuotes ^= oddQuotes.get(i - 1);
+            long from = cuts[i];
+            boolean stateAtCut = inQuotes;
+            syncTasks.add(() -> nextRowStart(channel, from, stateAtCut, windowSize));
+        }
+        List<Long> rowStarts = invokeAll(executor, syncTasks);
+
+        long[] bounds = new long[count + 1];
+        for (int i = 1; i < count; i++) {
+            bounds[i] = Math.max(rowStarts.get(i - 1), bounds[i - 1]);
+        }
+        bounds[count] = size;
+        return bounds;
+    }
+
+    static boolean hasOddQuotes(FileChannel channel, long from, long to, long windowSize) throws IOException {
+        boolean odd = false;
+        for (long position = from; position < to; ) {
+            int length = (int) Math.min(windowSize, to - position);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            for (int i = 0; i < length; i++) {
+                if (window.get(i) == '"') {
+                    odd = !odd;
+                }
+            }
+            position += length;
+        }
+        return odd;
+    }
+
+    /**
+     * @return offset just past the first {@code \n} outside quotes at or after {@code from}, or the
+     *     file size if there is none
+     */
+    static long nextRowStart(FileChannel channel, long from, boolean inQuotes, long windowSize) throws IOException {
+        long size = channel.size();
+        for (long position = from; position < size; ) {
+            int length = (int) Math.min(windowSize, size - position);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            for (int i = 0; i < length; i++) {
+                byte b = window.get(i);
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes) {
+                    return position + i + 1;
+                }
+            }
+            position += length;
+        }
+        return size;
+    }
+
+    /**
+     * Runs the tasks on {@code executor} and returns their results in order, rethrowing the first
+     * failure as-is.
+     */
+    static <T> List<T> invokeAll(ExecutorService executor, List<Callable<T>> tasks) throws IOException {
+        try {
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while splitting the dump");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new UncheckedIOException(new IOException(cause));
+        }
+    }
+}
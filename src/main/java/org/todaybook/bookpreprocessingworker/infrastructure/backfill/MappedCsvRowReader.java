@@ -0,0 +1,101 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.backfill;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads quoted CSV rows out of a local dump through {@link FileChannel#map}. The file is mapped in
+ * windows of at most {@code windowSize} bytes; a row cut by a window edge is re-read at the start of
+ * the next window. Row boundaries follow the same rules as {@code RawRowSplitter}: a {@code \n}
+ * outside quotes ends a row ({@code ""} escapes toggle twice), a trailing {@code \r} is dropped and
+ * blank rows are skipped. Instances are not thread-safe.
+ */
+public class MappedCsvRowReader {
+
+    /**
+     * Receives each row with the file offset just past its line ending.
+     */
+    @FunctionalInterface
+    public interface RowSink {
+
+        void accept(String row, long endOffset);
+    }
+
+    private final long windowSize;
+    private byte[] scratch = new byte[4096];
+
+    public MappedCsvRowReader(long windowSize) {
+        if (windowSize <= 0 || windowSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("windowSize must be in (0, " + Integer.MAX_VALUE + "]: " + windowSize);
+        }
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Reads the rows that start in {@code [start, end)}. {@code start} must be a row boundary.
+     *
+     * @return number of rows handed to {@code sink}
+     * @throws IllegalStateException if a single row is longer than the window
+     */
+    public long read(FileChannel channel, long start, long end, RowSink sink) throws IOException {
+        long fileSize = channel.size();
+        long position = start;
+        long rows = 0;
+
+        while (position < end) {
+            long mapped = Math.min(windowSize, fileSize - position);
+            boolean lastWindow = position + mapped >= fileSize;
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, mapped);
+
+            int limit = (int) mapped;
+            int rowStart = 0;
+            boolean inQuotes = false;
+            for (int i = 0; i < limit; i++) {
+                byte b = window.get(i);
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes) {
+                    rows += emit(window, rowStart, i, position + i + 1, sink);
+                    rowStart = i + 1;
+                    if (position + rowStart >= end) {
+                        return rows;
+                    }
+                }
+            }
+
+            if (lastWindow) {
+                rows += emit(window, rowStart, limit, fileSize, sink);
+                return rows;
+            }
+            if (rowStart == 0) {
+                throw new IllegalStateException(
+                    "Row starting at offset " + position + " is longer than the mapping window (" + windowSize + " bytes)");
+            }
+            position += rowStart;
+        }
+        return rows;
+    }
+
+    private int emit(MappedByteBuffer window, int from, int to, long endOffset, RowSink sink) {
+        if (to > from && window.get(to - 1) == '\r') {
+            to--;
+        }
+        boolean blank = true;
+        for (int i = from; i < to && blank; i++) {
+            blank = Character.isWhitespace(window.get(i));
+        }
+        if (blank) {
+            return 0;
+        }
+
+        int length = to - from;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        window.get(from, scratch, 0, length);
+        sink.accept(new String(scratch, 0, length, StandardCharsets.UTF_8), endOffset);
+        return 1;
+    }
+}
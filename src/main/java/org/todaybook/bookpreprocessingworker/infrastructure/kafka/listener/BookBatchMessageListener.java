@@ -0,0 +1,9 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
+
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+public interface BookBatchMessageListener<T> {
+
+    void onMessages(List<ConsumerRecord<String, T>> records);
+}
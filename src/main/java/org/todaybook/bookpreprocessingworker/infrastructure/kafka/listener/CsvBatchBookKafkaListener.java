@@ -0,0 +1,131 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookBatchProcessingException;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.config.AppKafkaProperties;
+import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.PayloadEncoding;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.RawRowLayoutResolver;
+
+/**
+ * Batch variant of {@link CsvBookKafkaListener}, enabled with {@code app.kafka.listener.csv-mode=batch}.
+ * Receives the whole poll and hands the rows to the use case in one call; a failing row is reported
+ * by index so only that record is retried or dead-lettered. A poll spanning topics with different
+ * column layouts is handed over as one call per run of records sharing a layout. The listener
+ * returns only after the books of the poll have been acknowledged by the broker.
+ *
+ * <p>Values are consumed as bytes so {@code content-encoding: gzip|zstd} is honoured as in record
+ * mode: a compressed record ends the current run and its rows are handed over in groups of
+ * {@code app.kafka.listener.chunk-batch-size}; any failure in it is reported at its index.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.kafka.listener", name = "csv-mode", havingValue = "batch")
+public class CsvBatchBookKafkaListener implements BookBatchMessageListener<byte[]> {
+
+    private static final Logger log = LoggerFactory.getLogger(CsvBatchBookKafkaListener.class);
+
+    private final BookMessageUseCase bookMessageUseCase;
+    private final String csvInputTopic;
+    private final int chunkBatchSize;
+    private final RawRowLayoutResolver layoutResolver;
+    private final DeliveryTracker deliveryTracker;
+
+    public CsvBatchBookKafkaListener(
+        BookMessageUseCase bookMessageUseCase,
+        TopicNames topicNames,
+        AppKafkaProperties props,
+        RawRowLayoutResolver layoutResolver,
+        DeliveryTracker deliveryTracker
+    ) {
+        this.bookMessageUseCase = bookMessageUseCase;
+        this.csvInputTopic = topicNames.csvInputTopic();
+        this.chunkBatchSize = Math.max(1, props.getListener().getChunkBatchSize());
+        this.layoutResolver = layoutResolver;
+        this.deliveryTracker = deliveryTracker;
+    }
+
+    @Override
+    @KafkaListener(
+        topics = "#{@topicNames.csvInputTopics()}",
+        groupId = "${app.kafka.csv-group-id:${spring.kafka.consumer.group-id}}",
+        containerFactory = "csvBatchKafkaListenerContainerFactory",
+        autoStartup = "${app.kafka.listener.auto-startup:true}"
+    )
+    public void onMessages(List<ConsumerRecord<String, byte[]>> records) {
+        if (records == null || records.isEmpty()) {
+            return;
+        }
+
+        log.info(">>> [{}] received batch size = {}", csvInputTopic, records.size());
+        deliveryTracker.awaitDelivery(() -> processRuns(records));
+    }
+
+    private void processRuns(List<ConsumerRecord<String, byte[]>> records) {
+        int runStart = 0;
+        RawRowLayout runLayout = null;
+        List<String> rows = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, byte[]> record = records.get(i);
+            RawRowLayout layout;
+            PayloadEncoding encoding;
+            try {
+                layout = layoutResolver.resolve(record);
+                encoding = PayloadEncoding.of(record.headers());
+            } catch (IllegalArgumentException e) {
+                // Rows before the one naming an unknown mapping or encoding are still processed.
+                process(rows, runLayout, runStart);
+                throw new BatchListenerFailedException(e.getMessage(), e, i);
+            }
+            if (encoding.isCompressed() && record.value() != null) {
+                process(rows, runLayout, runStart);
+                rows = new ArrayList<>();
+                runLayout = null;
+                processCompressed(record.value(), encoding, layout, i);
+                continue;
+            }
+            if (layout != runLayout) {
+                process(rows, runLayout, runStart);
+                rows = new ArrayList<>();
+                runStart = i;
+                runLayout = layout;
+            }
+            rows.add(record.value() == null ? null : new String(record.value(), StandardCharsets.UTF_8));
+        }
+        process(rows, runLayout, runStart);
+    }
+
+    private void process(List<String> rows, RawRowLayout layout, int offset) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            bookMessageUseCase.processRawRows(rows, layout);
+        } catch (BookBatchProcessingException e) {
+            throw new BatchListenerFailedException(e.getMessage(), e.getCause(), offset + e.failedIndex());
+        }
+    }
+
+    private void processCompressed(byte[] payload, PayloadEncoding encoding, RawRowLayout layout, int index) {
+        try {
+            int rows = RawRowBatcher.split(payload, encoding, chunkBatchSize,
+                chunk -> bookMessageUseCase.processRawRows(chunk, layout));
+            log.info(">>> [{}] processed {} payload. bytes={}, rows={}", csvInputTopic, encoding, payload.length, rows);
+        } catch (BookBatchProcessingException e) {
+            throw new BatchListenerFailedException(e.getMessage(), e.getCause(), index);
+        } catch (RuntimeException e) {
+            throw new BatchListenerFailedException(e.getMessage(), e, index);
+        }
+    }
+}
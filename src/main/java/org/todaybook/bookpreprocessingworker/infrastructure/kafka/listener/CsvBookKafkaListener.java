@@ -1,34 +1,94 @@
 package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
 import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.config.AppKafkaProperties;
 import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.PayloadEncoding;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.RawRowLayoutResolver;
 
 /**
  * Listener for the topic named "book.raw.csv". Payload is a raw quoted row string, not a CSV file.
+ * Active unless {@code app.kafka.listener.csv-mode} selects another mode.
+ *
+ * <p>A payload compressed at the application level ({@code content-encoding: gzip|zstd}) may carry
+ * many rows; it is decompressed as a stream into the row splitter and processed in groups of
+ * {@code app.kafka.listener.chunk-batch-size}.
+ *
+ * <p>Also subscribes to the topics bound in {@code app.kafka.column-mappings}; each record is parsed
+ * with the column layout chosen by {@link RawRowLayoutResolver}.
+ *
+ * <p>A record is acknowledged once every book published from it has been acknowledged by the broker
+ * ({@link DeliveryTracker}).
  */
 @Component
+@ConditionalOnProperty(prefix = "app.kafka.listener", name = "csv-mode", havingValue = "record", matchIfMissing = true)
 public class CsvBookKafkaListener implements BookMessageListener<String> {
 
     private static final Logger log = LoggerFactory.getLogger(CsvBookKafkaListener.class);
 
     private final BookMessageUseCase bookMessageUseCase;
     private final String csvInputTopic;
+    private final int chunkBatchSize;
+    private final RawRowLayoutResolver layoutResolver;
+    private final DeliveryTracker deliveryTracker;
 
-    public CsvBookKafkaListener(BookMessageUseCase bookMessageUseCase, TopicNames topicNames) {
+    public CsvBookKafkaListener(
+        BookMessageUseCase bookMessageUseCase,
+        TopicNames topicNames,
+        AppKafkaProperties props,
+        RawRowLayoutResolver layoutResolver,
+        DeliveryTracker deliveryTracker
+    ) {
         this.bookMessageUseCase = bookMessageUseCase;
         this.csvInputTopic = topicNames.csvInputTopic();
+        this.chunkBatchSize = Math.max(1, props.getListener().getChunkBatchSize());
+        this.layoutResolver = layoutResolver;
+        this.deliveryTracker = deliveryTracker;
     }
 
-    @Override
     @KafkaListener(
-        topics = "#{@topicNames.csvInputTopic()}",
+        topics = "#{@topicNames.csvInputTopics()}",
         groupId = "${app.kafka.csv-group-id:${spring.kafka.consumer.group-id}}",
-        containerFactory = "csvKafkaListenerContainerFactory"
+        containerFactory = "bytesKafkaListenerContainerFactory",
+        autoStartup = "${app.kafka.listener.auto-startup:true}"
     )
+    public void onRecord(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        deliveryTracker.track(record, ack, () -> process(record));
+    }
+
+    private void process(ConsumerRecord<String, byte[]> record) {
+        byte[] payload = record.value();
+        PayloadEncoding encoding = PayloadEncoding.of(record.headers());
+        RawRowLayout layout = layoutResolver.resolve(record);
+        if (payload == null || !encoding.isCompressed()) {
+            // Parsed from the UTF-8 bytes; unused columns are never decoded. A null payload is
+            // rejected by the use case, with the record's layout like any other row.
+            log.info(">>> [{}] received payload bytes = {}", record.topic(), payload == null ? 0 : payload.length);
+            bookMessageUseCase.processRawRow(payload, layout);
+            return;
+        }
+
+        try (InputStream in = encoding.open(payload)) {
+            int rows = RawRowBatcher.split(in, chunkBatchSize, rows -> bookMessageUseCase.processRawRows(rows, layout));
+            log.info(">>> [{}] processed {} payload. bytes={}, rows={}", record.topic(), encoding, payload.length, rows);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + encoding + " payload on " + record.topic(), e);
+        }
+    }
+
+    @Override
     public void onMessage(String payload) {
         log.info(">>> [{}] received payload length = {}", csvInputTopic, payload == null ? 0 : payload.length());
         bookMessageUseCase.processRawRow(payload);
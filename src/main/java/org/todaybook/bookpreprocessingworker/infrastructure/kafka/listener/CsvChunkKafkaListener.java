@@ -0,0 +1,86 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.config.AppKafkaProperties;
+import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.PayloadEncoding;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.RawRowLayoutResolver;
+
+/**
+ * Listener for payloads carrying many raw rows (e.g. a slice of the national library dump), enabled
+ * when {@code app.kafka.csv-chunk-input-topic} is set. Rows are split from the payload as a stream
+ * and handed to the use case in groups of {@code app.kafka.listener.chunk-batch-size}. A failure
+ * part-way through retries the whole chunk, so earlier rows may be published again (at-least-once).
+ * Chunks compressed with {@code content-encoding: gzip|zstd} are decompressed as they are split.
+ * The column layout of a chunk may be chosen per record with the column mapping header. The chunk
+ * is acknowledged once all of its books have been acknowledged by the broker.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.kafka", name = "csv-chunk-input-topic")
+public class CsvChunkKafkaListener implements BookMessageListener<byte[]> {
+
+    private static final Logger log = LoggerFactory.getLogger(CsvChunkKafkaListener.class);
+
+    private final BookMessageUseCase bookMessageUseCase;
+    private final String csvChunkInputTopic;
+    private final int batchSize;
+    private final RawRowLayoutResolver layoutResolver;
+    private final DeliveryTracker deliveryTracker;
+
+    public CsvChunkKafkaListener(
+        BookMessageUseCase bookMessageUseCase,
+        TopicNames topicNames,
+        AppKafkaProperties props,
+        RawRowLayoutResolver layoutResolver,
+        DeliveryTracker deliveryTracker
+    ) {
+        this.bookMessageUseCase = bookMessageUseCase;
+        this.csvChunkInputTopic = topicNames.csvChunkInputTopic();
+        this.batchSize = Math.max(1, props.getListener().getChunkBatchSize());
+        this.layoutResolver = layoutResolver;
+        this.deliveryTracker = deliveryTracker;
+    }
+
+    @KafkaListener(
+        topics = "#{@topicNames.csvChunkInputTopic()}",
+        groupId = "${app.kafka.csv-group-id:${spring.kafka.consumer.group-id}}",
+        containerFactory = "bytesKafkaListenerContainerFactory",
+        autoStartup = "${app.kafka.listener.auto-startup:true}"
+    )
+    public void onRecord(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        deliveryTracker.track(record, ack, () ->
+            process(record.value(), PayloadEncoding.of(record.headers()), layoutResolver.resolve(record)));
+    }
+
+    @Override
+    public void onMessage(byte[] payload) {
+        process(payload, PayloadEncoding.IDENTITY, RawRowLayout.DEFAULT);
+    }
+
+    private void process(byte[] payload, PayloadEncoding encoding, RawRowLayout layout) {
+        if (payload == null || payload.length == 0) {
+            log.warn(">>> [{}] received empty chunk", csvChunkInputTopic);
+            return;
+        }
+
+        try (InputStream in = encoding.open(payload)) {
+            int total = RawRowBatcher.split(in, batchSize, rows -> bookMessageUseCase.processRawRows(rows, layout));
+            log.info(">>> [{}] processed chunk. encoding={}, bytes={}, rows={}",
+                csvChunkInputTopic, encoding, payload.length, total);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read CSV chunk on " + csvChunkInputTopic, e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookKeyResolver;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.config.AppKafkaProperties;
+import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.parallel.KeyOrderedDispatcher;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.PayloadEncoding;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.RawRowLayoutResolver;
+
+/**
+ * Parallel variant of {@link CsvBookKafkaListener}, enabled with {@code app.kafka.listener.csv-mode=parallel}.
+ * Rows are routed to worker lanes by normalized ISBN, taken from the record key when it is an ISBN
+ * and read from the row otherwise, and read with the record's column layout.
+ *
+ * <p>Values are consumed as bytes, as in record mode: a row is parsed from its UTF-8 bytes, and a
+ * payload compressed with {@code content-encoding: gzip|zstd} is decompressed in its lane and
+ * processed in groups of {@code app.kafka.listener.chunk-batch-size}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.kafka.listener", name = "csv-mode", havingValue = "parallel")
+public class CsvParallelBookKafkaListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CsvParallelBookKafkaListener.class);
+
+    private final BookMessageUseCase bookMessageUseCase;
+    private final BookKeyResolver bookKeyResolver;
+    private final KeyOrderedDispatcher dispatcher;
+    private final String csvInputTopic;
+    private final int chunkBatchSize;
+    private final RawRowLayoutResolver layoutResolver;
+
+    public CsvParallelBookKafkaListener(
+        BookMessageUseCase bookMessageUseCase,
+        BookKeyResolver bookKeyResolver,
+        KeyOrderedDispatcher dispatcher,
+        TopicNames topicNames,
+        AppKafkaProperties props,
+        RawRowLayoutResolver layoutResolver
+    ) {
+        this.bookMessageUseCase = bookMessageUseCase;
+        this.bookKeyResolver = bookKeyResolver;
+        this.dispatcher = dispatcher;
+        this.csvInputTopic = topicNames.csvInputTopic();
+        this.chunkBatchSize = Math.max(1, props.getListener().getChunkBatchSize());
+        this.layoutResolver = layoutResolver;
+    }
+
+    @KafkaListener(
+        topics = "#{@topicNames.csvInputTopics()}",
+        groupId = "${app.kafka.csv-group-id:${spring.kafka.consumer.group-id}}",
+        containerFactory = "csvParallelKafkaListenerContainerFactory",
+        autoStartup = "${app.kafka.listener.auto-startup:true}"
+    )
+    public void onMessage(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        RawRowLayout layout = layoutResolver.resolve(record);
+        PayloadEncoding encoding = PayloadEncoding.of(record.headers());
+        String key = routingKey(record, encoding, layout);
+        log.debug(">>> [{}] dispatching offset={}, key={}", csvInputTopic, record.offset(), key);
+        dispatcher.dispatch(key, record, ack, payload -> process(payload, encoding, layout));
+    }
+
+    private void process(byte[] payload, PayloadEncoding encoding, RawRowLayout layout) {
+        if (payload == null || !encoding.isCompressed()) {
+            bookMessageUseCase.processRawRow(payload, layout);
+            return;
+        }
+        int rows = RawRowBatcher.split(payload, encoding, chunkBatchSize,
+            chunk -> bookMessageUseCase.processRawRows(chunk, layout));
+        log.info(">>> [{}] processed {} payload. bytes={}, rows={}", csvInputTopic, encoding, payload.length, rows);
+    }
+
+    /**
+     * The normalized ISBN of the record key if it is one: the row is then parsed only once, in its
+     * lane. A key in any other form (ISBN-10, hyphens) routes like its ISBN-13, and a key that is
+     * not an ISBN (e.g. a source id) is ignored, so every row of a book shares a lane whatever the
+     * producer keyed it by. An unkeyed compressed payload carries many books and has no single key.
+     */
+    private String routingKey(ConsumerRecord<String, byte[]> record, PayloadEncoding encoding, RawRowLayout layout) {
+        String key = bookKeyResolver.resolveRecordKey(record.key());
+        if (key != null) {
+            return key;
+        }
+        if (encoding.isCompressed()) {
+            return null;
+        }
+        return bookKeyResolver.resolveRawRowKey(record.value(), layout);
+    }
+}
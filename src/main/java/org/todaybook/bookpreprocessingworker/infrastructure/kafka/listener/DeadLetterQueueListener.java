@@ -21,7 +21,8 @@ public class DeadLetterQueueListener {
             "#{@topicNames.csvInputTopic() + '.DLT'}"
         },
         groupId = "dlq-monitor-group",
-        containerFactory = "csvKafkaListenerContainerFactory"
+        containerFactory = "csvKafkaListenerContainerFactory",
+        autoStartup = "${app.kafka.listener.auto-startup:true}"
     )
     public void monitorDeadLetter(
         @Payload String payload,
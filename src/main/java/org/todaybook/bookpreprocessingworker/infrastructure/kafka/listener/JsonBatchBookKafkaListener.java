@@ -0,0 +1,71 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+import org.todaybook.bookpreprocessingworker.application.dto.NaverBookItem;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookBatchProcessingException;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+
+/**
+ * Batch variant of {@link JsonBookKafkaListener}, enabled with {@code app.kafka.listener.json-mode=batch}.
+ * A failing item is reported as a {@link BatchListenerFailedException} carrying its index, so the
+ * error handler commits the records before it and only retries (or dead-letters) the failed one.
+ * The listener returns only after the books of the poll have been acknowledged by the broker, so
+ * the container never commits ahead of them.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.kafka.listener", name = "json-mode", havingValue = "batch")
+public class JsonBatchBookKafkaListener implements BookBatchMessageListener<NaverBookItem> {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonBatchBookKafkaListener.class);
+
+    private final BookMessageUseCase bookMessageUseCase;
+    private final String inputTopic;
+    private final DeliveryTracker deliveryTracker;
+
+    public JsonBatchBookKafkaListener(
+        BookMessageUseCase bookMessageUseCase,
+        TopicNames topicNames,
+        DeliveryTracker deliveryTracker
+    ) {
+        this.bookMessageUseCase = bookMessageUseCase;
+        this.inputTopic = topicNames.inputTopic();
+        this.deliveryTracker = deliveryTracker;
+    }
+
+    @Override
+    @KafkaListener(
+        topics = "#{@topicNames.inputTopic()}",
+        groupId = "${app.kafka.json-group-id:${spring.kafka.consumer.group-id}}",
+        containerFactory = "jsonBatchKafkaListenerContainerFactory",
+        autoStartup = "${app.kafka.listener.auto-startup:true}"
+    )
+    public void onMessages(List<ConsumerRecord<String, NaverBookItem>> records) {
+        if (records == null || records.isEmpty()) {
+            return;
+        }
+
+        List<NaverBookItem> items = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, NaverBookItem> record : records) {
+            items.add(record.value());
+        }
+
+        log.info(">>> [{}] received batch size = {}", inputTopic, items.size());
+        deliveryTracker.awaitDelivery(() -> {
+            try {
+                bookMessageUseCase.processItems(items);
+            } catch (BookBatchProcessingException e) {
+                throw new BatchListenerFailedException(e.getMessage(), e.getCause(), e.failedIndex());
+            }
+        });
+    }
+}
@@ -1,32 +1,51 @@
 package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 import org.todaybook.bookpreprocessingworker.application.dto.NaverBookItem;
 import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
 import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
 
 @Component
+@ConditionalOnProperty(prefix = "app.kafka.listener", name = "json-mode", havingValue = "record", matchIfMissing = true)
 public class JsonBookKafkaListener implements BookMessageListener<NaverBookItem> {
 
     private static final Logger log = LoggerFactory.getLogger(JsonBookKafkaListener.class);
 
     private final BookMessageUseCase bookMessageUseCase;
     private final String inputTopic;
+    private final DeliveryTracker deliveryTracker;
 
-    public JsonBookKafkaListener(BookMessageUseCase bookMessageUseCase, TopicNames topicNames) {
+    public JsonBookKafkaListener(
+        BookMessageUseCase bookMessageUseCase,
+        TopicNames topicNames,
+        DeliveryTracker deliveryTracker
+    ) {
         this.bookMessageUseCase = bookMessageUseCase;
         this.inputTopic = topicNames.inputTopic();
+        this.deliveryTracker = deliveryTracker;
     }
 
-    @Override
+    /**
+     * Acknowledges the record once the book published from it has been acknowledged by the broker.
+     */
     @KafkaListener(
         topics = "#{@topicNames.inputTopic()}",
         groupId = "${app.kafka.json-group-id:${spring.kafka.consumer.group-id}}",
-        containerFactory = "jsonKafkaListenerContainerFactory"
+        containerFactory = "jsonKafkaListenerContainerFactory",
+        autoStartup = "${app.kafka.listener.auto-startup:true}"
     )
+    public void onRecord(ConsumerRecord<String, NaverBookItem> record, Acknowledgment ack) {
+        deliveryTracker.track(record, ack, () -> onMessage(record.value()));
+    }
+
+    @Override
     public void onMessage(NaverBookItem payload) {
         if (payload == null) {
             log.warn(">>> [{}] received null payload", inputTopic);
@@ -0,0 +1,60 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.todaybook.bookpreprocessingworker.application.dto.NaverBookItem;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookKeyResolver;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.parallel.KeyOrderedDispatcher;
+
+/**
+ * Parallel variant of {@link JsonBookKafkaListener}, enabled with {@code app.kafka.listener.json-mode=parallel}.
+ * Items are routed to worker lanes by normalized ISBN.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.kafka.listener", name = "json-mode", havingValue = "parallel")
+public class JsonParallelBookKafkaListener {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonParallelBookKafkaListener.class);
+
+    private final BookMessageUseCase bookMessageUseCase;
+    private final BookKeyResolver bookKeyResolver;
+    private final KeyOrderedDispatcher dispatcher;
+    private final String inputTopic;
+
+    public JsonParallelBookKafkaListener(
+        BookMessageUseCase bookMessageUseCase,
+        BookKeyResolver bookKeyResolver,
+        KeyOrderedDispatcher dispatcher,
+        TopicNames topicNames
+    ) {
+        this.bookMessageUseCase = bookMessageUseCase;
+        this.bookKeyResolver = bookKeyResolver;
+        this.dispatcher = dispatcher;
+        this.inputTopic = topicNames.inputTopic();
+    }
+
+    @KafkaListener(
+        topics = "#{@topicNames.inputTopic()}",
+        groupId = "${app.kafka.json-group-id:${spring.kafka.consumer.group-id}}",
+        containerFactory = "jsonParallelKafkaListenerContainerFactory",
+        autoStartup = "${app.kafka.listener.auto-startup:true}"
+    )
+    public void onMessage(ConsumerRecord<String, NaverBookItem> record, Acknowledgment ack) {
+        if (record.value() == null) {
+            log.warn(">>> [{}] received null payload", inputTopic);
+            ack.acknowledge();
+            return;
+        }
+
+        String key = bookKeyResolver.resolveItemKey(record.value());
+        log.debug(">>> [{}] dispatching offset={}, key={}", inputTopic, record.offset(), key);
+        dispatcher.dispatch(key, record, ack, bookMessageUseCase::processSingleItem);
+    }
+}
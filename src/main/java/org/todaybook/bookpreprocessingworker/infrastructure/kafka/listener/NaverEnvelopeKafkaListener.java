@@ -0,0 +1,78 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.todaybook.bookpreprocessingworker.application.parser.NaverEnvelopeReader;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.PayloadEncoding;
+
+/**
+ * Listener for whole Naver search API responses, enabled when {@code app.kafka.envelope-input-topic} is set.
+ * Items are streamed out of the payload one by one. A failure part-way through retries the whole
+ * envelope, so items before the failure may be published again (at-least-once).
+ * Envelopes compressed with {@code content-encoding: gzip|zstd} are parsed from the decoding stream.
+ * The envelope is acknowledged once all of its books have been acknowledged by the broker.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.kafka", name = "envelope-input-topic")
+public class NaverEnvelopeKafkaListener implements BookMessageListener<byte[]> {
+
+    private static final Logger log = LoggerFactory.getLogger(NaverEnvelopeKafkaListener.class);
+
+    private final BookMessageUseCase bookMessageUseCase;
+    private final NaverEnvelopeReader envelopeReader;
+    private final String envelopeInputTopic;
+    private final DeliveryTracker deliveryTracker;
+
+    public NaverEnvelopeKafkaListener(
+        BookMessageUseCase bookMessageUseCase,
+        NaverEnvelopeReader envelopeReader,
+        TopicNames topicNames,
+        DeliveryTracker deliveryTracker
+    ) {
+        this.bookMessageUseCase = bookMessageUseCase;
+        this.envelopeReader = envelopeReader;
+        this.envelopeInputTopic = topicNames.envelopeInputTopic();
+        this.deliveryTracker = deliveryTracker;
+    }
+
+    @KafkaListener(
+        topics = "#{@topicNames.envelopeInputTopic()}",
+        groupId = "${app.kafka.envelope-group-id:${spring.kafka.consumer.group-id}}",
+        containerFactory = "bytesKafkaListenerContainerFactory",
+        autoStartup = "${app.kafka.listener.auto-startup:true}"
+    )
+    public void onRecord(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        deliveryTracker.track(record, ack, () -> process(record.value(), PayloadEncoding.of(record.headers())));
+    }
+
+    @Override
+    public void onMessage(byte[] payload) {
+        process(payload, PayloadEncoding.IDENTITY);
+    }
+
+    private void process(byte[] payload, PayloadEncoding encoding) {
+        if (payload == null || payload.length == 0) {
+            log.warn(">>> [{}] received empty envelope", envelopeInputTopic);
+            return;
+        }
+
+        try (InputStream in = encoding.open(payload)) {
+            int items = envelopeReader.read(in, bookMessageUseCase::processSingleItem);
+            log.info(">>> [{}] processed envelope. encoding={}, bytes={}, items={}",
+                envelopeInputTopic, encoding, payload.length, items);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed Naver envelope on " + envelopeInputTopic, e);
+        }
+    }
+}
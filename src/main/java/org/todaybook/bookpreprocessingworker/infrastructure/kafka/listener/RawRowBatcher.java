@@ -0,0 +1,56 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowSplitter;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.PayloadEncoding;
+
+/**
+ * Splits a multi-row payload and hands the rows on in groups of at most {@code batchSize}.
+ */
+final class RawRowBatcher {
+
+    private RawRowBatcher() {
+    }
+
+    /**
+     * @return number of rows read from {@code payload}
+     */
+    static int split(InputStream payload, int batchSize, Consumer<List<String>> sink) throws IOException {
+        List<String> rows = new ArrayList<>(batchSize);
+        int total = new RawRowSplitter().split(payload, row -> {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush(rows, sink);
+            }
+        });
+        flush(rows, sink);
+        return total;
+    }
+
+    /**
+     * Decompresses {@code payload} as a stream while splitting it.
+     *
+     * @return number of rows read from {@code payload}
+     * @throws UncheckedIOException if the payload cannot be decompressed
+     */
+    static int split(byte[] payload, PayloadEncoding encoding, int batchSize, Consumer<List<String>> sink) {
+        try (InputStream in = encoding.open(payload)) {
+            return split(in, batchSize, sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + encoding + " payload", e);
+        }
+    }
+
+    private static void flush(List<String> rows, Consumer<List<String>> sink) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        sink.accept(new ArrayList<>(rows));
+        rows.clear();
+    }
+}
@@ -0,0 +1,176 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.parallel;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.BackOffExecution;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+
+/**
+ * Fans records out to a fixed set of worker lanes. Records with the same key always land on the
+ * same lane, so per-key ordering is kept while different keys from one partition run in parallel.
+ *
+ * <p>Each record is acknowledged only after its handler (or, once retries are exhausted, the
+ * recoverer) completed and the books it published were acknowledged ({@link DeliveryTracker}). Combined with a container using {@code AckMode.MANUAL} and async acks, the
+ * committed offset of a partition never passes the lowest record that is still in flight.
+ * Submitting blocks while the target lane is full, which back-pressures the consumer thread.
+ */
+public class KeyOrderedDispatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(KeyOrderedDispatcher.class);
+    private static final long POLL_INTERVAL_MS = 100L;
+    private static final long CLOSE_TIMEOUT_MS = 30_000L;
+
+    private final Lane[] lanes;
+    private final ConsumerRecordRecoverer recoverer;
+    private final BackOff backOff;
+    private final DeliveryTracker deliveryTracker;
+
+    public KeyOrderedDispatcher(
+        int laneCount,
+        int laneCapacity,
+        boolean virtualThreads,
+        ConsumerRecordRecoverer recoverer,
+        BackOff backOff,
+        DeliveryTracker deliveryTracker
+    ) {
+        if (laneCount < 1 || laneCapacity < 1) {
+            throw new IllegalArgumentException(
+                "laneCount and laneCapacity must be positive. laneCount=" + laneCount + ", laneCapacity=" + laneCapacity);
+        }
+        this.recoverer = recoverer;
+        this.backOff = backOff;
+        this.deliveryTracker = deliveryTracker;
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i, laneCapacity, virtualThreads);
+        }
+        log.info("Started key-ordered dispatcher. lanes={}, laneCapacity={}, virtualThreads={}",
+            laneCount, laneCapacity, virtualThreads);
+    }
+
+    /**
+     * Queues the record on the lane owning {@code key}. Blocks while that lane is full.
+     *
+     * @param key ordering key; records without a key are spread by offset
+     */
+    public <V> void dispatch(String key, ConsumerRecord<String, V> record, Acknowledgment ack, Consumer<V> handler) {
+        Lane lane = lanes[laneIndex(key, record)];
+        try {
+            lane.queue.put(() -> process(record, ack, handler));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                "Interrupted while queueing record. topic=" + record.topic() + ", offset=" + record.offset(), e);
+        }
+    }
+
+    int laneIndex(String key, ConsumerRecord<String, ?> record) {
+        int hash = key != null ? key.hashCode() : Long.hashCode(record.offset());
+        return Math.floorMod(hash, lanes.length);
+    }
+
+    private <V> void process(ConsumerRecord<String, V> record, Acknowledgment ack, Consumer<V> handler) {
+        BackOffExecution execution = backOff.start();
+        while (true) {
+            try {
+                deliveryTracker.track(record, ack, () -> handler.accept(record.value()));
+                return;
+            } catch (RuntimeException e) {
+                long waitMs = execution.nextBackOff();
+                if (waitMs == BackOffExecution.STOP) {
+                    recover(record, ack, e);
+                    return;
+                }
+                log.warn("Lane processing failed, retrying. topic={}, partition={}, offset={}, ex={}",
+                    record.topic(), record.partition(), record.offset(), e.getMessage());
+                if (!sleep(waitMs)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void recover(ConsumerRecord<String, ?> record, Acknowledgment ack, RuntimeException cause) {
+        log.error("Lane processing failed after retries, sending to DLT. topic={}, partition={}, offset={}, ex={}",
+            record.topic(), record.partition(), record.offset(), cause.getMessage());
+        try {
+            recoverer.accept(record, null, cause);
+            ack.acknowledge();
+        } catch (RuntimeException e) {
+            // Leaving the record unacknowledged holds the partition's commit back, so it is redelivered.
+            log.error("Failed to recover record; offset stays uncommitted. topic={}, partition={}, offset={}",
+                record.topic(), record.partition(), record.offset(), e);
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Stops accepting work once the queued tasks are drained, waiting up to 30 seconds per lane.
+     */
+    @Override
+    public void close() {
+        for (Lane lane : lanes) {
+            lane.running = false;
+        }
+        for (Lane lane : lanes) {
+            try {
+                lane.thread.join(CLOSE_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (lane.thread.isAlive()) {
+                log.warn("Lane did not drain in time. lane={}, pending={}", lane.index, lane.queue.size());
+                lane.thread.interrupt();
+            }
+        }
+    }
+
+    private static final class Lane {
+
+        private final int index;
+        private final BlockingQueue<Runnable> queue;
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        private Lane(int index, int capacity, boolean virtualThreads) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+            this.thread = builder.name("book-lane-" + index).start(this::run);
+        }
+
+        private void run() {
+            while (running || !queue.isEmpty()) {
+                try {
+                    Runnable task = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                    if (task != null) {
+                        task.run();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    log.error("Unexpected error on lane {}", index, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+import org.todaybook.bookpreprocessingworker.domain.model.Book;
+
+/**
+ * Writes {@link Book} as JSON straight through a {@link JsonGenerator}, without the reflective
+ * bean serializer. The output is byte for byte what {@code ObjectMapper} with {@code JavaTimeModule}
+ * and ISO dates produces for the record: components in declaration order, nulls written, dates as
+ * {@code "yyyy-MM-dd"}, strings escaped by the same generator.
+ *
+ * <p>Field names are pre-encoded, and the bytes are collected in a per-thread buffer that is reused
+ * across records, so the only allocation left per record is the returned array.
+ */
+public class BookJsonSerializer implements Serializer<Book> {
+
+    private static final SerializableString ISBN = new SerializedString("isbn");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString CATEGORIES = new SerializedString("categories");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString AUTHOR = new SerializedString("author");
+    private static final SerializableString PUBLISHER = new SerializedString("publisher");
+    private static final SerializableString PUBLISHED_AT = new SerializedString("publishedAt");
+    private static final SerializableString THUMBNAIL = new SerializedString("thumbnail");
+
+    // Serialization runs on the thread calling send(): consumer threads, lanes and backfill workers.
+    private static final ThreadLocal<ReusableBuffer> BUFFERS = ThreadLocal.withInitial(ReusableBuffer::new);
+
+    private final JsonFactory jsonFactory;
+
+    public BookJsonSerializer(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Book book) {
+        if (book == null) {
+            return null;
+        }
+        ReusableBuffer buffer = BUFFERS.get();
+        buffer.reset();
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer, JsonEncoding.UTF8)) {
+            write(generator, book);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to serialize book for topic " + topic, e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void write(JsonGenerator generator, Book book) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(ISBN);
+        generator.writeString(book.isbn());
+        generator.writeFieldName(TITLE);
+        generator.writeString(book.title());
+        generator.writeFieldName(CATEGORIES);
+        generator.writeStartArray();
+        for (String category : book.categories()) {
+            generator.writeString(category);
+        }
+        generator.writeEndArray();
+        generator.writeFieldName(DESCRIPTION);
+        generator.writeString(book.description());
+        generator.writeFieldName(AUTHOR);
+        generator.writeString(book.author());
+        generator.writeFieldName(PUBLISHER);
+        generator.writeString(book.publisher());
+        generator.writeFieldName(PUBLISHED_AT);
+        // LocalDate.toString() is ISO_LOCAL_DATE, which is what JavaTimeModule writes.
+        generator.writeString(book.publishedAt() == null ? null : book.publishedAt().toString());
+        generator.writeFieldName(THUMBNAIL);
+        generator.writeString(book.thumbnail());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Growable byte sink that keeps its array between records. An array grown past
+     * {@link #MAX_RETAINED_SIZE} by an unusually large record is dropped on the next reset.
+     */
+    static final class ReusableBuffer extends OutputStream {
+
+        static final int INITIAL_SIZE = 2048;
+        static final int MAX_RETAINED_SIZE = 64 * 1024;
+
+        private byte[] bytes = new byte[INITIAL_SIZE];
+        private int count;
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            bytes[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, bytes, count, len);
+            count += len;
+        }
+
+        void reset() {
+            if (bytes.length > MAX_RETAINED_SIZE) {
+                bytes = new byte[INITIAL_SIZE];
+            }
+            count = 0;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, count);
+        }
+
+        int capacity() {
+            return bytes.length;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length << 1));
+            }
+        }
+    }
+}
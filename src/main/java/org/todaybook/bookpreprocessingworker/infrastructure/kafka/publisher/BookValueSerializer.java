@@ -0,0 +1,57 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.todaybook.bookpreprocessingworker.config.OutputFormat;
+import org.todaybook.bookpreprocessingworker.domain.model.Book;
+import org.todaybook.common.book.codec.BookContentType;
+import org.todaybook.common.book.codec.BookMessage;
+import org.todaybook.common.book.codec.BookMessageSerializer;
+
+/**
+ * Serializes output books in the configured {@link OutputFormat} and labels each record with the
+ * matching {@value BookContentType#HEADER} header.
+ */
+public class BookValueSerializer implements Serializer<Book> {
+
+    private final Serializer<Book> jsonSerializer;
+    private final BookMessageSerializer binarySerializer = new BookMessageSerializer();
+    private final OutputFormat format;
+
+    public BookValueSerializer(Serializer<Book> jsonSerializer, OutputFormat format) {
+        this.jsonSerializer = jsonSerializer;
+        this.format = format;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Book data) {
+        return switch (format) {
+            case JSON -> jsonSerializer.serialize(topic, data);
+            case BINARY -> binarySerializer.serialize(topic, toMessage(data));
+        };
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Book data) {
+        return switch (format) {
+            case JSON -> {
+                BookContentType.JSON.writeTo(headers);
+                yield jsonSerializer.serialize(topic, headers, data);
+            }
+            case BINARY -> binarySerializer.serialize(topic, headers, toMessage(data));
+        };
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+
+    private static BookMessage toMessage(Book book) {
+        if (book == null) {
+            return null;
+        }
+        return new BookMessage(book.isbn(), book.title(), book.categories(), book.description(), book.author(),
+            book.publisher(), book.publishedAt(), book.thumbnail());
+    }
+}
@@ -0,0 +1,12 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher;
+
+/**
+ * A book was handed to the producer but never acknowledged by the broker, so the input it was
+ * derived from must not be committed.
+ */
+public class DeliveryFailedException extends RuntimeException {
+
+    public DeliveryFailedException(Throwable cause) {
+        super("Book was not acknowledged by the broker: " + cause.getMessage(), cause);
+    }
+}
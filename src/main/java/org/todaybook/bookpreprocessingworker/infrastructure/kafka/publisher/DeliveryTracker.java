@@ -0,0 +1,307 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+/**
+ * Ties output sends to the input record they were derived from, so an input offset is committed
+ * only after the broker acked every book published while processing it.
+ *
+ * <p>Sends are not awaited one by one. They stay pipelined up to a window of in-flight records and
+ * (estimated) bytes; {@link #send} blocks while the window is full, which back-pressures the
+ * consumer thread before the producer buffer runs out.
+ *
+ * <ul>
+ *   <li>{@link #track} is for record listeners on a container with {@code AckMode.MANUAL} and async
+ *       acks: the record is acknowledged from the producer callback once its last send is acked. If
+ *       a send fails after the producer's own retries, the input record is handed to the recoverer
+ *       (dead-lettered) and then acknowledged; if that fails too, it stays unacknowledged and holds
+ *       its partition's commit back.</li>
+ *   <li>{@link #awaitDelivery} is for batch listeners: the sends of the whole poll are pipelined and
+ *       awaited once before the listener returns and the container commits.</li>
+ * </ul>
+ *
+ * <p>Sends made outside either scope still count against the window; their failures are only
+ * logged. The backfill runner therefore wraps each batch in {@link #awaitDelivery} as well.
+ *
+ * <p>When a producer transaction is active on the calling thread (a transactional listener
+ * container), the container commits the input offsets in that transaction, which only commits once
+ * every send of it succeeded. Both scopes then just run the work; records are acknowledged right
+ * away on the consumer thread, inside the transaction. Callers outside a transaction, such as the
+ * backfill runner, are tracked as usual even when transactions are enabled.
+ */
+public class DeliveryTracker implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DeliveryTracker.class);
+    private static final long CLOSE_TIMEOUT_MS = 30_000L;
+
+    private final int maxInFlightBytes;
+    private final Semaphore records;
+    private final Semaphore bytes;
+    private final ConsumerRecordRecoverer recoverer;
+    private final ExecutorService recoveryExecutor;
+    private final BooleanSupplier transactionActive;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
+
+    public DeliveryTracker(int maxInFlightRecords, long maxInFlightBytes, ConsumerRecordRecoverer recoverer) {
+        this(maxInFlightRecords, maxInFlightBytes, recoverer, () -> false);
+    }
+
+    /**
+     * @param transactionActive whether the calling thread runs inside a producer transaction, e.g.
+     *     {@code KafkaTemplate::inTransaction} of the template the books are sent with
+     */
+    public DeliveryTracker(
+        int maxInFlightRecords,
+        long maxInFlightBytes,
+        ConsumerRecordRecoverer recoverer,
+        BooleanSupplier transactionActive
+    ) {
+        if (maxInFlightRecords < 1 || maxInFlightBytes < 1) {
+            throw new IllegalArgumentException("maxInFlightRecords and maxInFlightBytes must be positive. maxInFlightRecords="
+                + maxInFlightRecords + ", maxInFlightBytes=" + maxInFlightBytes);
+        }
+        this.maxInFlightBytes = (int) Math.min(maxInFlightBytes, Integer.MAX_VALUE);
+        this.records = new Semaphore(maxInFlightRecords);
+        this.bytes = new Semaphore(this.maxInFlightBytes);
+        this.recoverer = recoverer;
+        this.transactionActive = transactionActive;
+        // Dead-lettering blocks on its own send, which must not happen on the producer's I/O thread.
+        this.recoveryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "book-delivery-recovery");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Started delivery tracker. maxInFlightRecords={}, maxInFlightBytes={}",
+            maxInFlightRecords, this.maxInFlightBytes);
+    }
+
+    /**
+     * Runs {@code work} and acknowledges {@code record} once every send it made has been acked. If
+     * {@code work} throws, the record is left to the container's error handler and not acknowledged
+     * here.
+     */
+    public void track(ConsumerRecord<?, ?> record, Acknowledgment ack, Runnable work) {
+        if (transactionActive.getAsBoolean()) {
+            work.run();
+            ack.acknowledge();
+            return;
+        }
+        Scope scope = new Scope(failure -> {
+            if (failure == null) {
+                ack.acknowledge();
+            } else {
+                recoverLater(record, ack, failure);
+            }
+        });
+        runInScope(scope, work);
+        scope.done(null);
+    }
+
+    /**
+     * Runs {@code work} and waits until every send it made has completed, including when
+     * {@code work} throws: records before a reported failure are committed by the error handler,
+     * so their books must have landed first.
+     *
+     * @throws DeliveryFailedException if a send failed; takes precedence over a failure of
+     *     {@code work}, which is added as suppressed
+     */
+    public void awaitDelivery(Runnable work) {
+        if (transactionActive.getAsBoolean()) {
+            work.run();
+            return;
+        }
+        CompletableFuture<Throwable> delivered = new CompletableFuture<>();
+        Scope scope = new Scope(delivered::complete);
+        RuntimeException workFailure = null;
+        try {
+            runInScope(scope, work);
+        } catch (RuntimeException e) {
+            workFailure = e;
+        }
+        scope.done(null);
+
+        Throwable deliveryFailure = await(delivered);
+        if (deliveryFailure != null) {
+            DeliveryFailedException e = new DeliveryFailedException(deliveryFailure);
+            if (workFailure != null) {
+                e.addSuppressed(workFailure);
+            }
+            throw e;
+        }
+        if (workFailure != null) {
+            throw workFailure;
+        }
+    }
+
+    /**
+     * Reserves room in the window, blocking while it is full, and starts the send. The room is
+     * released when the returned future completes.
+     *
+     * @param size estimated serialized size; a record larger than the whole window takes all of it
+     */
+    public <T> CompletableFuture<T> send(int size, Supplier<CompletableFuture<T>> send) {
+        int cost = Math.min(Math.max(size, 1), maxInFlightBytes);
+        acquire(cost);
+
+        Scope scope = currentScope.get();
+        if (scope != null) {
+            scope.add();
+        }
+        CompletableFuture<T> future;
+        try {
+            future = send.get();
+        } catch (RuntimeException e) {
+            release(cost);
+            if (scope != null) {
+                // Reported through the caller's own exception, not as a delivery failure.
+                scope.done(null);
+            }
+            throw e;
+        }
+
+        future.whenComplete((result, ex) -> {
+            release(cost);
+            if (scope != null) {
+                scope.done(ex);
+            } else if (ex != null) {
+                log.error("Untracked send failed", ex);
+            }
+        });
+        return future;
+    }
+
+    int inFlightRecords() {
+        return inFlight.get();
+    }
+
+    private void acquire(int cost) {
+        try {
+            records.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the send window", e);
+        }
+        try {
+            bytes.acquire(cost);
+        } catch (InterruptedException e) {
+            records.release();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the send window", e);
+        }
+        inFlight.incrementAndGet();
+    }
+
+    private void release(int cost) {
+        inFlight.decrementAndGet();
+        bytes.release(cost);
+        records.release();
+    }
+
+    private void runInScope(Scope scope, Runnable work) {
+        Scope outer = currentScope.get();
+        currentScope.set(scope);
+        try {
+            work.run();
+        } finally {
+            if (outer == null) {
+                currentScope.remove();
+            } else {
+                currentScope.set(outer);
+            }
+        }
+    }
+
+    private Throwable await(CompletableFuture<Throwable> delivered) {
+        try {
+            return delivered.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for sends to be acknowledged", e);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+    }
+
+    private void recoverLater(ConsumerRecord<?, ?> record, Acknowledgment ack, Throwable failure) {
+        try {
+            recoveryExecutor.execute(() -> recover(record, ack, failure));
+        } catch (RejectedExecutionException e) {
+            log.error("Send failed while shutting down; offset stays uncommitted. topic={}, partition={}, offset={}",
+                record.topic(), record.partition(), record.offset(), failure);
+        }
+    }
+
+    private void recover(ConsumerRecord<?, ?> record, Acknowledgment ack, Throwable failure) {
+        log.error("Send failed, sending input record to DLT. topic={}, partition={}, offset={}, ex={}",
+            record.topic(), record.partition(), record.offset(), failure.getMessage());
+        try {
+            recoverer.accept(record, null, new DeliveryFailedException(failure));
+            ack.acknowledge();
+        } catch (RuntimeException e) {
+            // Leaving the record unacknowledged holds the partition's commit back, so it is redelivered.
+            log.error("Failed to recover record; offset stays uncommitted. topic={}, partition={}, offset={}",
+                record.topic(), record.partition(), record.offset(), e);
+        }
+    }
+
+    /**
+     * Lets pending recoveries finish, waiting up to 30 seconds.
+     */
+    @Override
+    public void close() {
+        recoveryExecutor.shutdown();
+        try {
+            if (!recoveryExecutor.awaitTermination(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                log.warn("Delivery recovery did not finish in time");
+                recoveryExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sends made on one thread while one input is processed. Holds one extra count until the work
+     * is done, so it cannot complete while sends are still being added.
+     */
+    private static final class Scope {
+
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final Consumer<Throwable> onComplete;
+
+        private Scope(Consumer<Throwable> onComplete) {
+            this.onComplete = onComplete;
+        }
+
+        void add() {
+            pending.incrementAndGet();
+        }
+
+        void done(Throwable ex) {
+            if (ex != null) {
+                failure.compareAndSet(null, ex);
+            }
+            if (pending.decrementAndGet() == 0) {
+                onComplete.accept(failure.get());
+            }
+        }
+    }
+}
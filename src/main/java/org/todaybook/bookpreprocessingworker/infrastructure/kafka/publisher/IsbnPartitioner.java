@@ -0,0 +1,71 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.clients.producer.Partitioner;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.utils.Utils;
+import org.todaybook.bookpreprocessingworker.config.OutputPartitioning;
+
+/**
+ * Producer partitioner for the ISBN-keyed output topic ({@code partitioner.class}). Placement only
+ * depends on the key and the partition count, so a book always lands on the same partition of a
+ * topic; see {@link OutputPartitioning} for the strategies. Records without a key, which the
+ * publisher does not produce, are spread round-robin.
+ */
+public class IsbnPartitioner implements Partitioner {
+
+    public static final String STRATEGY_CONFIG = "book.partitioner.strategy";
+    public static final String PREFIX_LENGTH_CONFIG = "book.partitioner.registrant-prefix-length";
+
+    private static final int DEFAULT_PREFIX_LENGTH = 8;
+
+    private final AtomicInteger unkeyed = new AtomicInteger();
+    private OutputPartitioning strategy = OutputPartitioning.MURMUR2;
+    private int prefixLength = DEFAULT_PREFIX_LENGTH;
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        Object strategyValue = configs.get(STRATEGY_CONFIG);
+        if (strategyValue != null) {
+            strategy = strategyValue instanceof OutputPartitioning partitioning
+                ? partitioning
+                : OutputPartitioning.valueOf(strategyValue.toString().trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+        Object prefixValue = configs.get(PREFIX_LENGTH_CONFIG);
+        if (prefixValue != null) {
+            prefixLength = Integer.parseInt(prefixValue.toString().trim());
+            if (prefixLength < 1) {
+                throw new ConfigException(PREFIX_LENGTH_CONFIG, prefixValue, "must be positive");
+            }
+        }
+    }
+
+    @Override
+    public int partition(String topic, Object key, byte[] keyBytes, Object value, byte[] valueBytes, Cluster cluster) {
+        int partitions = cluster.partitionCountForTopic(topic);
+        if (keyBytes == null) {
+            return Utils.toPositive(unkeyed.getAndIncrement()) % partitions;
+        }
+        return partition(keyBytes, partitions);
+    }
+
+    int partition(byte[] keyBytes, int partitions) {
+        if (strategy == OutputPartitioning.REGISTRANT_GROUP && keyBytes.length > prefixLength) {
+            return Utils.toPositive(Utils.murmur2(Arrays.copyOf(keyBytes, prefixLength))) % partitions;
+        }
+        return Utils.toPositive(Utils.murmur2(keyBytes)) % partitions;
+    }
+
+    int partition(String key, int partitions) {
+        return partition(key.getBytes(StandardCharsets.UTF_8), partitions);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -1,27 +1,43 @@
 package org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher;
 
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 import org.todaybook.bookpreprocessingworker.application.port.out.BookMessagePublisher;
+import org.todaybook.bookpreprocessingworker.application.port.out.BookPublishException;
 import org.todaybook.bookpreprocessingworker.config.TopicNames;
 import org.todaybook.bookpreprocessingworker.domain.model.Book;
+import org.todaybook.common.book.codec.BookBinaryCodec;
 
 /**
- * Kafka-based implementation of the outbound port for parsed books.
+ * Kafka-based implementation of the outbound port for parsed books. Records are keyed by the
+ * normalized ISBN, so every version of a book lands on one partition ({@link IsbnPartitioner}) and
+ * a compacted topic keeps only the latest. Sends are asynchronous and go through the
+ * {@link DeliveryTracker}, which bounds how many are in flight and holds the input offset back
+ * until they are acknowledged.
  */
 @Component
 public class KafkaBookMessagePublisher implements BookMessagePublisher {
 
     private static final Logger log = LoggerFactory.getLogger(KafkaBookMessagePublisher.class);
 
+    // Field names, quotes and separators of the JSON form, roughly.
+    private static final int JSON_OVERHEAD = 128;
+
     private final KafkaTemplate<String, Book> kafkaTemplate;
     private final String outputTopic;
+    private final DeliveryTracker deliveryTracker;
 
-    public KafkaBookMessagePublisher(KafkaTemplate<String, Book> kafkaTemplate, TopicNames topicNames) {
+    public KafkaBookMessagePublisher(
+        KafkaTemplate<String, Book> kafkaTemplate,
+        TopicNames topicNames,
+        DeliveryTracker deliveryTracker
+    ) {
         this.kafkaTemplate = kafkaTemplate;
         this.outputTopic = topicNames.outputTopic();
+        this.deliveryTracker = deliveryTracker;
     }
 
     @Override
@@ -31,8 +47,48 @@ public class KafkaBookMessagePublisher implements BookMessagePublisher {
             return;
         }
 
-        String key = book.cleanIsbnKey();
-        kafkaTemplate.send(outputTopic, book);
+        send(book);
         log.info("Published book. isbn={}, topic={}", book.isbn(), outputTopic);
     }
+
+    @Override
+    public void publishAll(List<Book> books) {
+        if (books == null || books.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < books.size(); i++) {
+            Book book = books.get(i);
+            try {
+                send(book);
+            } catch (RuntimeException e) {
+                throw new BookPublishException(i, e);
+            }
+            log.debug("Published book. isbn={}, topic={}", book.isbn(), outputTopic);
+        }
+        log.info("Published book batch. size={}, topic={}", books.size(), outputTopic);
+    }
+
+    private void send(Book book) {
+        String key = book.cleanIsbnKey();
+        deliveryTracker.send(estimatedSize(book), () -> kafkaTemplate.send(outputTopic, key, book));
+    }
+
+    /**
+     * UTF-8 length of the values plus a fixed allowance for the JSON around them. Only used to
+     * size the in-flight window, so it need not match the serializer exactly.
+     */
+    static int estimatedSize(Book book) {
+        int size = JSON_OVERHEAD
+            + BookBinaryCodec.utf8Length(book.isbn())
+            + BookBinaryCodec.utf8Length(book.title())
+            + BookBinaryCodec.utf8Length(book.description())
+            + BookBinaryCodec.utf8Length(book.author())
+            + BookBinaryCodec.utf8Length(book.publisher())
+            + BookBinaryCodec.utf8Length(book.thumbnail());
+        for (String category : book.categories()) {
+            size += BookBinaryCodec.utf8Length(category) + 3;
+        }
+        return book.publishedAt() == null ? size : size + 12;
+    }
 }
@@ -0,0 +1,59 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Wraps a value deserializer so that payloads flagged by {@link PayloadEncoding#HEADER} are
+ * decompressed and read straight from the decoding stream. Uncompressed payloads go to the
+ * delegate untouched.
+ */
+public class ContentDecodingDeserializer<T> implements Deserializer<T> {
+
+    @FunctionalInterface
+    public interface StreamReader<T> {
+
+        T read(InputStream in) throws IOException;
+    }
+
+    private final Deserializer<T> delegate;
+    private final StreamReader<T> streamReader;
+
+    public ContentDecodingDeserializer(Deserializer<T> delegate, StreamReader<T> streamReader) {
+        this.delegate = delegate;
+        this.streamReader = streamReader;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        delegate.configure(configs, isKey);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        return delegate.deserialize(topic, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        PayloadEncoding encoding = PayloadEncoding.of(headers);
+        if (data == null || !encoding.isCompressed()) {
+            return delegate.deserialize(topic, headers, data);
+        }
+
+        try (InputStream in = encoding.open(data)) {
+            return streamReader.read(in);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to read " + encoding + " payload on " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
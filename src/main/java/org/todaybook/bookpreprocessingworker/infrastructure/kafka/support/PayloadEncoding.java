@@ -0,0 +1,65 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.support;
+
+import com.github.luben.zstd.ZstdInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * Application-level compression of a record value, signalled by the {@value #HEADER} header
+ * ({@code gzip} or {@code zstd}). Independent of the producer's {@code compression.type}: the
+ * broker stores these payloads as opaque bytes.
+ */
+public enum PayloadEncoding {
+
+    IDENTITY,
+    GZIP,
+    ZSTD;
+
+    public static final String HEADER = "content-encoding";
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    /**
+     * @throws IllegalArgumentException if the header names an encoding this worker cannot read
+     */
+    public static PayloadEncoding of(Headers headers) {
+        Header header = (headers == null) ? null : headers.lastHeader(HEADER);
+        if (header == null || header.value() == null) {
+            return IDENTITY;
+        }
+
+        String value = new String(header.value(), StandardCharsets.US_ASCII).trim();
+        if (value.isEmpty() || value.equalsIgnoreCase("identity")) {
+            return IDENTITY;
+        }
+        if (value.equalsIgnoreCase("gzip")) {
+            return GZIP;
+        }
+        if (value.equalsIgnoreCase("zstd")) {
+            return ZSTD;
+        }
+        throw new IllegalArgumentException("Unsupported " + HEADER + ": " + value);
+    }
+
+    public boolean isCompressed() {
+        return this != IDENTITY;
+    }
+
+    /**
+     * Opens a decoding stream over {@code payload}. Bytes are inflated as they are read;
+     * the decompressed payload is never held as a whole.
+     */
+    public InputStream open(byte[] payload) throws IOException {
+        InputStream raw = new ByteArrayInputStream(payload);
+        return switch (this) {
+            case IDENTITY -> raw;
+            case GZIP -> new GZIPInputStream(raw, GZIP_BUFFER_SIZE);
+            case ZSTD -> new ZstdInputStream(raw);
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.support;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.stereotype.Component;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayouts;
+import org.todaybook.bookpreprocessingworker.application.parser.UnknownColumnMappingException;
+import org.todaybook.bookpreprocessingworker.config.AppKafkaProperties;
+
+/**
+ * Picks the {@link RawRowLayout} of a raw row record: the profile named by the
+ * {@code app.kafka.column-mapping-header} header if present, else the profile bound to the record's
+ * topic, else the default layout. An unknown profile name fails the record with
+ * {@link UnknownColumnMappingException}, which the error handlers dead-letter without retrying.
+ */
+@Component
+public class RawRowLayoutResolver {
+
+    private final RawRowLayouts layouts;
+    private final String headerName;
+
+    public RawRowLayoutResolver(RawRowLayouts layouts, AppKafkaProperties props) {
+        this.layouts = layouts;
+        this.headerName = props.getColumnMappingHeader();
+    }
+
+    public RawRowLayout resolve(ConsumerRecord<?, ?> record) {
+        Header header = headerName == null ? null : record.headers().lastHeader(headerName);
+        String profile = (header == null || header.value() == null)
+            ? null
+            : new String(header.value(), StandardCharsets.UTF_8);
+        return layouts.resolve(record.topic(), profile);
+    }
+}
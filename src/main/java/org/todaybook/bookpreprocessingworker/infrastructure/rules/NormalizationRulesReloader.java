@@ -0,0 +1,104 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.rules;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.boot.env.PropertySourceLoader;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Component;
+import org.todaybook.bookpreprocessingworker.application.normalize.NormalizationRules;
+import org.todaybook.bookpreprocessingworker.application.port.in.NormalizationRulesUseCase;
+import org.todaybook.bookpreprocessingworker.config.PreprocessingProperties;
+
+/**
+ * Loads {@code app.preprocessing.rules-file} at startup and polls it every
+ * {@code app.preprocessing.rules-reload-interval}. A changed file is bound like
+ * {@code app.preprocessing.rules}, compiled and handed to {@link NormalizationRulesUseCase} as a
+ * whole. An invalid file fails startup; later, it is logged and the running rules are kept.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.preprocessing", name = "rules-file")
+public class NormalizationRulesReloader implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(NormalizationRulesReloader.class);
+
+    private final NormalizationRulesUseCase rulesUseCase;
+    private final Path file;
+    private final ScheduledExecutorService scheduler;
+    // Only touched by the constructor and then the scheduler thread.
+    private FileTime lastModified;
+    private long lastSize = -1;
+
+    public NormalizationRulesReloader(NormalizationRulesUseCase rulesUseCase, PreprocessingProperties props) {
+        this.rulesUseCase = rulesUseCase;
+        this.file = props.getRulesFile();
+        try {
+            reload();
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Failed to load normalization rules from " + file, e);
+        }
+
+        long interval = props.getRulesReloadInterval().toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "normalization-rules-reloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::reloadIfChanged, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return whether new rules were applied
+     */
+    boolean reloadIfChanged() {
+        try {
+            if (Files.getLastModifiedTime(file).equals(lastModified) && Files.size(file) == lastSize) {
+                return false;
+            }
+            reload();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // The file is not retried until it changes again.
+            log.error("Keeping the current normalization rules; {} could not be applied", file, e);
+            return false;
+        }
+    }
+
+    private void reload() throws IOException {
+        lastModified = Files.getLastModifiedTime(file);
+        lastSize = Files.size(file);
+
+        NormalizationRules rules = load(file);
+        rulesUseCase.replaceRules(rules);
+        log.info("Applied normalization rules from {}: {}", file, rules);
+    }
+
+    static NormalizationRules load(Path file) throws IOException {
+        PropertySourceLoader loader = file.getFileName().toString().endsWith(".properties")
+            ? new PropertiesPropertySourceLoader()
+            : new YamlPropertySourceLoader();
+        List<PropertySource<?>> sources = loader.load(file.toString(), new FileSystemResource(file));
+        PreprocessingProperties.Rules rules = new Binder(ConfigurationPropertySources.from(sources))
+            .bindOrCreate("", Bindable.of(PreprocessingProperties.Rules.class));
+        return rules.compile();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
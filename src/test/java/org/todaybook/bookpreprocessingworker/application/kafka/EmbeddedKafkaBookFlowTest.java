@@ -93,19 +93,19 @@ class EmbeddedKafkaBookFlowTest {
               "discount": "12000",
               "publisher": "Test Pub",
               "pubdate": "20240102",
-              "isbn": "9781234567890 123456789X",
+              "isbn": "9781234567897 123456789X",
               "description": "Sample description for embedded test with sufficient length."
             }
             """;
 
-        inputKafkaTemplate.send(INPUT_TOPIC, "9781234567890", payload).get();
+        inputKafkaTemplate.send(INPUT_TOPIC, "9781234567897", payload).get();
         inputKafkaTemplate.flush();
 
         await().atMost(Duration.ofSeconds(20)).untilAsserted(() -> {
             ConsumerRecord<String, String> record = KafkaTestUtils.getSingleRecord(outputConsumer, topicNames.outputTopic());
             Book processed = objectMapper.readValue(record.value(), Book.class);
 
-            assertThat(processed.isbn()).isEqualTo("9781234567890");
+            assertThat(processed.isbn()).isEqualTo("9781234567897");
             assertThat(processed.title()).isEqualTo("Sample Book");
             assertThat(processed.author()).isEqualTo("Test Writer");
             assertThat(processed.description()).contains("embedded test");
@@ -0,0 +1,116 @@
+package org.todaybook.bookpreprocessingworker.application.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@EmbeddedKafka(
+    partitions = 1,
+    topics = {"book.raw.naver", "book.raw.csv", "book.parsed", "book.raw.csv.DLT"},
+    brokerProperties = {"transaction.state.log.replication.factor=1", "transaction.state.log.min.isr=1"}
+)
+@TestPropertySource(properties = {
+    "spring.kafka.consumer.group-id=csv-transactional-book-preprocessor",
+    "app.kafka.csv-group-id=csv-transactional-book-preprocessor",
+    "app.kafka.listener.csv-mode=batch",
+    "app.kafka.listener.json-mode=batch",
+    "app.kafka.transaction.enabled=true",
+    "app.kafka.transaction.id-prefix=tx-test-"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@ActiveProfiles("test")
+@DisplayName("Transactional dead-letter Integration Tests")
+class EmbeddedKafkaTransactionalDeadLetterTest {
+
+    private static final String CSV_TOPIC = "book.raw.csv";
+    private static final String DLT_TOPIC = "book.raw.csv.DLT";
+    private static final String GROUP_ID = "csv-transactional-book-preprocessor";
+
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    private KafkaTemplate<String, String> inputKafkaTemplate;
+
+    private Consumer<String, String> dltConsumer;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(embeddedKafka);
+        inputKafkaTemplate = new KafkaTemplate<>(
+            new DefaultKafkaProducerFactory<>(producerProps, new StringSerializer(), new StringSerializer())
+        );
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("transactional-dlt-consumer", "false", embeddedKafka);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        dltConsumer = new KafkaConsumer<>(consumerProps);
+        embeddedKafka.consumeFromAnEmbeddedTopic(dltConsumer, DLT_TOPIC);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dltConsumer != null) {
+            dltConsumer.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Given_UnknownColumnMapping_When_ConsumedInTransaction_Then_DeadLetterAndOffsetAreCommitted")
+    void givenUnknownColumnMapping_whenConsumedInTransaction_thenDeadLetterAndOffsetAreCommitted() throws Exception {
+        // given
+        ProducerRecord<String, String> poison = new ProducerRecord<>(CSV_TOPIC, "9780761921585", "\"1\",\"9780761921585\"");
+        poison.headers().add("column-mapping", "no-such-mapping".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        inputKafkaTemplate.send(poison).get();
+        inputKafkaTemplate.flush();
+
+        // then
+        ConsumerRecord<String, String> deadLetter =
+            KafkaTestUtils.getSingleRecord(dltConsumer, DLT_TOPIC, Duration.ofSeconds(20));
+        assertThat(deadLetter.value()).isEqualTo("\"1\",\"9780761921585\"");
+
+        TopicPartition partition = new TopicPartition(CSV_TOPIC, 0);
+        try (AdminClient admin = AdminClient.create(Map.of("bootstrap.servers", embeddedKafka.getBrokersAsString()))) {
+            long endOffset = admin.listOffsets(Map.of(partition, OffsetSpec.latest()))
+                .partitionResult(partition).get().offset();
+            await().atMost(Duration.ofSeconds(20)).untilAsserted(() -> {
+                OffsetAndMetadata committed = admin.listConsumerGroupOffsets(GROUP_ID)
+                    .partitionsToOffsetAndMetadata().get().get(partition);
+                assertThat(committed).isNotNull();
+                assertThat(committed.offset()).isEqualTo(endOffset);
+            });
+        }
+    }
+}
@@ -82,7 +82,7 @@ class DockerKafkaIntegrationTest {
     @Test
     void messageTravelsThroughRealKafka() throws Exception {
         // given
-        String isbn = "9780987654321";
+        String isbn = "9780987654328";
         String payload = """
             {
               "title": "Real Kafka Book",
@@ -146,7 +146,7 @@ class KafkaIntegrationTest {
             String inputJson = """
                 {
                     "title": "<b>헤드 퍼스트</b> 디자인 패턴",
-                    "isbn": "9788979143400",
+                    "isbn": "9788979143409",
                     "author": "에릭 프리먼",
                     "publisher": "한빛미디어",
                     "pubdate": "20050901",
@@ -211,13 +211,13 @@ class KafkaIntegrationTest {
             // given
             String[] messages = {
                 """
-                {"title":"책1","isbn":"9781111111111","author":"저자1","publisher":"출판사1","pubdate":"20230101","description":"설명1이 충분히 길어서 요건을 충족합니다. 추가 문장으로 길이를 더합니다."}
+                {"title":"책1","isbn":"9781111111113","author":"저자1","publisher":"출판사1","pubdate":"20230101","description":"설명1이 충분히 길어서 요건을 충족합니다. 추가 문장으로 길이를 더합니다."}
                 """,
                 """
-                {"title":"책2","isbn":"9782222222222","author":"저자2","publisher":"출판사2","pubdate":"20230202","description":"설명2가 충분히 길어서 요건을 충족합니다. 추가 문장으로 길이를 더합니다."}
+                {"title":"책2","isbn":"9782222222224","author":"저자2","publisher":"출판사2","pubdate":"20230202","description":"설명2가 충분히 길어서 요건을 충족합니다. 추가 문장으로 길이를 더합니다."}
                 """,
                 """
-                {"title":"책3","isbn":"9783333333333","author":"저자3","publisher":"출판사3","pubdate":"20230303","description":"설명3도 충분히 길어서 요건을 충족합니다. 추가 문장으로 길이를 더합니다."}
+                {"title":"책3","isbn":"9783333333335","author":"저자3","publisher":"출판사3","pubdate":"20230303","description":"설명3도 충분히 길어서 요건을 충족합니다. 추가 문장으로 길이를 더합니다."}
                 """
             };
 
@@ -244,7 +244,7 @@ class KafkaIntegrationTest {
             // given - missing title, author, description
             String invalidJson = """
                 {
-                    "isbn": "9781234567890"
+                    "isbn": "9781234567897"
                 }
                 """;
 
@@ -270,7 +270,7 @@ class KafkaIntegrationTest {
             String inputJson = """
                 {
                     "title": "날짜 테스트 책",
-                    "isbn": "9781234567890",
+                    "isbn": "9781234567897",
                     "author": "홍길동",
                     "publisher": "출판사",
                     "pubdate": "20231225",
@@ -302,7 +302,7 @@ class KafkaIntegrationTest {
             String inputJson = """
                 {
                     "title": "잘못된 날짜 책",
-                    "isbn": "9781234567890",
+                    "isbn": "9781234567897",
                     "author": "홍길동",
                     "publisher": "출판사",
                     "pubdate": "INVALID_DATE",
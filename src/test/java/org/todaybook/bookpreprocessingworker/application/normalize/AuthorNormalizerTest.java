@@ -0,0 +1,109 @@
+package org.todaybook.bookpreprocessingworker.application.normalize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AuthorNormalizer Unit Tests")
+class AuthorNormalizerTest {
+
+    private static final Pattern SEPARATOR = Pattern.compile(
+        "\\s*(\\^|;|\\||/|&|,|\\band\\b|\\+|·|ㆍ)\\s*",
+        Pattern.CASE_INSENSITIVE
+    );
+    private static final Pattern ROLE = Pattern.compile(
+        "\\b(author|editor|translator|translated|illustrator|ed\\.|eds\\.|trans\\.)\\b",
+        Pattern.CASE_INSENSITIVE
+    );
+    private static final Pattern ROLE_KR = Pattern.compile(
+        "(저자|지음|글쓴이|옮김|역자|번역|편저|편집|편역|감수|엮음|글씀|그림)"
+    );
+
+    @Test
+    @DisplayName("Given_SeparatedAuthors_When_Normalize_Then_KeepsFirstWithoutRole")
+    void givenSeparatedAuthors_whenNormalize_thenKeepsFirstWithoutRole() {
+        assertThat(AuthorNormalizer.DEFAULT.normalize("홍길동 지음 ^ 김철수 옮김")).isEqualTo("홍길동");
+        assertThat(AuthorNormalizer.DEFAULT.normalize("  Jane Doe (Author) AND John Roe")).isEqualTo("Jane Doe ()");
+        assertThat(AuthorNormalizer.DEFAULT.normalize("Kim Editor·Lee")).isEqualTo("Kim");
+        assertThat(AuthorNormalizer.DEFAULT.normalize("Andersen, Hans")).isEqualTo("Andersen");
+        assertThat(AuthorNormalizer.DEFAULT.normalize(", leading separator")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given_RegexQuirks_When_Normalize_Then_PreservesThem")
+    void givenRegexQuirks_whenNormalize_thenPreservesThem() {
+        // "ed." needs a word character after the dot, evaluated after the cut
+        assertThat(AuthorNormalizer.DEFAULT.normalize("ed.Smith")).isEqualTo("Smith");
+        assertThat(AuthorNormalizer.DEFAULT.normalize("Smith ed.")).isEqualTo("Smith ed.");
+        assertThat(AuthorNormalizer.DEFAULT.normalize("Smith ed.ㆍLee")).isEqualTo("Smith ed.");
+        // English roles need word boundaries, Korean roles do not
+        assertThat(AuthorNormalizer.DEFAULT.normalize("coauthor 김저자님")).isEqualTo("coauthor 김님");
+        // \b only counts [A-Za-z0-9_] as word characters, but a combining mark still extends a word
+        assertThat(AuthorNormalizer.DEFAULT.normalize("김author")).isEqualTo("김");
+        assertThat(AuthorNormalizer.DEFAULT.normalize("Kim\u0301author")).isEqualTo("Kim\u0301author");
+    }
+
+    @Test
+    @DisplayName("Given_EnglishRoleInsideKoreanRole_When_Normalize_Then_RemovesBothLikeTwoPassChain")
+    void givenEnglishRoleInsideKoreanRole_whenNormalize_thenRemovesBothLikeTwoPassChain() {
+        // removing "author" joins "지" and "음", which the Korean pass then strips
+        assertThat(AuthorNormalizer.DEFAULT.normalize("홍길동 지author음")).isEqualTo("홍길동");
+        assertThat(AuthorNormalizer.DEFAULT.normalize("김 번Editor역")).isEqualTo("김");
+    }
+
+    @Test
+    @DisplayName("Given_CompiledLists_When_Normalize_Then_UsesThemInsteadOfDefaults")
+    void givenCompiledLists_whenNormalize_thenUsesThemInsteadOfDefaults() {
+        AuthorNormalizer normalizer = AuthorNormalizer.compile("，", List.of("With"), List.of("By", "역"));
+
+        assertThat(normalizer.normalize("by Kim WITH Lee")).isEqualTo("Kim");
+        assertThat(normalizer.normalize("김철수 역，이영희")).isEqualTo("김철수");
+        assertThat(normalizer.normalize("Kim and Lee, Park")).isEqualTo("Kim and Lee, Park");
+    }
+
+    @Test
+    @DisplayName("Given_InvalidLists_When_Compile_Then_Throws")
+    void givenInvalidLists_whenCompile_thenThrows() {
+        assertThatThrownBy(() -> AuthorNormalizer.compile(",", List.of("an d"), List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AuthorNormalizer.compile(",", List.of(), List.of(".ed")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AuthorNormalizer.compile(",", List.of(), List.of("ed", "ed.")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Given_RandomAuthorFields_When_Normalize_Then_MatchesRegexChain")
+    void givenRandomAuthorFields_whenNormalize_thenMatchesRegexChain() {
+        String[] atoms = {
+            "author", "AUTHOR", "editor", "translator", "Translated", "illustrator", "ed.", "Eds.", "trans.",
+            "and", "AND", "an", "d", "저자", "지음", "글쓴이", "옮김", "번역", "편저", "그림", "글", "김", "지", "음", "편", "역",
+            " ", "\t", "\n", "　", ".", "_", "1", "Kim", "홍길동", "^", ";", "|", "/", "&", ",", "+",
+            "·", "ㆍ", "́", "é", "(", ")"
+        };
+        Random random = new Random(7);
+
+        for (int i = 0; i < 50_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int parts = random.nextInt(8);
+            for (int p = 0; p < parts; p++) {
+                sb.append(atoms[random.nextInt(atoms.length)]);
+            }
+            String raw = sb.toString();
+
+            assertThat(AuthorNormalizer.DEFAULT.normalize(raw)).as("input [%s]", raw).isEqualTo(regexChain(raw));
+        }
+    }
+
+    private static String regexChain(String cleaned) {
+        String candidate = SEPARATOR.split(cleaned, 2)[0].trim();
+        String withoutRoles = ROLE.matcher(candidate).replaceAll("");
+        withoutRoles = ROLE_KR.matcher(withoutRoles).replaceAll("");
+        return withoutRoles.replaceAll("\\s+", " ").trim();
+    }
+}
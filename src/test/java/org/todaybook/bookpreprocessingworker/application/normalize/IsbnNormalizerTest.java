@@ -0,0 +1,50 @@
+package org.todaybook.bookpreprocessingworker.application.normalize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("IsbnNormalizer Unit Tests")
+class IsbnNormalizerTest {
+
+    @Test
+    @DisplayName("Given_Isbn10_When_Normalize_Then_ReturnsSameKeyAsIsbn13")
+    void givenIsbn10_whenNormalize_thenReturnsSameKeyAsIsbn13() {
+        assertThat(IsbnNormalizer.normalize("0761921583 (cloth)")).isEqualTo("9780761921585");
+        assertThat(IsbnNormalizer.normalize("9780761921585")).isEqualTo("9780761921585");
+        assertThat(IsbnNormalizer.normalize("89-6626-228-7")).isEqualTo("9788966262281");
+        assertThat(IsbnNormalizer.normalize("123456789x")).isEqualTo("9781234567897");
+    }
+
+    @Test
+    @DisplayName("Given_BadChecksumOrShape_When_Normalize_Then_ReturnsNull")
+    void givenBadChecksumOrShape_whenNormalize_thenReturnsNull() {
+        assertThat(IsbnNormalizer.normalize("9781234567890")).isNull();
+        assertThat(IsbnNormalizer.normalize("0761921584")).isNull();
+        assertThat(IsbnNormalizer.normalize("12345678X9")).isNull();
+        assertThat(IsbnNormalizer.normalize("97807619215850")).isNull();
+        assertThat(IsbnNormalizer.normalize("978076192158X")).isNull();
+        assertThat(IsbnNormalizer.normalize("   ")).isNull();
+        assertThat(IsbnNormalizer.normalize(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Given_SeveralTokens_When_Extract_Then_PrefersFirstValidIsbn13")
+    void givenSeveralTokens_whenExtract_thenPrefersFirstValidIsbn13() {
+        assertThat(IsbnNormalizer.extract("8966262287 9788966262281")).isEqualTo("9788966262281");
+        assertThat(IsbnNormalizer.extract("9781234567890, 0761921583/9791192618944"))
+            .isEqualTo("9791192618944");
+        assertThat(IsbnNormalizer.extract("0761921583;9781234567890")).isEqualTo("9780761921585");
+        assertThat(IsbnNormalizer.extract(" ,; ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Given_SameBookFromRawAndNaver_When_Normalize_Then_KeysAreTheSameIsbn13")
+    void givenSameBookFromRawAndNaver_whenNormalize_thenKeysAreTheSameIsbn13() {
+        String rawKey = IsbnNormalizer.normalize("0761921583");
+        String naverKey = IsbnNormalizer.extract("0761921583 9780761921585");
+
+        assertThat(rawKey).isEqualTo(naverKey).isEqualTo("9780761921585");
+    }
+}
@@ -0,0 +1,75 @@
+package org.todaybook.bookpreprocessingworker.application.normalize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NormalizationCaches Unit Tests")
+class NormalizationCachesTest {
+
+    @Test
+    @DisplayName("Given_EqualPublisherStrings_When_Publisher_Then_ReturnsFirstInstance")
+    void givenEqualPublisherStrings_whenPublisher_thenReturnsFirstInstance() {
+        NormalizationCaches caches = NormalizationCaches.withDefaults();
+        String first = new String("민음사");
+        String second = new String("민음사");
+
+        assertThat(caches.publisher(first, Function.identity())).isSameAs(first);
+        assertThat(caches.publisher(second, Function.identity())).isSameAs(first);
+        assertThat(caches.publisher(null, Function.identity())).isNull();
+        assertThat(caches.publisherCache().orElseThrow().stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given_RepeatedAuthor_When_Author_Then_NormalizesOnceAndSkipsNullResults")
+    void givenRepeatedAuthor_whenAuthor_thenNormalizesOnceAndSkipsNullResults() {
+        NormalizationCaches caches = NormalizationCaches.withDefaults();
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = caches.author(NormalizationRules.DEFAULT, "홍길동 지음", raw -> {
+            calls.incrementAndGet();
+            return "홍길동";
+        });
+        String second = caches.author(NormalizationRules.DEFAULT, "홍길동 지음", raw -> "unused");
+        caches.author(NormalizationRules.DEFAULT, "지음", raw -> null);
+
+        assertThat(first).isSameAs(second);
+        assertThat(calls).hasValue(1);
+        assertThat(caches.authorCache().orElseThrow().estimatedSize()).isEqualTo(1);
+        assertThat(caches.authorCache().orElseThrow().stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given_AuthorCachedUnderOtherRules_When_Author_Then_NormalizesAgain")
+    void givenAuthorCachedUnderOtherRules_whenAuthor_thenNormalizesAgain() {
+        NormalizationCaches caches = NormalizationCaches.withDefaults();
+        NormalizationRules replaced = NormalizationRules.compile(30, AuthorNormalizer.DEFAULT_SEPARATORS,
+            AuthorNormalizer.DEFAULT_SEPARATOR_WORDS, List.of("writer"), NormalizationRules.DEFAULT_REQUIRED_FIELDS);
+
+        // a load under the old rules that completes after the swap
+        caches.author(NormalizationRules.DEFAULT, "Kim (Writer)", raw -> "Kim (Writer)");
+
+        assertThat(caches.author(replaced, "Kim (Writer)", raw -> "Kim ()")).isEqualTo("Kim ()");
+        assertThat(caches.author(NormalizationRules.DEFAULT, "Kim (Writer)", raw -> "unused")).isEqualTo("Kim (Writer)");
+    }
+
+    @Test
+    @DisplayName("Given_ZeroSizes_When_Normalize_Then_BuildsNoCacheAndAlwaysNormalizes")
+    void givenZeroSizes_whenNormalize_thenBuildsNoCacheAndAlwaysNormalizes() {
+        NormalizationCaches caches = new NormalizationCaches(0, 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        caches.author(NormalizationRules.DEFAULT, "홍길동 지음", raw -> "홍길동" + calls.incrementAndGet());
+        String second = caches.author(NormalizationRules.DEFAULT, "홍길동 지음", raw -> "홍길동" + calls.incrementAndGet());
+        caches.invalidateAuthors();
+
+        assertThat(second).isEqualTo("홍길동2");
+        assertThat(caches.publisher("민음사", Function.identity())).isEqualTo("민음사");
+        assertThat(caches.authorCache()).isEmpty();
+        assertThat(caches.publisherCache()).isEmpty();
+    }
+}
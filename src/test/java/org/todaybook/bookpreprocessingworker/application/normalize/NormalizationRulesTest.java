@@ -0,0 +1,65 @@
+package org.todaybook.bookpreprocessingworker.application.normalize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.todaybook.bookpreprocessingworker.application.parser.RawField;
+import org.todaybook.bookpreprocessingworker.domain.model.Book;
+
+@DisplayName("NormalizationRules Unit Tests")
+class NormalizationRulesTest {
+
+    @Test
+    @DisplayName("Given_DefaultRules_When_FirstMissing_Then_ChecksIsbnTitleAuthorDescription")
+    void givenDefaultRules_whenFirstMissing_thenChecksIsbnTitleAuthorDescription() {
+        NormalizationRules rules = NormalizationRules.DEFAULT;
+
+        assertThat(rules.firstMissing(book("Title", "Author", null))).isNull();
+        assertThat(rules.firstMissing(book(" ", null, "Publisher"))).isEqualTo(RawField.TITLE);
+        assertThat(rules.firstMissing(book("Title", null, "Publisher"))).isEqualTo(RawField.AUTHOR);
+    }
+
+    @Test
+    @DisplayName("Given_CustomRequiredFields_When_Compile_Then_IsbnStaysRequired")
+    void givenCustomRequiredFields_whenCompile_thenIsbnStaysRequired() {
+        NormalizationRules rules = NormalizationRules.compile(
+            50,
+            AuthorNormalizer.DEFAULT_SEPARATORS,
+            AuthorNormalizer.DEFAULT_SEPARATOR_WORDS,
+            AuthorNormalizer.DEFAULT_ROLES,
+            Set.of(RawField.TITLE, RawField.PUBLISHER)
+        );
+
+        assertThat(rules.minDescriptionLength()).isEqualTo(50);
+        assertThat(rules.requiredFields()).containsExactly(RawField.ISBN, RawField.TITLE, RawField.PUBLISHER);
+        assertThat(rules.firstMissing(book("Title", null, null))).isEqualTo(RawField.PUBLISHER);
+        assertThat(rules.firstMissing(book("Title", null, "Publisher"))).isNull();
+    }
+
+    @Test
+    @DisplayName("Given_InvalidRules_When_Compile_Then_Throws")
+    void givenInvalidRules_whenCompile_thenThrows() {
+        assertThatThrownBy(() -> NormalizationRules.compile(-1, ",", List.of(), List.of(), Set.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NormalizationRules.compile(0, ",", List.of(), List.of(), Set.of(RawField.FALLBACK_ISBN)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Book book(String title, String author, String publisher) {
+        return new Book(
+            "9780761921585",
+            title,
+            List.of(),
+            "A sufficiently long description for validation.",
+            author,
+            publisher,
+            LocalDate.of(2000, 12, 29),
+            null
+        );
+    }
+}
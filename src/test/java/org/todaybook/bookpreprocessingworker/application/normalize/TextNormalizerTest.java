@@ -0,0 +1,96 @@
+package org.todaybook.bookpreprocessingworker.application.normalize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TextNormalizer Unit Tests")
+class TextNormalizerTest {
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+
+    @Test
+    @DisplayName("Given_HtmlDescription_When_Normalize_Then_StripsCollapsesAndTrims")
+    void givenHtmlDescription_whenNormalize_thenStripsCollapsesAndTrims() {
+        String raw = "  <p>Le <b>Monde</b>\n\n\t est un  quotidien</p> français <br/> ";
+
+        assertThat(TextNormalizer.normalize(raw, 10)).isEqualTo("Le Monde est un quotidien français");
+    }
+
+    @Test
+    @DisplayName("Given_TextShorterThanMinimum_When_Normalize_Then_ReturnsNull")
+    void givenTextShorterThanMinimum_whenNormalize_thenReturnsNull() {
+        assertThat(TextNormalizer.normalize("short", 30)).isNull();
+        assertThat(TextNormalizer.normalize("<p>" + "x".repeat(29) + "</p>", 30)).isNull();
+        assertThat(TextNormalizer.normalize("   ", 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("Given_CleanText_When_Normalize_Then_ReturnsSameInstance")
+    void givenCleanText_whenNormalize_thenReturnsSameInstance() {
+        String clean = "Already clean text with single spaces only.";
+
+        assertThat(TextNormalizer.normalize(clean, 10)).isSameAs(clean);
+        assertThat(TextNormalizer.stripTags(clean)).isSameAs(clean);
+    }
+
+    @Test
+    @DisplayName("Given_UnclosedTag_When_StripTags_Then_KeepsIt")
+    void givenUnclosedTag_whenStripTags_thenKeepsIt() {
+        assertThat(TextNormalizer.stripTags("a < b <i>and</i> c < d")).isEqualTo("a < b and c < d");
+        assertThat(TextNormalizer.cleanText(" <b>Title</b>\t ")).isEqualTo("Title");
+        assertThat(TextNormalizer.stripTags(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given_NamedAndNumericEntities_When_CleanText_Then_DecodesInSamePass")
+    void givenNamedAndNumericEntities_whenCleanText_thenDecodesInSamePass() {
+        assertThat(TextNormalizer.cleanText("<b>Tom &amp; Jerry</b> &quot;&#39;&#x2F;&lt;i&gt;&quot;"))
+            .isEqualTo("Tom & Jerry \"'/<i>\"");
+        assertThat(TextNormalizer.cleanText("Caf&eacute; &laquo;Le Monde&raquo; &hellip; &#x1F4DA;"))
+            .isEqualTo("Café «Le Monde» … \uD83D\uDCDA");
+    }
+
+    @Test
+    @DisplayName("Given_UnknownOrBrokenEntities_When_CleanText_Then_KeepsThemVerbatim")
+    void givenUnknownOrBrokenEntities_whenCleanText_thenKeepsThemVerbatim() {
+        assertThat(TextNormalizer.cleanText("AT&T &bogus; &amp &#; &#xZZ; &#0; &#xD800; a&b"))
+            .isEqualTo("AT&T &bogus; &amp &#; &#xZZ; &#0; &#xD800; a&b");
+        assertThat(TextNormalizer.stripTags("Tom &amp; Jerry")).isEqualTo("Tom &amp; Jerry");
+    }
+
+    @Test
+    @DisplayName("Given_EncodedWhitespace_When_Normalize_Then_CollapsesWithLiteralWhitespace")
+    void givenEncodedWhitespace_whenNormalize_thenCollapsesWithLiteralWhitespace() {
+        assertThat(TextNormalizer.normalize("first line &#10;&#32; second&#9;line", 5))
+            .isEqualTo("first line second line");
+    }
+
+    @Test
+    @DisplayName("Given_RandomText_When_Normalized_Then_MatchesRegexChain")
+    void givenRandomText_whenNormalized_thenMatchesRegexChain() {
+        // given
+        Random random = new Random(42);
+        String alphabet = "<>/ ab\t\n\u000B\f\r\u0001한";
+
+        for (int run = 0; run < 20_000; run++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = random.nextInt(30); i > 0; i--) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String raw = text.toString();
+
+            // when
+            String stripped = TAG.matcher(raw).replaceAll("");
+            String collapsed = stripped.replaceAll("\\s+", " ").trim();
+
+            // then
+            assertThat(TextNormalizer.stripTags(raw)).isEqualTo(stripped);
+            assertThat(TextNormalizer.cleanText(raw)).isEqualTo(stripped.trim());
+            assertThat(TextNormalizer.normalize(raw, 5)).isEqualTo(collapsed.length() < 5 ? null : collapsed);
+        }
+    }
+}
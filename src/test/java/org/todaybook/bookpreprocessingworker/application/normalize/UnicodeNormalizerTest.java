@@ -0,0 +1,39 @@
+package org.todaybook.bookpreprocessingworker.application.normalize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.Normalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UnicodeNormalizer Unit Tests")
+class UnicodeNormalizerTest {
+
+    @Test
+    @DisplayName("Given_DecomposedHangul_When_Normalize_Then_ComposesToNfc")
+    void givenDecomposedHangul_whenNormalize_thenComposesToNfc() {
+        String decomposed = Normalizer.normalize("채식주의자 한강", Normalizer.Form.NFD);
+
+        assertThat(decomposed).isNotEqualTo("채식주의자 한강");
+        assertThat(UnicodeNormalizer.normalize(decomposed)).isEqualTo("채식주의자 한강");
+    }
+
+    @Test
+    @DisplayName("Given_FullWidthAndHalfWidthForms_When_Normalize_Then_FoldsToNormalWidth")
+    void givenFullWidthAndHalfWidthForms_whenNormalize_thenFoldsToNormalWidth() {
+        assertThat(UnicodeNormalizer.normalize("ＪＡＶＡ　２１，ﾊﾟ ￦")).isEqualTo("JAVA 21,パ ₩");
+        // folding happens before composition, so a full-width letter still absorbs its accent
+        assertThat(UnicodeNormalizer.normalize("Ａ́")).isEqualTo("Á");
+    }
+
+    @Test
+    @DisplayName("Given_AlreadyNormalizedText_When_Normalize_Then_ReturnsSameInstance")
+    void givenAlreadyNormalizedText_whenNormalize_thenReturnsSameInstance() {
+        String plain = "Café 한국어 제목 漢字";
+        String combiningFree = "Ωmega ½";
+
+        assertThat(UnicodeNormalizer.normalize(plain)).isSameAs(plain);
+        assertThat(UnicodeNormalizer.normalize(combiningFree)).isEqualTo(combiningFree);
+        assertThat(UnicodeNormalizer.normalize(null)).isNull();
+    }
+}
@@ -0,0 +1,46 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ByteScanner Unit Tests")
+class ByteScannerTest {
+
+    private final ByteScanner scalar = ByteScanner.scalar();
+    private final ByteScanner preferred = ByteScanner.INSTANCE;
+
+    @Test
+    @DisplayName("Given_SentinelsAcrossVectorBlocks_When_Scan_Then_FindsFirstInRange")
+    void givenSentinelsAcrossVectorBlocks_whenScan_thenFindsFirstInRange() {
+        byte[] bytes = new byte[200];
+        bytes[70] = '"';
+        bytes[150] = ',';
+
+        assertThat(preferred.indexOfEither(bytes, 0, 200, (byte) ',', (byte) '"')).isEqualTo(70);
+        assertThat(preferred.indexOfEither(bytes, 71, 200, (byte) ',', (byte) '"')).isEqualTo(150);
+        assertThat(preferred.indexOf(bytes, 71, 150, (byte) ',')).isEqualTo(-1);
+        assertThat(preferred.indexOf(bytes, 150, 151, (byte) ',')).isEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("Given_RandomBytes_When_Scan_Then_PreferredMatchesScalar")
+    void givenRandomBytes_whenScan_thenPreferredMatchesScalar() {
+        Random random = new Random(3);
+        for (int i = 0; i < 10_000; i++) {
+            byte[] bytes = new byte[random.nextInt(300)];
+            for (int j = 0; j < bytes.length; j++) {
+                bytes[j] = (byte) (random.nextInt(64) == 0 ? ',' : 'a' + random.nextInt(3));
+            }
+            int from = random.nextInt(bytes.length + 1);
+            int to = from + random.nextInt(bytes.length - from + 1);
+
+            assertThat(preferred.indexOf(bytes, from, to, (byte) ','))
+                .isEqualTo(scalar.indexOf(bytes, from, to, (byte) ','));
+            assertThat(preferred.indexOfEither(bytes, from, to, (byte) ',', (byte) 'c'))
+                .isEqualTo(scalar.indexOfEither(bytes, from, to, (byte) ',', (byte) 'c'));
+        }
+    }
+}
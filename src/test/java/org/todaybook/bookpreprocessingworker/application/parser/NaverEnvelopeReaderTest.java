@@ -0,0 +1,94 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.todaybook.bookpreprocessingworker.application.dto.NaverBookItem;
+
+@DisplayName("NaverEnvelopeReader Unit Tests")
+class NaverEnvelopeReaderTest {
+
+    private static final String ENVELOPE = """
+        {
+          "lastBuildDate": "Fri, 05 Dec 2025 09:50:46 +0900",
+          "total": 131,
+          "start": 1,
+          "display": 2,
+          "meta": {"nested": [1, 2, {"deep": true}]},
+          "items": [
+            {
+              "title": "르몽드 디플로마티크(2025년 12월호)",
+              "author": "브누아 브레빌^르몽드디플로마티크 편집부",
+              "publisher": "르몽드디플로마티크",
+              "pubdate": "20251128",
+              "isbn": "9791192618944",
+              "unknownField": {"ignored": [1, 2]},
+              "description": "첫 번째 설명"
+            },
+            null,
+            {
+              "title": "르몽드 디플로마티크(2025년 11월호)",
+              "author": "브누아 브레빌",
+              "isbn": "9791192618906",
+              "description": "두 번째 설명"
+            }
+          ]
+        }
+        """;
+
+    private NaverEnvelopeReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new NaverEnvelopeReader(new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Given_Envelope_When_Read_Then_StreamsEachItemInOrder")
+    void givenEnvelope_whenRead_thenStreamsEachItemInOrder() throws Exception {
+        // given
+        List<NaverBookItem> items = new ArrayList<>();
+
+        // when
+        int count = reader.read(ENVELOPE.getBytes(StandardCharsets.UTF_8), items::add);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(items).extracting(NaverBookItem::isbn).containsExactly("9791192618944", "9791192618906");
+        assertThat(items.get(0).author()).isEqualTo("브누아 브레빌^르몽드디플로마티크 편집부");
+    }
+
+    @Test
+    @DisplayName("Given_EnvelopeStream_When_Read_Then_SameResultAsByteArray")
+    void givenEnvelopeStream_whenRead_thenSameResultAsByteArray() throws Exception {
+        List<NaverBookItem> items = new ArrayList<>();
+
+        int count = reader.read(new ByteArrayInputStream(ENVELOPE.getBytes(StandardCharsets.UTF_8)), items::add);
+
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Given_EnvelopeWithoutItems_When_Read_Then_ReturnsZero")
+    void givenEnvelopeWithoutItems_whenRead_thenReturnsZero() throws Exception {
+        int count = reader.read("{\"total\":0,\"items\":[]}".getBytes(StandardCharsets.UTF_8), item -> { });
+
+        assertThat(count).isZero();
+    }
+
+    @Test
+    @DisplayName("Given_NonObjectPayload_When_Read_Then_ThrowsJsonProcessingException")
+    void givenNonObjectPayload_whenRead_thenThrowsJsonProcessingException() {
+        assertThatThrownBy(() -> reader.read("[1,2,3]".getBytes(StandardCharsets.UTF_8), item -> { }))
+            .isInstanceOf(JsonProcessingException.class);
+    }
+}
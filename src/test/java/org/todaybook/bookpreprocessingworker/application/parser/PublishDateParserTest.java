@@ -0,0 +1,43 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PublishDateParser Unit Tests")
+class PublishDateParserTest {
+
+    @Test
+    @DisplayName("Given_FullDateShapes_When_Parse_Then_ReturnsDate")
+    void givenFullDateShapes_whenParse_thenReturnsDate() {
+        LocalDate expected = LocalDate.of(2000, 12, 29);
+
+        assertThat(PublishDateParser.parse("20001229")).isEqualTo(expected);
+        assertThat(PublishDateParser.parse(" 2000-12-29 ")).isEqualTo(expected);
+        assertThat(PublishDateParser.parse("2000.12.29")).isEqualTo(expected);
+        assertThat(PublishDateParser.parse("2024-02-29")).isEqualTo(LocalDate.of(2024, 2, 29));
+    }
+
+    @Test
+    @DisplayName("Given_PartialDate_When_Parse_Then_UsesFirstDay")
+    void givenPartialDate_whenParse_thenUsesFirstDay() {
+        assertThat(PublishDateParser.parse("202306")).isEqualTo(LocalDate.of(2023, 6, 1));
+        assertThat(PublishDateParser.parse("2023")).isEqualTo(LocalDate.of(2023, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Given_InvalidValue_When_Parse_Then_ReturnsNullWithoutThrowing")
+    void givenInvalidValue_whenParse_thenReturnsNullWithoutThrowing() {
+        assertThat(PublishDateParser.parse("20230230")).isNull();
+        assertThat(PublishDateParser.parse("2023-13-01")).isNull();
+        assertThat(PublishDateParser.parse("2023-01.01")).isNull();
+        assertThat(PublishDateParser.parse("2023/01/01")).isNull();
+        assertThat(PublishDateParser.parse("00000101")).isNull();
+        assertThat(PublishDateParser.parse("202300")).isNull();
+        assertThat(PublishDateParser.parse("bad-date")).isNull();
+        assertThat(PublishDateParser.parse("  ")).isNull();
+        assertThat(PublishDateParser.parse(null)).isNull();
+    }
+}
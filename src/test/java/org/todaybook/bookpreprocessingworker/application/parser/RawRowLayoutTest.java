@@ -0,0 +1,88 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RawRowLayout Unit Tests")
+class RawRowLayoutTest {
+
+    @Test
+    @DisplayName("Given_CustomMapping_When_Get_Then_ReadsMappedColumns")
+    void givenCustomMapping_whenGet_thenReadsMappedColumns() {
+        RawRowLayout layout = RawRowLayout.of(Map.of(
+            RawField.ISBN, 2,
+            RawField.TITLE, 0,
+            RawField.AUTHOR, 1,
+            RawField.DESCRIPTION, 3
+        ));
+
+        RawColumns columns = StringRawColumns.parse("\"Title\",\"Author\",\"9780761921585\",\"Desc\"", layout.projection());
+
+        assertThat(layout.get(columns, RawField.ISBN)).isEqualTo("9780761921585");
+        assertThat(layout.get(columns, RawField.TITLE)).isEqualTo("Title");
+        assertThat(layout.get(columns, RawField.PUBLISHER)).isNull();
+        assertThat(layout.index(RawField.PUBLISHER)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Given_MappingWithoutRequiredField_When_Of_Then_Throws")
+    void givenMappingWithoutRequiredField_whenOf_thenThrows() {
+        assertThatThrownBy(() -> RawRowLayout.of(Map.of(
+            RawField.ISBN, 0,
+            RawField.AUTHOR, 1,
+            RawField.DESCRIPTION, 2
+        ))).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("TITLE");
+
+        assertThatThrownBy(() -> RawRowLayout.of(Map.of(
+            RawField.ISBN, -1,
+            RawField.TITLE, 0,
+            RawField.AUTHOR, 1,
+            RawField.DESCRIPTION, 2
+        ))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Given_HeaderRow_When_Detect_Then_MatchesNormalizedNames")
+    void givenHeaderRow_whenDetect_thenMatchesNormalizedNames() {
+        String header = "\"No\",\"ISBN_13\",\"Book Title\",\"AUTHOR\",\"Publisher\",\"Pub-Date\",\"Description\"";
+
+        assertThat(RawRowLayout.detect(header)).contains(RawRowLayout.of(Map.of(
+            RawField.ISBN, 1,
+            RawField.TITLE, 2,
+            RawField.AUTHOR, 3,
+            RawField.PUBLISHER, 4,
+            RawField.PUBLISHED_AT, 5,
+            RawField.DESCRIPTION, 6
+        )));
+    }
+
+    @Test
+    @DisplayName("Given_DataRow_When_Detect_Then_ReturnsEmpty")
+    void givenDataRow_whenDetect_thenReturnsEmpty() {
+        assertThat(RawRowLayout.detect("\"1\",\"9780761921585\",\"Title\",\"Author\"")).isEmpty();
+        assertThat(RawRowLayout.detect("")).isEmpty();
+        assertThat(RawRowLayout.detect(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given_UnknownProfile_When_Resolve_Then_Throws")
+    void givenUnknownProfile_whenResolve_thenThrows() {
+        RawRowLayout partner = RawRowLayout.of(Map.of(
+            RawField.ISBN, 0,
+            RawField.TITLE, 1,
+            RawField.AUTHOR, 2,
+            RawField.DESCRIPTION, 3
+        ));
+        RawRowLayouts layouts = new RawRowLayouts(Map.of("partner", partner), Map.of("book.raw.partner", partner));
+
+        assertThat(layouts.resolve("book.raw.partner", null)).isSameAs(partner);
+        assertThat(layouts.resolve("book.raw.csv", null)).isSameAs(RawRowLayout.DEFAULT);
+        assertThat(layouts.resolve("book.raw.csv", "partner")).isSameAs(partner);
+        assertThatThrownBy(() -> layouts.resolve("book.raw.csv", "missing"))
+            .isInstanceOf(UnknownColumnMappingException.class);
+    }
+}
@@ -0,0 +1,65 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RawRowSplitter Unit Tests")
+class RawRowSplitterTest {
+
+    private final RawRowSplitter splitter = new RawRowSplitter();
+
+    @Test
+    @DisplayName("Given_RowsWithQuotedNewlinesAndEscapes_When_Split_Then_KeepsQuotedContentInRow")
+    void givenRowsWithQuotedNewlinesAndEscapes_whenSplit_thenKeepsQuotedContentInRow() throws Exception {
+        // given
+        String chunk = "\"1\",\"a,b\",\"multi\nline \"\"quoted\"\"\"\r\n"
+            + "\"2\",\"plain\"\n";
+        List<String> rows = new ArrayList<>();
+
+        // when
+        int count = splitter.split(chunk.getBytes(StandardCharsets.UTF_8), rows::add);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(rows).containsExactly(
+            "\"1\",\"a,b\",\"multi\nline \"\"quoted\"\"\"",
+            "\"2\",\"plain\""
+        );
+    }
+
+    @Test
+    @DisplayName("Given_BlankLinesAndNoTrailingNewline_When_Split_Then_SkipsBlankAndEmitsLastRow")
+    void givenBlankLinesAndNoTrailingNewline_whenSplit_thenSkipsBlankAndEmitsLastRow() throws Exception {
+        List<String> rows = new ArrayList<>();
+
+        int count = splitter.split(new StringReader("\"1\"\n\n   \n\"2\""), rows::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(rows).containsExactly("\"1\"", "\"2\"");
+    }
+
+    @Test
+    @DisplayName("Given_RowsLargerThanReadBuffer_When_Split_Then_RowsAreReassembled")
+    void givenRowsLargerThanReadBuffer_whenSplit_thenRowsAreReassembled() throws Exception {
+        // given - descriptions longer than the 8 KB read buffer, with Korean text and quoted newlines
+        String description = "설명 문장\n".repeat(2000);
+        StringBuilder chunk = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            chunk.append('"').append(i).append("\",\"").append(description).append("\"\n");
+        }
+        List<String> rows = new ArrayList<>();
+
+        // when
+        int count = splitter.split(chunk.toString().getBytes(StandardCharsets.UTF_8), rows::add);
+
+        // then
+        assertThat(count).isEqualTo(3);
+        assertThat(rows.get(2)).isEqualTo("\"2\",\"" + description + "\"");
+    }
+}
@@ -0,0 +1,32 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StringRawColumns Unit Tests")
+class StringRawColumnsTest {
+
+    @Test
+    @DisplayName("Given_SameRow_When_ParsedAsStringAndBytes_Then_ProjectedColumnsMatch")
+    void givenSameRow_whenParsedAsStringAndBytes_thenProjectedColumnsMatch() {
+        // given
+        String row = "\"115982\",\"9780761921585\",\"cloth\",\" \"\"Quoted\"\" 제목 \",\"Author, Jr.\",\"\"";
+        ColumnProjection projection = ColumnProjection.of(1, 3, 4, 5, 9);
+
+        // when
+        RawColumns fromString = StringRawColumns.parse(row, projection);
+        RawColumns fromBytes = Utf8RawColumns.parse(row.getBytes(StandardCharsets.UTF_8), projection);
+
+        // then
+        assertThat(fromString.size()).isEqualTo(6).isEqualTo(fromBytes.size());
+        for (int index : new int[] {1, 3, 4, 5, 9}) {
+            assertThat(fromString.get(index)).isEqualTo(fromBytes.get(index));
+        }
+        assertThat(fromString.get(3)).isEqualTo("\"Quoted\" 제목");
+        assertThat(fromString.get(4)).isEqualTo("Author, Jr.");
+        assertThat(fromString.get(5)).isEmpty();
+    }
+}
@@ -0,0 +1,54 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Utf8RawColumns Unit Tests")
+class Utf8RawColumnsTest {
+
+    private static final ColumnProjection FIRST_SEVEN = ColumnProjection.of(0, 1, 2, 3, 4, 5, 6);
+
+    @Test
+    @DisplayName("Given_QuotedUtf8Row_When_Parse_Then_DecodesUnquotedTrimmedColumns")
+    void givenQuotedUtf8Row_whenParse_thenDecodesUnquotedTrimmedColumns() {
+        // given
+        byte[] row = "\"1\",\" 한글, 제목 \",\"say \"\"hi\"\"\",,plain ,\"멀티\n라인\""
+            .getBytes(StandardCharsets.UTF_8);
+
+        // when
+        RawColumns columns = Utf8RawColumns.parse(row, FIRST_SEVEN);
+
+        // then
+        assertThat(columns.size()).isEqualTo(6);
+        assertThat(columns.get(0)).isEqualTo("1");
+        assertThat(columns.get(1)).isEqualTo("한글, 제목");
+        assertThat(columns.get(2)).isEqualTo("say \"hi\"");
+        assertThat(columns.get(3)).isEmpty();
+        assertThat(columns.get(4)).isEqualTo("plain");
+        assertThat(columns.get(5)).isEqualTo("멀티\n라인");
+        assertThat(columns.get(6)).isNull();
+    }
+
+    @Test
+    @DisplayName("Given_ProjectionEndingEarly_When_Parse_Then_StopsAfterLastNeededColumn")
+    void givenProjectionEndingEarly_whenParse_thenStopsAfterLastNeededColumn() {
+        // given - the trailing columns include an unbalanced quote that would swallow the rest
+        byte[] row = "\"0\",\"1\",\"2\",\"3\",\"broken,\"tail\",\"x\"".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        RawColumns columns = Utf8RawColumns.parse(row, ColumnProjection.of(1, 3));
+
+        // then
+        assertThat(columns.size()).isEqualTo(4);
+        assertThat(columns.get(1)).isEqualTo("1");
+        assertThat(columns.get(3)).isEqualTo("3");
+        assertThat(columns.get(5)).isNull();
+        assertThatThrownBy(() -> columns.get(2))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("not in the projection");
+    }
+}
@@ -1,11 +1,18 @@
 package org.todaybook.bookpreprocessingworker.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.text.Normalizer;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,7 +22,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.todaybook.bookpreprocessingworker.application.dto.NaverBookItem;
+import org.todaybook.bookpreprocessingworker.application.normalize.AuthorNormalizer;
+import org.todaybook.bookpreprocessingworker.application.normalize.NormalizationCaches;
+import org.todaybook.bookpreprocessingworker.application.normalize.NormalizationRules;
+import org.todaybook.bookpreprocessingworker.application.parser.RawField;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookBatchProcessingException;
 import org.todaybook.bookpreprocessingworker.application.port.out.BookMessagePublisher;
+import org.todaybook.bookpreprocessingworker.application.port.out.BookPublishException;
 import org.todaybook.bookpreprocessingworker.domain.model.Book;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,7 +43,7 @@ class BookPreprocessingServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new BookPreprocessingService(publisher);
+        service = new BookPreprocessingService(publisher, NormalizationCaches.withDefaults(), NormalizationRules.DEFAULT);
     }
 
     @Nested
@@ -55,7 +69,7 @@ class BookPreprocessingServiceTest {
 
         @Test
         void processesRawRowWithCompactDate() {
-            String rawRow = "\"1\",\"9781234567890\",\"binding\",\"Title\",\"Jane Doe\",\"Publisher\",\"\",\"\",\"code\",\"http://image\",\"A sufficiently long description for validation.\",\"\",\"slug\",\"\",\"20201028\",\"Y\",\"Y\",\"\"";
+            String rawRow = "\"1\",\"9781234567897\",\"binding\",\"Title\",\"Jane Doe\",\"Publisher\",\"\",\"\",\"code\",\"http://image\",\"A sufficiently long description for validation.\",\"\",\"slug\",\"\",\"20201028\",\"Y\",\"Y\",\"\"";
 
             service.processRawRow(rawRow);
 
@@ -72,7 +86,7 @@ class BookPreprocessingServiceTest {
 
             ArgumentCaptor<Book> captor = ArgumentCaptor.forClass(Book.class);
             verify(publisher).publish(captor.capture());
-            assertThat(captor.getValue().isbn()).isEqualTo("0761921583");
+            assertThat(captor.getValue().isbn()).isEqualTo("9780761921585");
         }
 
         @Test
@@ -83,7 +97,20 @@ class BookPreprocessingServiceTest {
 
             ArgumentCaptor<Book> captor = ArgumentCaptor.forClass(Book.class);
             verify(publisher).publish(captor.capture());
-            assertThat(captor.getValue().isbn()).isEqualTo("123456789X");
+            assertThat(captor.getValue().isbn()).isEqualTo("9781234567897");
+        }
+
+        @Test
+        void bytePayloadProducesSameBookAsString() {
+            String rawRow = "\"1\",\"9780761921585\",\"binding\",\"<b>한국어</b> \"\"제목\"\"\",\"홍길동 지음\",\"출판사\",\"\",\"\",\"code\",\"http://image\",\"\",\"  충분히 긴 설명입니다, 쉼표와\n줄바꿈을 포함한 설명 문장입니다.  \",\"slug\",\"\",\"2000-12-29\",\"Y\",\"Y\",\"\"";
+
+            service.processRawRow(rawRow);
+            service.processRawRow(rawRow.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+
+            ArgumentCaptor<Book> captor = ArgumentCaptor.forClass(Book.class);
+            verify(publisher, times(2)).publish(captor.capture());
+            assertThat(captor.getAllValues().get(1)).isEqualTo(captor.getAllValues().get(0));
+            assertThat(captor.getValue().title()).isEqualTo("한국어 \"제목\"");
         }
 
         @Test
@@ -94,6 +121,65 @@ class BookPreprocessingServiceTest {
 
             verify(publisher, never()).publish(org.mockito.Mockito.any());
         }
+
+        @Test
+        void readsColumnsThroughCustomLayout() {
+            RawRowLayout layout = RawRowLayout.of(java.util.Map.of(
+                RawField.TITLE, 0,
+                RawField.ISBN, 1,
+                RawField.AUTHOR, 2,
+                RawField.DESCRIPTION, 3
+            ));
+            String rawRow = "\"Title\",\"9781234567897\",\"Jane Doe\",\"A sufficiently long description for validation.\"";
+
+            service.processRawRow(rawRow, layout);
+
+            ArgumentCaptor<Book> captor = ArgumentCaptor.forClass(Book.class);
+            verify(publisher).publish(captor.capture());
+            assertThat(captor.getValue().isbn()).isEqualTo("9781234567897");
+            assertThat(captor.getValue().title()).isEqualTo("Title");
+            assertThat(captor.getValue().author()).isEqualTo("Jane Doe");
+            assertThat(captor.getValue().publisher()).isNull();
+            assertThat(service.resolveRawRowKey(rawRow, layout)).isEqualTo("9781234567897");
+            assertThat(service.resolveRawRowKey(rawRow.getBytes(java.nio.charset.StandardCharsets.UTF_8), layout))
+                .isEqualTo("9781234567897");
+        }
+
+        @Test
+        void resolvesRecordKeyToSameIsbnAsRow() {
+            String rawRow = "\"115982\",\"9780761921585\",\"cloth\",\"Title\"";
+
+            assertThat(service.resolveRecordKey("0-7619-2158-3")).isEqualTo(service.resolveRawRowKey(rawRow));
+            assertThat(service.resolveRecordKey("115982")).isNull();
+            assertThat(service.resolveRecordKey(null)).isNull();
+        }
+    }
+
+    @Nested
+    class RawRowBatchProcessing {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void publishesValidRowsOfBatchInOneCall() {
+            String valid = "\"1\",\"9781234567897\",\"binding\",\"Title\",\"Jane Doe\",\"Publisher\",\"\",\"\",\"code\",\"http://image\",\"A sufficiently long description for validation.\",\"\",\"slug\",\"\",\"20201028\",\"Y\",\"Y\",\"\"";
+            String missingTitle = "\"id\",\"\",\"binding\",\"\",\"Author\",\"Publisher\",\"\",\"\",\"code\",\"http://image\",\"\",\"\",\"slug\",\"\",\"\",\"Y\",\"Y\",\"\"";
+
+            service.processRawRows(List.of(valid, missingTitle, ""));
+
+            ArgumentCaptor<List<Book>> captor = ArgumentCaptor.forClass(List.class);
+            verify(publisher, times(1)).publishAll(captor.capture());
+            verify(publisher, never()).publish(org.mockito.Mockito.any());
+
+            assertThat(captor.getValue()).hasSize(1);
+            assertThat(captor.getValue().get(0).isbn()).isEqualTo("9781234567897");
+        }
+
+        @Test
+        void ignoresEmptyBatch() {
+            service.processRawRows(List.of());
+
+            verify(publisher, never()).publishAll(org.mockito.Mockito.anyList());
+        }
     }
 
     @Nested
@@ -110,7 +196,7 @@ class BookPreprocessingServiceTest {
                 "9000",
                 "Publisher",
                 "20240102",
-                "9781234567890",
+                "9781234567897",
                 "A long enough description to pass validation rules."
             );
 
@@ -120,7 +206,7 @@ class BookPreprocessingServiceTest {
             verify(publisher).publish(captor.capture());
 
             Book book = captor.getValue();
-            assertThat(book.isbn()).isEqualTo("9781234567890");
+            assertThat(book.isbn()).isEqualTo("9781234567897");
             assertThat(book.title()).isEqualTo("Title");
             assertThat(book.publishedAt()).isEqualTo(LocalDate.of(2024, 1, 2));
         }
@@ -134,7 +220,7 @@ class BookPreprocessingServiceTest {
                 null, null,
                 "Publisher",
                 "20240102",
-                "9781234567890",
+                "9781234567897",
                 "A long enough description to pass validation rules."
             );
 
@@ -151,7 +237,7 @@ class BookPreprocessingServiceTest {
                 "Title", null, null,
                 "Jane Doe", null, null, "Publisher",
                 "20240102",
-                "1234567890 9789999999999",
+                "1234567890 9789999999991",
                 "A long enough description to pass validation rules."
             );
 
@@ -159,7 +245,7 @@ class BookPreprocessingServiceTest {
 
             ArgumentCaptor<Book> captor = ArgumentCaptor.forClass(Book.class);
             verify(publisher).publish(captor.capture());
-            assertThat(captor.getValue().isbn()).isEqualTo("9789999999999");
+            assertThat(captor.getValue().isbn()).isEqualTo("9789999999991");
         }
 
         @Test
@@ -176,7 +262,26 @@ class BookPreprocessingServiceTest {
 
             ArgumentCaptor<Book> captor = ArgumentCaptor.forClass(Book.class);
             verify(publisher).publish(captor.capture());
-            assertThat(captor.getValue().isbn()).isEqualTo("123456789X");
+            assertThat(captor.getValue().isbn()).isEqualTo("9781234567897");
+        }
+
+        @Test
+        void composesDecomposedHangulAndFoldsFullWidth() {
+            NaverBookItem item = new NaverBookItem(
+                Normalizer.normalize("채식주의자", Normalizer.Form.NFD), null, null,
+                Normalizer.normalize("한강 지음", Normalizer.Form.NFD), null, null, "창비　ＰＲＥＳＳ",
+                "20240102",
+                "9781234567897",
+                "A long enough description to pass validation rules."
+            );
+
+            service.processSingleItem(item);
+
+            ArgumentCaptor<Book> captor = ArgumentCaptor.forClass(Book.class);
+            verify(publisher).publish(captor.capture());
+            assertThat(captor.getValue().title()).isEqualTo("채식주의자");
+            assertThat(captor.getValue().author()).isEqualTo("한강");
+            assertThat(captor.getValue().publisher()).isEqualTo("창비 PRESS");
         }
 
         @Test
@@ -200,7 +305,7 @@ class BookPreprocessingServiceTest {
                 "Title", null, null,
                 "Jane Doe", null, null, "Publisher",
                 "bad-date",
-                "9781234567890",
+                "9781234567897",
                 "A long enough description to pass validation rules."
             );
 
@@ -211,4 +316,106 @@ class BookPreprocessingServiceTest {
             assertThat(captor.getValue().publishedAt()).isNull();
         }
     }
+
+    @Nested
+    class JsonBatchProcessing {
+
+        private NaverBookItem item(String isbn) {
+            return new NaverBookItem(
+                "Title", null, null,
+                "Jane Doe", null, null, "Publisher",
+                "20240102",
+                isbn,
+                "A long enough description to pass validation rules."
+            );
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void publishesValidItemsAndSkipsNullSlots() {
+            service.processItems(Arrays.asList(item("9781234567897"), null, item("9789999999991")));
+
+            ArgumentCaptor<List<Book>> captor = ArgumentCaptor.forClass(List.class);
+            verify(publisher, times(1)).publishAll(captor.capture());
+            assertThat(captor.getValue()).extracting(Book::isbn)
+                .containsExactly("9781234567897", "9789999999991");
+        }
+
+        @Test
+        void reportsSourceIndexOfBookThatFailedToPublish() {
+            IllegalStateException cause = new IllegalStateException("broker down");
+            doThrow(new BookPublishException(1, cause)).when(publisher).publishAll(anyList());
+
+            // index 1 of the published list is the item at source index 2 (source index 1 is skipped)
+            List<NaverBookItem> items = Arrays.asList(item("9781234567897"), null, item("9789999999991"));
+
+            assertThatThrownBy(() -> service.processItems(items))
+                .isInstanceOf(BookBatchProcessingException.class)
+                .satisfies(ex -> {
+                    BookBatchProcessingException failed = (BookBatchProcessingException) ex;
+                    assertThat(failed.failedIndex()).isEqualTo(2);
+                    assertThat(failed.getCause()).isSameAs(cause);
+                });
+        }
+    }
+
+    @Nested
+    class RuleReplacement {
+
+        private NaverBookItem item(String author, String publisher) {
+            return new NaverBookItem(
+                "Title", null, null,
+                author, null, null, publisher,
+                "20240102",
+                "9781234567897",
+                "A long enough description to pass validation rules."
+            );
+        }
+
+        private NormalizationRules rules(int minDescriptionLength, List<String> roles, Set<RawField> required) {
+            return NormalizationRules.compile(
+                minDescriptionLength,
+                AuthorNormalizer.DEFAULT_SEPARATORS,
+                AuthorNormalizer.DEFAULT_SEPARATOR_WORDS,
+                roles,
+                required
+            );
+        }
+
+        @Test
+        void appliesReplacedRulesToNextRecord() {
+            service.processSingleItem(item("Kim 지음", null));
+
+            service.replaceRules(rules(60, AuthorNormalizer.DEFAULT_ROLES, NormalizationRules.DEFAULT_REQUIRED_FIELDS));
+            service.processSingleItem(item("Kim 지음", null));
+
+            verify(publisher, times(1)).publish(org.mockito.Mockito.any());
+            assertThat(service.currentRules().minDescriptionLength()).isEqualTo(60);
+        }
+
+        @Test
+        void requiresConfiguredFields() {
+            service.replaceRules(rules(30, AuthorNormalizer.DEFAULT_ROLES, Set.of(RawField.TITLE, RawField.PUBLISHER)));
+
+            service.processSingleItem(item(null, null));
+            service.processSingleItem(item(null, "Publisher"));
+
+            ArgumentCaptor<Book> captor = ArgumentCaptor.forClass(Book.class);
+            verify(publisher, times(1)).publish(captor.capture());
+            assertThat(captor.getValue().author()).isNull();
+            assertThat(captor.getValue().publisher()).isEqualTo("Publisher");
+        }
+
+        @Test
+        void dropsAuthorsCachedUnderPreviousRules() {
+            service.processSingleItem(item("Kim (Writer)", null));
+
+            service.replaceRules(rules(30, List.of("writer"), NormalizationRules.DEFAULT_REQUIRED_FIELDS));
+            service.processSingleItem(item("Kim (Writer)", null));
+
+            ArgumentCaptor<Book> captor = ArgumentCaptor.forClass(Book.class);
+            verify(publisher, times(2)).publish(captor.capture());
+            assertThat(captor.getAllValues()).extracting(Book::author).containsExactly("Kim (Writer)", "Kim ()");
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package org.todaybook.bookpreprocessingworker.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Map;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -15,14 +17,18 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.test.context.EmbeddedKafka;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.todaybook.bookpreprocessingworker.application.dto.NaverBookItem;
+import org.todaybook.bookpreprocessingworker.application.parser.UnknownColumnMappingException;
 import org.todaybook.bookpreprocessingworker.domain.model.Book;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
@@ -59,6 +65,9 @@ class KafkaConfigTest {
     @Autowired
     private CommonErrorHandler dlqErrorHandler;
 
+    @Autowired
+    private DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+
     @Nested
     @DisplayName("Bean Creation Tests")
     class BeanCreationTests {
@@ -100,6 +109,46 @@ class KafkaConfigTest {
         void givenApplicationContext_whenStartUp_thenDlqErrorHandlerExists() {
             assertThat(dlqErrorHandler).isNotNull();
         }
+
+        @Test
+        @DisplayName("Given_TransactionsDisabled_When_StartUp_Then_ProducerIsNotTransactional")
+        void givenTransactionsDisabled_whenStartUp_thenProducerIsNotTransactional() {
+            assertThat(bookProducerFactory.transactionCapable()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Given_ParallelListenerMode_When_CreatingTransactionManager_Then_Rejects")
+        void givenParallelListenerMode_whenCreatingTransactionManager_thenRejects() {
+            AppKafkaProperties props = new AppKafkaProperties();
+            props.getListener().setJsonMode(ListenerMode.PARALLEL);
+
+            assertThatThrownBy(() -> kafkaConfig.kafkaTransactionManager(bookProducerFactory, props))
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Given_RecordListenerMode_When_CreatingTransactionManager_Then_Rejects")
+        void givenRecordListenerMode_whenCreatingTransactionManager_thenRejects() {
+            AppKafkaProperties props = new AppKafkaProperties();
+            props.getListener().setCsvMode(ListenerMode.BATCH);
+
+            assertThatThrownBy(() -> kafkaConfig.kafkaTransactionManager(bookProducerFactory, props))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("json-mode=RECORD");
+        }
+
+        @Test
+        @DisplayName("Given_ListenersNotAutoStarted_When_CreatingTransactionManager_Then_IgnoresListenerModes")
+        void givenListenersNotAutoStarted_whenCreatingTransactionManager_thenIgnoresListenerModes() {
+            // given - the backfill profile: record modes, but no container ever runs
+            AppKafkaProperties props = new AppKafkaProperties();
+            props.getListener().setAutoStartup(false);
+            DefaultKafkaProducerFactory<String, Book> transactionalFactory = new DefaultKafkaProducerFactory<>(Map.of());
+            transactionalFactory.setTransactionIdPrefix("backfill-tx-");
+
+            // when / then
+            assertThat(kafkaConfig.kafkaTransactionManager(transactionalFactory, props)).isNotNull();
+        }
     }
 
     @Disabled
@@ -168,6 +217,16 @@ class KafkaConfigTest {
             assertThat(dlqErrorHandler).isInstanceOf(DefaultErrorHandler.class);
         }
 
+        @Test
+        @DisplayName("Given_UnknownColumnMapping_When_Classify_Then_IsNotRetried")
+        void givenUnknownColumnMapping_whenClassify_thenIsNotRetried() {
+            // a fresh handler, so the shared bean keeps its classifications
+            DefaultErrorHandler handler =
+                (DefaultErrorHandler) kafkaConfig.dlqErrorHandler(deadLetterPublishingRecoverer);
+
+            assertThat(handler.removeClassification(UnknownColumnMappingException.class)).isFalse();
+        }
+
         @Test
         @DisplayName("Given_ListenerContainerFactory_When_Check_Then_HasErrorHandler")
         void givenListenerContainerFactory_whenCheck_thenHasErrorHandler() {
@@ -175,5 +234,14 @@ class KafkaConfigTest {
             assertThat(csvKafkaListenerContainerFactory.getContainerProperties()).isNotNull();
             assertThat(jsonKafkaListenerContainerFactory.getContainerProperties()).isNotNull();
         }
+
+        @Test
+        @DisplayName("Given_RecordListenerContainerFactory_When_Check_Then_AcksManuallyOutOfOrder")
+        void givenRecordListenerContainerFactory_whenCheck_thenAcksManuallyOutOfOrder() {
+            // Offsets are acknowledged from producer callbacks once the published books are acked
+            ContainerProperties properties = jsonKafkaListenerContainerFactory.getContainerProperties();
+            assertThat(properties.getAckMode()).isEqualTo(ContainerProperties.AckMode.MANUAL);
+            assertThat(properties.isAsyncAcks()).isTrue();
+        }
     }
 }
@@ -2,6 +2,7 @@ package org.todaybook.bookpreprocessingworker.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -37,4 +38,30 @@ class TopicNamesTest {
         assertThat(names.csvInputTopic()).isEqualTo("svc.dev.");
         assertThat(names.outputTopic()).isEqualTo("svc.dev.");
     }
+
+    @Test
+    @DisplayName("Envelope topic stays unset unless configured")
+    void envelopeTopicIsOptional() {
+        AppKafkaProperties props = new AppKafkaProperties();
+        props.setPrefix("svc");
+        props.setEnv("dev");
+
+        assertThat(new TopicNames(props).envelopeInputTopic()).isNull();
+
+        props.setEnvelopeInputTopic("book.raw.naver.envelope");
+        assertThat(new TopicNames(props).envelopeInputTopic()).isEqualTo("book.raw.naver.envelope");
+    }
+
+    @Test
+    @DisplayName("Topics bound to column mappings are subscribed with the CSV input topic")
+    void columnMappingTopicsJoinCsvInputTopics() {
+        AppKafkaProperties props = new AppKafkaProperties();
+        props.setCsvInputTopic("book.raw.csv");
+        props.setCsvChunkInputTopic("book.raw.csv.chunk");
+        AppKafkaProperties.ColumnMapping partner = new AppKafkaProperties.ColumnMapping();
+        partner.setTopics(List.of("book.raw.partner", "book.raw.csv", "book.raw.csv.chunk"));
+        props.getColumnMappings().put("partner", partner);
+
+        assertThat(new TopicNames(props).csvInputTopics()).containsExactly("book.raw.csv", "book.raw.partner");
+    }
 }
@@ -0,0 +1,217 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.backfill;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.todaybook.bookpreprocessingworker.application.parser.RawField;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayouts;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookBatchProcessingException;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.config.BackfillProperties;
+import org.todaybook.bookpreprocessingworker.domain.model.Book;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BackfillRunner Unit Tests")
+class BackfillRunnerTest {
+
+    @Mock
+    private BookMessageUseCase bookMessageUseCase;
+
+    @Mock
+    private ConfigurableApplicationContext context;
+
+    @Mock
+    private KafkaTemplate<String, Book> bookKafkaTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    private BackfillProperties props;
+    private DeliveryTracker deliveryTracker;
+    private BackfillRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        props = new BackfillProperties();
+        props.setBatchSize(2);
+        props.setExitOnCompletion(false);
+        deliveryTracker = new DeliveryTracker(16, 1 << 20, (record, ex) -> { });
+        runner = new BackfillRunner(bookMessageUseCase, props, context, RawRowLayouts.defaults(), deliveryTracker);
+    }
+
+    @Test
+    @DisplayName("Given_BlankFilePath_When_Run_Then_RejectsBeforeReading")
+    void givenBlankFilePath_whenRun_thenRejectsBeforeReading() {
+        // given
+        props.setFile(Path.of(""));
+
+        // when & then
+        assertThatThrownBy(() -> runner.run(null))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("app.backfill.file");
+        then(bookMessageUseCase).should(never()).processRawRows(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Given_DumpWithHeader_When_Backfill_Then_SubmitsRowsInBatches")
+    void givenDumpWithHeader_whenBackfill_thenSubmitsRowsInBatches() throws Exception {
+        // given
+        props.setSkipHeader(true);
+        Path file = dump("\"id\",\"isbn\"\n\"1\",\"a\"\n\"2\",\"b\"\n\"3\",\"c\"\n");
+        List<List<String>> batches = new ArrayList<>();
+        willAnswer(inv -> batches.add(List.copyOf(inv.getArgument(0))))
+            .given(bookMessageUseCase).processRawRows(anyList(), any());
+
+        // when
+        BackfillRunner.BackfillReport report = runner.backfill(file);
+
+        // then
+        assertThat(batches).containsExactly(
+            List.of("\"1\",\"a\"", "\"2\",\"b\""),
+            List.of("\"3\",\"c\"")
+        );
+        assertThat(report.rows()).isEqualTo(3);
+        assertThat(report.failed()).isZero();
+    }
+
+    @Test
+    @DisplayName("Given_RowFailsNormalization_When_Backfill_Then_SkipsItAndResubmitsRest")
+    void givenRowFailsNormalization_whenBackfill_thenSkipsItAndResubmitsRest() throws Exception {
+        // given
+        props.setBatchSize(3);
+        Path file = dump("\"1\",\"a\"\n\"2\",\"bad\"\n\"3\",\"c\"\n");
+        willThrow(new BookBatchProcessingException(1, new IllegalStateException("bad row")))
+            .given(bookMessageUseCase)
+            .processRawRows(List.of("\"1\",\"a\"", "\"2\",\"bad\"", "\"3\",\"c\""), RawRowLayout.DEFAULT);
+
+        // when
+        BackfillRunner.BackfillReport report = runner.backfill(file);
+
+        // then
+        then(bookMessageUseCase).should(times(1)).processRawRows(List.of("\"3\",\"c\""), RawRowLayout.DEFAULT);
+        assertThat(report.rows()).isEqualTo(3);
+        assertThat(report.failed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given_SendFailsAfterProcessing_When_Backfill_Then_CountsBatchAsFailed")
+    void givenSendFailsAfterProcessing_whenBackfill_thenCountsBatchAsFailed() throws Exception {
+        // given
+        Path file = dump("\"1\",\"a\"\n\"2\",\"b\"\n\"3\",\"c\"\n");
+        willAnswer(inv -> {
+            List<String> rows = inv.getArgument(0);
+            if (rows.contains("\"3\",\"c\"")) {
+                deliveryTracker.send(1, () -> CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+            }
+            return null;
+        }).given(bookMessageUseCase).processRawRows(anyList(), any());
+
+        // when
+        BackfillRunner.BackfillReport report = runner.backfill(file);
+
+        // then
+        assertThat(report.rows()).isEqualTo(3);
+        assertThat(report.failed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given_TransactionsEnabled_When_SendFails_Then_StillCountsBatchAsFailed")
+    void givenTransactionsEnabled_whenSendFails_thenStillCountsBatchAsFailed() throws Exception {
+        // given - wired as KafkaConfig does; backfill sends outside any transaction
+        given(bookKafkaTemplate.inTransaction()).willReturn(false);
+        DeliveryTracker transactionalTracker =
+            new DeliveryTracker(16, 1 << 20, (record, ex) -> { }, bookKafkaTemplate::inTransaction);
+        BackfillRunner transactionalRunner = new BackfillRunner(
+            bookMessageUseCase, props, context, RawRowLayouts.defaults(), transactionalTracker);
+        Path file = dump("\"1\",\"a\"\n\"2\",\"b\"\n");
+        willAnswer(inv -> transactionalTracker.send(1,
+            () -> CompletableFuture.failedFuture(new IllegalStateException("broker down"))))
+            .given(bookMessageUseCase).processRawRows(anyList(), any());
+
+        // when
+        BackfillRunner.BackfillReport report = transactionalRunner.backfill(file);
+
+        // then
+        assertThat(report.rows()).isEqualTo(2);
+        assertThat(report.failed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Given_RecognizedHeader_When_Backfill_Then_ReadsRowsWithDetectedLayout")
+    void givenRecognizedHeader_whenBackfill_thenReadsRowsWithDetectedLayout() throws Exception {
+        // given
+        props.setSkipHeader(true);
+        Path file = dump("\"Title\",\"ISBN-13\",\"Author\",\"Description\"\n\"t\",\"9780761921585\",\"a\",\"d\"\n");
+        RawRowLayout expected = RawRowLayout.of(Map.of(
+            RawField.TITLE, 0,
+            RawField.ISBN, 1,
+            RawField.AUTHOR, 2,
+            RawField.DESCRIPTION, 3
+        ));
+
+        // when
+        runner.backfill(file);
+
+        // then
+        then(bookMessageUseCase).should(times(1))
+            .processRawRows(eq(List.of("\"t\",\"9780761921585\",\"a\",\"d\"")), any());
+        then(bookMessageUseCase).should(times(1)).processRawRows(anyList(), eq(expected));
+    }
+
+    @Test
+    @DisplayName("Given_Parallelism_When_Backfill_Then_EveryRowIsSubmittedOnce")
+    void givenParallelism_whenBackfill_thenEveryRowIsSubmittedOnce() throws Exception {
+        // given
+        props.setParallelism(4);
+        props.setSkipHeader(true);
+        StringBuilder content = new StringBuilder("\"id\",\"isbn\"\n");
+        for (int i = 0; i < 50; i++) {
+            content.append("\"").append(i).append("\",\"multi\nline\"\n");
+        }
+        Path file = dump(content.toString());
+        List<String> submitted = Collections.synchronizedList(new ArrayList<>());
+        willAnswer(inv -> submitted.addAll(inv.getArgument(0)))
+            .given(bookMessageUseCase).processRawRows(anyList(), any());
+
+        // when
+        BackfillRunner.BackfillReport report = runner.backfill(file);
+
+        // then
+        assertThat(report.rows()).isEqualTo(50);
+        assertThat(submitted).hasSize(50).doesNotHaveDuplicates().doesNotContain("\"id\",\"isbn\"");
+    }
+
+    private Path dump(String content) throws Exception {
+        Path file = tempDir.resolve("dump.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
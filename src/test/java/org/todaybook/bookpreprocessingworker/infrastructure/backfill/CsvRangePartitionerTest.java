@@ -0,0 +1,82 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.backfill;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("CsvRangePartitioner Unit Tests")
+class CsvRangePartitionerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Given_QuotedNewlinesAndEscapes_When_Partition_Then_RangesYieldSameRowsAsSequentialRead")
+    void givenQuotedNewlinesAndEscapes_whenPartition_thenRangesYieldSameRowsAsSequentialRead() throws IOException {
+        // given - naive cuts land inside quoted fields, on "" escapes and on quoted newlines
+        StringBuilder dump = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            dump.append('"').append(i).append("\",\"say \"\"hi\"\"\nnext, line\",\"설명\"\r\n");
+        }
+        Path file = tempDir.resolve("dump.csv");
+        Files.writeString(file, dump, StandardCharsets.UTF_8);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<String> sequential = read(channel, new long[] {0, channel.size()});
+
+            for (int parts : new int[] {2, 3, 7, 64}) {
+                // when
+                long[] bounds = CsvRangePartitioner.partition(channel, parts, 32, pool);
+
+                // then
+                assertThat(bounds[0]).isZero();
+                assertThat(bounds[bounds.length - 1]).isEqualTo(channel.size());
+                assertThat(read(channel, bounds)).isEqualTo(sequential);
+            }
+            assertThat(sequential).hasSize(200);
+        }
+    }
+
+    @Test
+    @DisplayName("Given_CutInsideQuotes_When_NextRowStart_Then_SkipsQuotedNewline")
+    void givenCutInsideQuotes_whenNextRowStart_thenSkipsQuotedNewline() throws IOException {
+        // given
+        Path file = tempDir.resolve("row.csv");
+        Files.writeString(file, "\"1\",\"a\nb\"\n\"2\"\n", StandardCharsets.UTF_8);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // when - offset 6 is the newline inside "a\nb", where the quote state is "open"
+            long rowStart = CsvRangePartitioner.nextRowStart(channel, 6, true, 1024);
+
+            // then
+            assertThat(rowStart).isEqualTo(10);
+        }
+    }
+
+    private static List<String> read(FileChannel channel, long[] bounds) throws IOException {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < bounds.length - 1; i++) {
+            new MappedCsvRowReader(1024).read(channel, bounds[i], bounds[i + 1], (row, end) -> rows.add(row));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,66 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.backfill;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("MappedCsvRowReader Unit Tests")
+class MappedCsvRowReaderTest {
+
+    private static final String DUMP = "\"1\",\"a,b\"\r\n"
+        + "\"2\",\"multi\nline \"\"quoted\"\"\"\n"
+        + "\n"
+        + "\"3\",\"한글 제목\"";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Given_DumpInSingleWindow_When_Read_Then_EmitsQuoteAwareRows")
+    void givenDumpInSingleWindow_whenRead_thenEmitsQuoteAwareRows() throws IOException {
+        assertThat(readAll(DUMP, 1024)).containsExactly(
+            "\"1\",\"a,b\"",
+            "\"2\",\"multi\nline \"\"quoted\"\"\"",
+            "\"3\",\"한글 제목\""
+        );
+    }
+
+    @Test
+    @DisplayName("Given_RowsCutByWindowEdges_When_Read_Then_RowsAreReassembled")
+    void givenRowsCutByWindowEdges_whenRead_thenRowsAreReassembled() throws IOException {
+        // given - the longest row is 28 bytes, so every window boundary cuts a row
+        long windowSize = 33;
+
+        // when & then
+        assertThat(readAll(DUMP, windowSize)).isEqualTo(readAll(DUMP, 1024));
+    }
+
+    @Test
+    @DisplayName("Given_RowLongerThanWindow_When_Read_Then_Fails")
+    void givenRowLongerThanWindow_whenRead_thenFails() {
+        assertThatThrownBy(() -> readAll(DUMP, 8))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("longer than the mapping window");
+    }
+
+    private List<String> readAll(String content, long windowSize) throws IOException {
+        Path file = tempDir.resolve("dump-" + windowSize + ".csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        List<String> rows = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            new MappedCsvRowReader(windowSize).read(channel, 0, channel.size(), (row, end) -> rows.add(row));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,186 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.todaybook.bookpreprocessingworker.application.parser.RawField;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayouts;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookBatchProcessingException;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.config.AppKafkaProperties;
+import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.PayloadEncoding;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.RawRowLayoutResolver;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CsvBatchBookKafkaListener Unit Tests")
+class CsvBatchBookKafkaListenerTest {
+
+    private static final String TOPIC = "book.raw.csv";
+    private static final String MAPPED_TOPIC = "book.raw.partner";
+    private static final RawRowLayout PARTNER_LAYOUT = RawRowLayout.of(Map.of(
+        RawField.ISBN, 0,
+        RawField.TITLE, 1,
+        RawField.AUTHOR, 2,
+        RawField.DESCRIPTION, 3
+    ));
+
+    @Mock
+    private BookMessageUseCase bookMessageUseCase;
+
+    private CsvBatchBookKafkaListener listener;
+
+    @BeforeEach
+    void setUp() {
+        AppKafkaProperties props = new AppKafkaProperties();
+        props.setCsvInputTopic(TOPIC);
+        RawRowLayouts layouts = new RawRowLayouts(Map.of(), Map.of(MAPPED_TOPIC, PARTNER_LAYOUT));
+        listener = new CsvBatchBookKafkaListener(
+            bookMessageUseCase,
+            new TopicNames(props),
+            props,
+            new RawRowLayoutResolver(layouts, props),
+            new DeliveryTracker(16, 1 << 20, (record, ex) -> { })
+        );
+    }
+
+    @Test
+    @DisplayName("Given_PolledRecords_When_OnMessages_Then_DelegatesRowsInOrder")
+    void givenPolledRecords_whenOnMessages_thenDelegatesRowsInOrder() {
+        // given
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+            record(TOPIC, 0L, "k1", "\"1\",\"9780761921585\""),
+            record(TOPIC, 1L, "k2", "\"2\",\"9788966262281\"")
+        );
+
+        // when
+        listener.onMessages(records);
+
+        // then
+        then(bookMessageUseCase).should(times(1))
+            .processRawRows(List.of("\"1\",\"9780761921585\"", "\"2\",\"9788966262281\""), RawRowLayout.DEFAULT);
+    }
+
+    @Test
+    @DisplayName("Given_PollSpanningMappedTopic_When_RowFails_Then_ReportsIndexInWholePoll")
+    void givenPollSpanningMappedTopic_whenRowFails_thenReportsIndexInWholePoll() {
+        // given
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+            record(TOPIC, 0L, "k1", "row-0"),
+            record(MAPPED_TOPIC, 0L, "k2", "row-1"),
+            record(MAPPED_TOPIC, 1L, "k3", "row-2")
+        );
+        willAnswer(inv -> {
+            if (inv.getArgument(1) == PARTNER_LAYOUT) {
+                throw new BookBatchProcessingException(1, new IllegalStateException("boom"));
+            }
+            return null;
+        }).given(bookMessageUseCase).processRawRows(anyList(), any());
+
+        // when & then
+        assertThatThrownBy(() -> listener.onMessages(records))
+            .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                ex -> org.assertj.core.api.Assertions.assertThat(ex.getIndex()).isEqualTo(2));
+        then(bookMessageUseCase).should(times(1)).processRawRows(List.of("row-0"), RawRowLayout.DEFAULT);
+        then(bookMessageUseCase).should(times(1)).processRawRows(List.of("row-1", "row-2"), PARTNER_LAYOUT);
+    }
+
+    @Test
+    @DisplayName("Given_RowFails_When_OnMessages_Then_ReportsFailedIndex")
+    void givenRowFails_whenOnMessages_thenReportsFailedIndex() {
+        // given
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+            record(TOPIC, 0L, "k1", "row-0"),
+            record(TOPIC, 1L, "k2", "row-1")
+        );
+        willThrow(new BookBatchProcessingException(1, new IllegalStateException("boom")))
+            .given(bookMessageUseCase).processRawRows(anyList(), any());
+
+        // when & then
+        assertThatThrownBy(() -> listener.onMessages(records))
+            .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                ex -> org.assertj.core.api.Assertions.assertThat(ex.getIndex()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("Given_GzipRecordInPoll_When_OnMessages_Then_DelegatesItsRowsBetweenRuns")
+    void givenGzipRecordInPoll_whenOnMessages_thenDelegatesItsRowsBetweenRuns() throws IOException {
+        // given
+        byte[] payload = gzip("\"1\",\"a\"\n\"2\",\"b\"\n");
+        ConsumerRecord<String, byte[]> compressed = new ConsumerRecord<>(TOPIC, 0, 1L, "k2", payload);
+        compressed.headers().add(PayloadEncoding.HEADER, "gzip".getBytes(StandardCharsets.US_ASCII));
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+            record(TOPIC, 0L, "k1", "row-0"),
+            compressed,
+            record(TOPIC, 2L, "k3", "row-2")
+        );
+
+        // when
+        listener.onMessages(records);
+
+        // then
+        InOrder inOrder = Mockito.inOrder(bookMessageUseCase);
+        inOrder.verify(bookMessageUseCase).processRawRows(List.of("row-0"), RawRowLayout.DEFAULT);
+        inOrder.verify(bookMessageUseCase).processRawRows(List.of("\"1\",\"a\"", "\"2\",\"b\""), RawRowLayout.DEFAULT);
+        inOrder.verify(bookMessageUseCase).processRawRows(List.of("row-2"), RawRowLayout.DEFAULT);
+    }
+
+    @Test
+    @DisplayName("Given_CorruptGzipRecord_When_OnMessages_Then_ReportsItsIndex")
+    void givenCorruptGzipRecord_whenOnMessages_thenReportsItsIndex() {
+        // given
+        ConsumerRecord<String, byte[]> corrupt = record(TOPIC, 1L, "k2", "not gzip");
+        corrupt.headers().add(PayloadEncoding.HEADER, "gzip".getBytes(StandardCharsets.US_ASCII));
+        List<ConsumerRecord<String, byte[]>> records = List.of(record(TOPIC, 0L, "k1", "row-0"), corrupt);
+
+        // when & then
+        assertThatThrownBy(() -> listener.onMessages(records))
+            .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                ex -> org.assertj.core.api.Assertions.assertThat(ex.getIndex()).isEqualTo(1));
+        then(bookMessageUseCase).should(times(1)).processRawRows(List.of("row-0"), RawRowLayout.DEFAULT);
+    }
+
+    @Test
+    @DisplayName("Given_EmptyPoll_When_OnMessages_Then_DoesNotDelegate")
+    void givenEmptyPoll_whenOnMessages_thenDoesNotDelegate() {
+        listener.onMessages(List.of());
+
+        then(bookMessageUseCase).should(never()).processRawRows(anyList(), any());
+    }
+
+    private static ConsumerRecord<String, byte[]> record(String topic, long offset, String key, String row) {
+        return new ConsumerRecord<>(topic, 0, offset, key, row.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
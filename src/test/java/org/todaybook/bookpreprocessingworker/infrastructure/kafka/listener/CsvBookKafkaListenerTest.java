@@ -1,30 +1,65 @@
 package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayouts;
+import org.todaybook.bookpreprocessingworker.application.parser.RawField;
 import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
 import org.todaybook.bookpreprocessingworker.config.AppKafkaProperties;
 import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.PayloadEncoding;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.RawRowLayoutResolver;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CsvBookKafkaListener Unit Tests")
 class CsvBookKafkaListenerTest {
 
+    private static final RawRowLayout SHORT_LAYOUT = RawRowLayout.of(Map.of(
+        RawField.ISBN, 0,
+        RawField.TITLE, 1,
+        RawField.AUTHOR, 2,
+        RawField.DESCRIPTION, 3
+    ));
+
     @Mock
     private BookMessageUseCase bookMessageUseCase;
 
+    @Mock
+    private Acknowledgment ack;
+
     private CsvBookKafkaListener listener;
 
     @BeforeEach
     void setUp() {
-        listener = new CsvBookKafkaListener(bookMessageUseCase, topicNames());
+        AppKafkaProperties props = new AppKafkaProperties();
+        props.setCsvInputTopic("book.raw.csv");
+        listener = new CsvBookKafkaListener(
+            bookMessageUseCase,
+            new TopicNames(props),
+            props,
+            new RawRowLayoutResolver(new RawRowLayouts(Map.of("short", SHORT_LAYOUT), Map.of()), props),
+            new DeliveryTracker(16, 1 << 20, (record, ex) -> { })
+        );
     }
 
     @Test
@@ -40,9 +75,74 @@ class CsvBookKafkaListenerTest {
         then(bookMessageUseCase).should(times(1)).processRawRow(rawPayload);
     }
 
-    private TopicNames topicNames() {
-        AppKafkaProperties props = new AppKafkaProperties();
-        props.setCsvInputTopic("book.raw.csv");
-        return new TopicNames(props);
+    @Test
+    @DisplayName("Given_UncompressedRecord_When_OnRecord_Then_DelegatesRowBytes")
+    void givenUncompressedRecord_whenOnRecord_thenDelegatesRowBytes() {
+        // given - a quoted newline stays inside the single row
+        byte[] rawPayload = "\"1\",\"multi\nline\"".getBytes(StandardCharsets.UTF_8);
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("book.raw.csv", 0, 0L, "k", rawPayload);
+
+        // when
+        listener.onRecord(record, ack);
+
+        // then
+        then(bookMessageUseCase).should(times(1)).processRawRow(rawPayload, RawRowLayout.DEFAULT);
+        then(bookMessageUseCase).should(never()).processRawRow(anyString(), any());
+        then(ack).should().acknowledge();
+    }
+
+    @Test
+    @DisplayName("Given_GzipRecordWithManyRows_When_OnRecord_Then_DelegatesSplitRows")
+    void givenGzipRecordWithManyRows_whenOnRecord_thenDelegatesSplitRows() throws IOException {
+        // given
+        byte[] compressed = gzip("\"1\",\"a\"\n\"2\",\"b\"\n");
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("book.raw.csv", 0, 0L, "k", compressed);
+        record.headers().add(PayloadEncoding.HEADER, "gzip".getBytes(StandardCharsets.US_ASCII));
+
+        // when
+        listener.onRecord(record, ack);
+
+        // then
+        then(bookMessageUseCase).should(times(1))
+            .processRawRows(List.of("\"1\",\"a\"", "\"2\",\"b\""), RawRowLayout.DEFAULT);
+        then(bookMessageUseCase).should(never()).processRawRow(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Given_NullPayloadWithColumnMapping_When_OnRecord_Then_DelegatesWithResolvedLayout")
+    void givenNullPayloadWithColumnMapping_whenOnRecord_thenDelegatesWithResolvedLayout() {
+        // given
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("book.raw.csv", 0, 0L, "k", null);
+        record.headers().add("column-mapping", "short".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        listener.onRecord(record, ack);
+
+        // then
+        then(bookMessageUseCase).should(times(1)).processRawRow((byte[]) null, SHORT_LAYOUT);
+        then(bookMessageUseCase).should(never()).processRawRow(any(String.class), any());
+    }
+
+    @Test
+    @DisplayName("Given_ColumnMappingHeader_When_OnRecord_Then_UsesNamedLayout")
+    void givenColumnMappingHeader_whenOnRecord_thenUsesNamedLayout() {
+        // given
+        byte[] rawPayload = "\"9780761921585\",\"Title\",\"Author\",\"Desc\"".getBytes(StandardCharsets.UTF_8);
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("book.raw.csv", 0, 0L, "k", rawPayload);
+        record.headers().add("column-mapping", "short".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        listener.onRecord(record, ack);
+
+        // then
+        then(bookMessageUseCase).should(times(1)).processRawRow(rawPayload, SHORT_LAYOUT);
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
     }
 }
@@ -0,0 +1,73 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayouts;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.config.AppKafkaProperties;
+import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.RawRowLayoutResolver;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CsvChunkKafkaListener Unit Tests")
+class CsvChunkKafkaListenerTest {
+
+    @Mock
+    private BookMessageUseCase bookMessageUseCase;
+
+    private CsvChunkKafkaListener listener;
+
+    @BeforeEach
+    void setUp() {
+        AppKafkaProperties props = new AppKafkaProperties();
+        props.setCsvInputTopic("book.raw.csv");
+        props.setCsvChunkInputTopic("book.raw.csv.chunk");
+        props.getListener().setChunkBatchSize(2);
+        listener = new CsvChunkKafkaListener(
+            bookMessageUseCase,
+            new TopicNames(props),
+            props,
+            new RawRowLayoutResolver(RawRowLayouts.defaults(), props),
+            new DeliveryTracker(16, 1 << 20, (record, ex) -> { })
+        );
+    }
+
+    @Test
+    @DisplayName("Given_ChunkWithThreeRows_When_OnMessage_Then_DelegatesInGroupsOfBatchSize")
+    void givenChunkWithThreeRows_whenOnMessage_thenDelegatesInGroupsOfBatchSize() {
+        // given
+        String chunk = "\"1\",\"a\"\n\"2\",\"multi\nline\"\n\"3\",\"c\"\n";
+
+        // when
+        listener.onMessage(chunk.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        InOrder inOrder = Mockito.inOrder(bookMessageUseCase);
+        inOrder.verify(bookMessageUseCase).processRawRows(List.of("\"1\",\"a\"", "\"2\",\"multi\nline\""), RawRowLayout.DEFAULT);
+        inOrder.verify(bookMessageUseCase).processRawRows(List.of("\"3\",\"c\""), RawRowLayout.DEFAULT);
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("Given_EmptyPayload_When_OnMessage_Then_DoesNotDelegate")
+    void givenEmptyPayload_whenOnMessage_thenDoesNotDelegate() {
+        listener.onMessage(new byte[0]);
+
+        then(bookMessageUseCase).should(never()).processRawRows(anyList(), any());
+    }
+}
@@ -0,0 +1,156 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayout;
+import org.todaybook.bookpreprocessingworker.application.parser.RawRowLayouts;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookKeyResolver;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.config.AppKafkaProperties;
+import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.parallel.KeyOrderedDispatcher;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.PayloadEncoding;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.support.RawRowLayoutResolver;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CsvParallelBookKafkaListener Unit Tests")
+class CsvParallelBookKafkaListenerTest {
+
+    private static final byte[] ROW =
+        "\"115982\",\"9780761921585\",\"cloth\",\"Title\"".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private BookMessageUseCase bookMessageUseCase;
+
+    @Mock
+    private BookKeyResolver bookKeyResolver;
+
+    @Mock
+    private KeyOrderedDispatcher dispatcher;
+
+    @Mock
+    private Acknowledgment ack;
+
+    private CsvParallelBookKafkaListener listener;
+
+    @BeforeEach
+    void setUp() {
+        AppKafkaProperties props = new AppKafkaProperties();
+        props.setCsvInputTopic("book.raw.csv");
+        listener = new CsvParallelBookKafkaListener(
+            bookMessageUseCase,
+            bookKeyResolver,
+            dispatcher,
+            new TopicNames(props),
+            props,
+            new RawRowLayoutResolver(new RawRowLayouts(Map.of(), Map.of()), props)
+        );
+    }
+
+    @Test
+    @DisplayName("Given_IsbnRecordKey_When_OnMessage_Then_RoutesByKeyWithoutParsing")
+    void givenIsbnRecordKey_whenOnMessage_thenRoutesByKeyWithoutParsing() {
+        // given
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("book.raw.csv", 0, 0L, "9780761921585", ROW);
+        given(bookKeyResolver.resolveRecordKey("9780761921585")).willReturn("9780761921585");
+
+        // when
+        listener.onMessage(record, ack);
+
+        // then
+        then(bookKeyResolver).should(never()).resolveRawRowKey(any(byte[].class), any(RawRowLayout.class));
+        then(dispatcher).should().dispatch(eq("9780761921585"), eq(record), eq(ack), any());
+    }
+
+    @Test
+    @DisplayName("Given_Isbn10RecordKey_When_OnMessage_Then_RoutesByNormalizedIsbn")
+    void givenIsbn10RecordKey_whenOnMessage_thenRoutesByNormalizedIsbn() {
+        // given - the same book keyed as a hyphenated ISBN-10
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("book.raw.csv", 0, 0L, "0-7619-2158-3", ROW);
+        given(bookKeyResolver.resolveRecordKey("0-7619-2158-3")).willReturn("9780761921585");
+
+        // when
+        listener.onMessage(record, ack);
+
+        // then
+        then(dispatcher).should().dispatch(eq("9780761921585"), eq(record), eq(ack), any());
+    }
+
+    @Test
+    @DisplayName("Given_NonIsbnRecordKey_When_OnMessage_Then_RoutesByIsbnReadFromRow")
+    void givenNonIsbnRecordKey_whenOnMessage_thenRoutesByIsbnReadFromRow() {
+        // given - keyed by source id, which must not split a book's rows across lanes
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("book.raw.csv", 0, 0L, "115982", ROW);
+        given(bookKeyResolver.resolveRawRowKey(ROW, RawRowLayout.DEFAULT)).willReturn("9780761921585");
+
+        // when
+        listener.onMessage(record, ack);
+
+        // then
+        then(dispatcher).should().dispatch(eq("9780761921585"), eq(record), eq(ack), any());
+    }
+
+    @Test
+    @DisplayName("Given_UnkeyedRecord_When_OnMessage_Then_RoutesByResolvedIsbn")
+    void givenUnkeyedRecord_whenOnMessage_thenRoutesByResolvedIsbn() {
+        // given
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("book.raw.csv", 0, 0L, null, ROW);
+        given(bookKeyResolver.resolveRawRowKey(ROW, RawRowLayout.DEFAULT)).willReturn("9780761921585");
+
+        // when
+        listener.onMessage(record, ack);
+
+        // then
+        then(dispatcher).should().dispatch(eq("9780761921585"), eq(record), eq(ack), any());
+    }
+
+    @Test
+    @DisplayName("Given_UnkeyedGzipRecord_When_OnMessage_Then_DispatchesWithoutKeyAndSplitsRowsInLane")
+    @SuppressWarnings("unchecked")
+    void givenUnkeyedGzipRecord_whenOnMessage_thenDispatchesWithoutKeyAndSplitsRowsInLane() throws IOException {
+        // given
+        ConsumerRecord<String, byte[]> record =
+            new ConsumerRecord<>("book.raw.csv", 0, 0L, null, gzip("\"1\",\"a\"\n\"2\",\"b\"\n"));
+        record.headers().add(PayloadEncoding.HEADER, "gzip".getBytes(StandardCharsets.US_ASCII));
+        ArgumentCaptor<Consumer<byte[]>> handler = ArgumentCaptor.forClass(Consumer.class);
+
+        // when
+        listener.onMessage(record, ack);
+
+        // then
+        then(bookKeyResolver).should(never()).resolveRawRowKey(any(byte[].class), any(RawRowLayout.class));
+        then(dispatcher).should().dispatch(isNull(), eq(record), eq(ack), handler.capture());
+        handler.getValue().accept(record.value());
+        then(bookMessageUseCase).should()
+            .processRawRows(List.of("\"1\",\"a\"", "\"2\",\"b\""), RawRowLayout.DEFAULT);
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,98 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.util.Arrays;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.todaybook.bookpreprocessingworker.application.dto.NaverBookItem;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookBatchProcessingException;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.config.AppKafkaProperties;
+import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+import org.todaybook.bookpreprocessingworker.support.TestFixtures;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JsonBatchBookKafkaListener Unit Tests")
+class JsonBatchBookKafkaListenerTest {
+
+    private static final String TOPIC = "book.raw.naver";
+
+    @Mock
+    private BookMessageUseCase bookMessageUseCase;
+
+    private JsonBatchBookKafkaListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new JsonBatchBookKafkaListener(bookMessageUseCase, topicNames(), new DeliveryTracker(16, 1 << 20, (record, ex) -> { }));
+    }
+
+    @Test
+    @DisplayName("Given_PolledItems_When_OnMessages_Then_DelegatesAllItemsIncludingNullSlots")
+    void givenPolledItems_whenOnMessages_thenDelegatesAllItemsIncludingNullSlots() {
+        // given
+        NaverBookItem first = TestFixtures.createValidNaverBookItem();
+        NaverBookItem third = TestFixtures.createNaverBookItemWithHtmlTitle();
+        List<ConsumerRecord<String, NaverBookItem>> records = List.of(
+            new ConsumerRecord<>(TOPIC, 0, 0L, "k1", first),
+            new ConsumerRecord<>(TOPIC, 0, 1L, "k2", null),
+            new ConsumerRecord<>(TOPIC, 0, 2L, "k3", third)
+        );
+
+        // when
+        listener.onMessages(records);
+
+        // then
+        then(bookMessageUseCase).should(times(1)).processItems(Arrays.asList(first, null, third));
+    }
+
+    @Test
+    @DisplayName("Given_UseCaseFailsAtIndex_When_OnMessages_Then_ThrowsBatchListenerFailedExceptionWithIndex")
+    void givenUseCaseFailsAtIndex_whenOnMessages_thenThrowsBatchListenerFailedExceptionWithIndex() {
+        // given
+        List<ConsumerRecord<String, NaverBookItem>> records = List.of(
+            new ConsumerRecord<>(TOPIC, 0, 10L, "k1", TestFixtures.createValidNaverBookItem()),
+            new ConsumerRecord<>(TOPIC, 0, 11L, "k2", TestFixtures.createRealNaverApiItem())
+        );
+        IllegalStateException cause = new IllegalStateException("poison");
+        willThrow(new BookBatchProcessingException(1, cause)).given(bookMessageUseCase).processItems(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> listener.onMessages(records))
+            .isInstanceOf(BatchListenerFailedException.class)
+            .satisfies(ex -> {
+                BatchListenerFailedException failed = (BatchListenerFailedException) ex;
+                assertThat(failed.getIndex()).isEqualTo(1);
+                assertThat(failed.getCause()).isSameAs(cause);
+            });
+    }
+
+    @Test
+    @DisplayName("Given_EmptyPoll_When_OnMessages_Then_DoesNotDelegate")
+    void givenEmptyPoll_whenOnMessages_thenDoesNotDelegate() {
+        listener.onMessages(List.of());
+
+        then(bookMessageUseCase).should(never()).processItems(anyList());
+    }
+
+    private TopicNames topicNames() {
+        AppKafkaProperties props = new AppKafkaProperties();
+        props.setInputTopic(TOPIC);
+        return new TopicNames(props);
+    }
+}
@@ -1,19 +1,23 @@
 package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
 
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
 import org.todaybook.bookpreprocessingworker.application.dto.NaverBookItem;
 import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
 import org.todaybook.bookpreprocessingworker.config.AppKafkaProperties;
 import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("JsonBookKafkaListener Unit Tests")
@@ -26,7 +30,7 @@ class JsonBookKafkaListenerTest {
 
     @BeforeEach
     void setUp() {
-        listener = new JsonBookKafkaListener(bookMessageUseCase, topicNames());
+        listener = new JsonBookKafkaListener(bookMessageUseCase, topicNames(), new DeliveryTracker(16, 1 << 20, (record, ex) -> { }));
     }
 
     @Test
@@ -41,7 +45,7 @@ class JsonBookKafkaListenerTest {
             null,
             "Publisher",
             "20240102",
-            "9781234567890",
+            "9781234567897",
             "A long enough description to pass validation rules."
         );
 
@@ -58,6 +62,17 @@ class JsonBookKafkaListenerTest {
         then(bookMessageUseCase).should(never()).processSingleItem(null);
     }
 
+    @Test
+    @DisplayName("Given_NullRecordValue_When_OnRecord_Then_AcknowledgesWithoutDelegating")
+    void givenNullRecordValue_whenOnRecord_thenAcknowledgesWithoutDelegating() {
+        Acknowledgment ack = mock(Acknowledgment.class);
+
+        listener.onRecord(new ConsumerRecord<>("book.raw.naver", 0, 5L, "k", null), ack);
+
+        then(bookMessageUseCase).should(never()).processSingleItem(null);
+        then(ack).should().acknowledge();
+    }
+
     private TopicNames topicNames() {
         AppKafkaProperties props = new AppKafkaProperties();
         props.setInputTopic("book.raw.naver");
@@ -0,0 +1,77 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.listener;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.todaybook.bookpreprocessingworker.application.parser.NaverEnvelopeReader;
+import org.todaybook.bookpreprocessingworker.application.port.in.BookMessageUseCase;
+import org.todaybook.bookpreprocessingworker.config.AppKafkaProperties;
+import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NaverEnvelopeKafkaListener Unit Tests")
+class NaverEnvelopeKafkaListenerTest {
+
+    @Mock
+    private BookMessageUseCase bookMessageUseCase;
+
+    private NaverEnvelopeKafkaListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new NaverEnvelopeKafkaListener(
+            bookMessageUseCase,
+            new NaverEnvelopeReader(new ObjectMapper()),
+            topicNames(),
+            new DeliveryTracker(16, 1 << 20, (record, ex) -> { })
+        );
+    }
+
+    @Test
+    @DisplayName("Given_EnvelopeWithTwoItems_When_OnMessage_Then_ProcessesEachItem")
+    void givenEnvelopeWithTwoItems_whenOnMessage_thenProcessesEachItem() {
+        String envelope = """
+            {"total":2,"items":[{"isbn":"9791192618944"},{"isbn":"9791192618906"}]}
+            """;
+
+        listener.onMessage(envelope.getBytes(StandardCharsets.UTF_8));
+
+        then(bookMessageUseCase).should(times(2)).processSingleItem(any());
+    }
+
+    @Test
+    @DisplayName("Given_MalformedEnvelope_When_OnMessage_Then_ThrowsUncheckedIOException")
+    void givenMalformedEnvelope_whenOnMessage_thenThrowsUncheckedIOException() {
+        byte[] payload = "{ this is not valid json }".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> listener.onMessage(payload)).isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    @DisplayName("Given_EmptyPayload_When_OnMessage_Then_DoesNotDelegate")
+    void givenEmptyPayload_whenOnMessage_thenDoesNotDelegate() {
+        listener.onMessage(new byte[0]);
+
+        then(bookMessageUseCase).should(never()).processSingleItem(any());
+    }
+
+    private TopicNames topicNames() {
+        AppKafkaProperties props = new AppKafkaProperties();
+        props.setInputTopic("book.raw.naver");
+        props.setEnvelopeInputTopic("book.raw.naver.envelope");
+        return new TopicNames(props);
+    }
+}
@@ -0,0 +1,109 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.util.backoff.FixedBackOff;
+import org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher.DeliveryTracker;
+
+@DisplayName("KeyOrderedDispatcher Unit Tests")
+class KeyOrderedDispatcherTest {
+
+    private static final String TOPIC = "book.raw.csv";
+
+    private ConsumerRecordRecoverer recoverer;
+    private DeliveryTracker deliveryTracker;
+    private KeyOrderedDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        recoverer = mock(ConsumerRecordRecoverer.class);
+        deliveryTracker = new DeliveryTracker(16, 1 << 20, recoverer);
+        dispatcher = new KeyOrderedDispatcher(4, 16, false, recoverer, new FixedBackOff(0L, 1), deliveryTracker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.close();
+        deliveryTracker.close();
+    }
+
+    @Test
+    @DisplayName("Given_RecordsWithSameKey_When_Dispatched_Then_ProcessedInOffsetOrder")
+    void givenRecordsWithSameKey_whenDispatched_thenProcessedInOffsetOrder() {
+        // given
+        List<String> processed = new CopyOnWriteArrayList<>();
+
+        // when
+        for (int offset = 0; offset < 50; offset++) {
+            dispatcher.dispatch("9780761921585", record(offset, "v" + offset), mock(Acknowledgment.class), processed::add);
+        }
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(() -> processed.size() == 50);
+        for (int i = 0; i < 50; i++) {
+            assertThat(processed.get(i)).isEqualTo("v" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Given_SuccessfulHandler_When_Dispatched_Then_AcknowledgesAfterProcessing")
+    void givenSuccessfulHandler_whenDispatched_thenAcknowledgesAfterProcessing() {
+        // given
+        Acknowledgment ack = mock(Acknowledgment.class);
+
+        // when
+        dispatcher.dispatch("9788966262281", record(7, "row"), ack, value -> { });
+
+        // then
+        verify(ack, timeout(5000)).acknowledge();
+        verify(recoverer, never()).accept(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Given_AlwaysFailingHandler_When_RetriesExhausted_Then_RecoversAndAcknowledges")
+    void givenAlwaysFailingHandler_whenRetriesExhausted_thenRecoversAndAcknowledges() {
+        // given
+        Acknowledgment ack = mock(Acknowledgment.class);
+        ConsumerRecord<String, String> poison = record(3, "poison");
+
+        // when
+        dispatcher.dispatch("9788966262281", poison, ack, value -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // then
+        verify(recoverer, timeout(5000)).accept(eq(poison), isNull(), any(IllegalStateException.class));
+        verify(ack, timeout(5000)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Given_SameKey_When_LaneIndexResolved_Then_AlwaysSameLane")
+    void givenSameKey_whenLaneIndexResolved_thenAlwaysSameLane() {
+        int first = dispatcher.laneIndex("9791192618944", record(1, "a"));
+        int second = dispatcher.laneIndex("9791192618944", record(99, "b"));
+
+        assertThat(first).isEqualTo(second).isBetween(0, 3);
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, null, value);
+    }
+}
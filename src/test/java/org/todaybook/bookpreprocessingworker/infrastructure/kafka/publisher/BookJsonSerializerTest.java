@@ -0,0 +1,90 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.todaybook.bookpreprocessingworker.domain.model.Book;
+
+@DisplayName("BookJsonSerializer Unit Tests")
+class BookJsonSerializerTest {
+
+    private static final String TOPIC = "book.parsed";
+
+    // What the producer used before: JsonSerializer over this mapper.
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final BookJsonSerializer serializer = new BookJsonSerializer(objectMapper.getFactory());
+
+    @Test
+    @DisplayName("Given_FullBook_When_Serialize_Then_MatchesObjectMapperBytes")
+    void givenFullBook_whenSerialize_thenMatchesObjectMapperBytes() throws Exception {
+        Book book = new Book("9788966262281", "클린 코드", List.of("IT", "프로그래밍"),
+            "A long enough description to pass validation rules.", "Robert C. Martin", "인사이트",
+            LocalDate.of(2013, 12, 24), "http://image");
+
+        assertThat(serializer.serialize(TOPIC, book)).isEqualTo(objectMapper.writeValueAsBytes(book));
+    }
+
+    @Test
+    @DisplayName("Given_NullFieldsAndNoCategories_When_Serialize_Then_MatchesObjectMapperBytes")
+    void givenNullFieldsAndNoCategories_whenSerialize_thenMatchesObjectMapperBytes() throws Exception {
+        Book book = new Book("9788966262281", "title", null, null, null, null, null, null);
+
+        assertThat(serializer.serialize(TOPIC, book)).isEqualTo(objectMapper.writeValueAsBytes(book));
+    }
+
+    @Test
+    @DisplayName("Given_CharactersNeedingEscapes_When_Serialize_Then_MatchesObjectMapperBytes")
+    void givenCharactersNeedingEscapes_whenSerialize_thenMatchesObjectMapperBytes() throws Exception {
+        Book book = new Book("9788966262281", "\"Quoted\" \\ back/slash", List.of("a\tb"),
+            "line\nbreak\r\u0001\u007f   😀", "Kim, <Lee> & Park", "é", LocalDate.of(10000, 1, 1),
+            "http://image?a=1&b=2");
+
+        assertThat(serializer.serialize(TOPIC, book)).isEqualTo(objectMapper.writeValueAsBytes(book));
+    }
+
+    @Test
+    @DisplayName("Given_NullBook_When_Serialize_Then_ReturnsNull")
+    void givenNullBook_whenSerialize_thenReturnsNull() {
+        assertThat(serializer.serialize(TOPIC, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Given_LargeBookThenSmallBook_When_Serialize_Then_SecondOutputIsNotPolluted")
+    void givenLargeBookThenSmallBook_whenSerialize_thenSecondOutputIsNotPolluted() {
+        // given
+        Book large = new Book("9788966262281", "large", List.of(), "가".repeat(50_000), null, null, null, null);
+        Book small = new Book("9788966262281", "small", List.of(), null, null, null, null, null);
+        serializer.serialize(TOPIC, large);
+
+        // when
+        byte[] json = serializer.serialize(TOPIC, small);
+
+        // then
+        assertThat(new String(json, StandardCharsets.UTF_8)).isEqualTo(
+            "{\"isbn\":\"9788966262281\",\"title\":\"small\",\"categories\":[],\"description\":null,"
+                + "\"author\":null,\"publisher\":null,\"publishedAt\":null,\"thumbnail\":null}");
+    }
+
+    @Test
+    @DisplayName("Given_BufferGrownPastLimit_When_Reset_Then_ShrinksBack")
+    void givenBufferGrownPastLimit_whenReset_thenShrinksBack() {
+        BookJsonSerializer.ReusableBuffer buffer = new BookJsonSerializer.ReusableBuffer();
+        buffer.write(new byte[BookJsonSerializer.ReusableBuffer.MAX_RETAINED_SIZE + 1], 0,
+            BookJsonSerializer.ReusableBuffer.MAX_RETAINED_SIZE + 1);
+
+        buffer.reset();
+
+        assertThat(buffer.capacity()).isEqualTo(BookJsonSerializer.ReusableBuffer.INITIAL_SIZE);
+        assertThat(buffer.toByteArray()).isEmpty();
+    }
+}
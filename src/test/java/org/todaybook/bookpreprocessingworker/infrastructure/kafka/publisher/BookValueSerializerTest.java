@@ -0,0 +1,81 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.todaybook.bookpreprocessingworker.config.OutputFormat;
+import org.todaybook.bookpreprocessingworker.domain.model.Book;
+import org.todaybook.common.book.codec.BookContentType;
+import org.todaybook.common.book.codec.BookMessage;
+import org.todaybook.common.book.codec.BookMessageDeserializer;
+
+@DisplayName("BookValueSerializer Unit Tests")
+class BookValueSerializerTest {
+
+    private static final String TOPIC = "book.parsed";
+
+    private final BookMessageDeserializer deserializer = new BookMessageDeserializer();
+
+    @Test
+    @DisplayName("Given_BinaryFormat_When_Serialize_Then_DownstreamDeserializerReadsSameBook")
+    void givenBinaryFormat_whenSerialize_thenDownstreamDeserializerReadsSameBook() {
+        // given
+        BookValueSerializer serializer = new BookValueSerializer(jsonSerializer(), OutputFormat.BINARY);
+        RecordHeaders headers = new RecordHeaders();
+
+        // when
+        byte[] value = serializer.serialize(TOPIC, headers, book());
+
+        // then
+        assertThat(BookContentType.of(headers)).isEqualTo(BookContentType.BINARY_V1);
+        assertThat(deserializer.deserialize(TOPIC, headers, value)).isEqualTo(message());
+    }
+
+    @Test
+    @DisplayName("Given_JsonFormat_When_Serialize_Then_LabelsJsonAndDownstreamDeserializerReadsIt")
+    void givenJsonFormat_whenSerialize_thenLabelsJsonAndDownstreamDeserializerReadsIt() {
+        // given
+        BookValueSerializer serializer = new BookValueSerializer(jsonSerializer(), OutputFormat.JSON);
+        RecordHeaders headers = new RecordHeaders();
+
+        // when
+        byte[] value = serializer.serialize(TOPIC, headers, book());
+
+        // then
+        assertThat(new String(headers.lastHeader(BookContentType.HEADER).value(), StandardCharsets.US_ASCII))
+            .isEqualTo("application/json");
+        assertThat(new String(value, StandardCharsets.UTF_8)).contains("\"publishedAt\":\"2013-12-24\"");
+        assertThat(deserializer.deserialize(TOPIC, headers, value)).isEqualTo(message());
+    }
+
+    @Test
+    @DisplayName("Given_BinaryFormat_When_Serialize_Then_IsSmallerThanJson")
+    void givenBinaryFormat_whenSerialize_thenIsSmallerThanJson() {
+        byte[] json = new BookValueSerializer(jsonSerializer(), OutputFormat.JSON)
+            .serialize(TOPIC, new RecordHeaders(), book());
+        byte[] binary = new BookValueSerializer(jsonSerializer(), OutputFormat.BINARY)
+            .serialize(TOPIC, new RecordHeaders(), book());
+
+        assertThat(binary.length).isLessThan(json.length);
+    }
+
+    private static BookJsonSerializer jsonSerializer() {
+        return new BookJsonSerializer(new JsonFactory());
+    }
+
+    private static Book book() {
+        return new Book("9788966262281", "클린 코드", List.of("IT"), "A long enough description to pass validation rules.",
+            "Robert C. Martin", "인사이트", LocalDate.of(2013, 12, 24), "http://image");
+    }
+
+    private static BookMessage message() {
+        return new BookMessage("9788966262281", "클린 코드", List.of("IT"), "A long enough description to pass validation rules.",
+            "Robert C. Martin", "인사이트", LocalDate.of(2013, 12, 24), "http://image");
+    }
+}
@@ -0,0 +1,207 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+@DisplayName("DeliveryTracker Unit Tests")
+class DeliveryTrackerTest {
+
+    private static final ConsumerRecord<String, String> RECORD =
+        new ConsumerRecord<>("book.raw.csv", 0, 42L, "k", "row");
+
+    private ConsumerRecordRecoverer recoverer;
+    private Acknowledgment ack;
+    private DeliveryTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        recoverer = mock(ConsumerRecordRecoverer.class);
+        ack = mock(Acknowledgment.class);
+        tracker = new DeliveryTracker(2, 1000, recoverer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.close();
+    }
+
+    @Test
+    @DisplayName("Given_PendingSends_When_Tracked_Then_AcknowledgesOnlyAfterLastAck")
+    void givenPendingSends_whenTracked_thenAcknowledgesOnlyAfterLastAck() {
+        // given
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+
+        // when
+        tracker.track(RECORD, ack, () -> {
+            tracker.send(10, () -> first);
+            tracker.send(10, () -> second);
+        });
+
+        // then
+        verify(ack, never()).acknowledge();
+        first.complete("ok");
+        verify(ack, never()).acknowledge();
+        second.complete("ok");
+        verify(ack).acknowledge();
+        assertThat(tracker.inFlightRecords()).isZero();
+    }
+
+    @Test
+    @DisplayName("Given_NoSends_When_Tracked_Then_AcknowledgesImmediately")
+    void givenNoSends_whenTracked_thenAcknowledgesImmediately() {
+        tracker.track(RECORD, ack, () -> { });
+
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Given_FailedSend_When_Tracked_Then_RecoversRecordAndAcknowledges")
+    void givenFailedSend_whenTracked_thenRecoversRecordAndAcknowledges() {
+        // given
+        CompletableFuture<String> send = new CompletableFuture<>();
+        tracker.track(RECORD, ack, () -> tracker.send(10, () -> send));
+
+        // when
+        send.completeExceptionally(new IllegalStateException("broker down"));
+
+        // then
+        verify(recoverer, timeout(5000)).accept(eq(RECORD), isNull(), any(DeliveryFailedException.class));
+        verify(ack, timeout(5000)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Given_FailingWork_When_Tracked_Then_RethrowsAndDoesNotAcknowledge")
+    void givenFailingWork_whenTracked_thenRethrowsAndDoesNotAcknowledge() {
+        CompletableFuture<String> send = CompletableFuture.completedFuture("ok");
+
+        assertThatThrownBy(() -> tracker.track(RECORD, ack, () -> {
+            tracker.send(10, () -> send);
+            throw new IllegalArgumentException("bad row");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        verify(ack, never()).acknowledge();
+        assertThat(tracker.inFlightRecords()).isZero();
+    }
+
+    @Test
+    @DisplayName("Given_ActiveTransaction_When_Tracked_Then_AcknowledgesWithoutWaitingForSends")
+    void givenActiveTransaction_whenTracked_thenAcknowledgesWithoutWaitingForSends() {
+        // given - the transaction commit, not the tracker, waits for the sends
+        try (DeliveryTracker transactional = new DeliveryTracker(2, 1000, recoverer, () -> true)) {
+            CompletableFuture<String> send = new CompletableFuture<>();
+
+            // when
+            transactional.track(RECORD, ack, () -> transactional.send(10, () -> send));
+
+            // then
+            verify(ack).acknowledge();
+        }
+    }
+
+    @Test
+    @DisplayName("Given_NoActiveTransaction_When_AwaitDelivery_Then_StillReportsFailedSend")
+    void givenNoActiveTransaction_whenAwaitDelivery_thenStillReportsFailedSend() {
+        // given - transactions are enabled, but the caller (e.g. backfill) is not inside one
+        try (DeliveryTracker transactional = new DeliveryTracker(2, 1000, recoverer, () -> false)) {
+            CompletableFuture<String> failed = CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+
+            // when / then
+            assertThatThrownBy(() -> transactional.awaitDelivery(() -> transactional.send(10, () -> failed)))
+                .isInstanceOf(DeliveryFailedException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Given_FailedSendInBatch_When_AwaitDelivery_Then_ThrowsDeliveryFailed")
+    void givenFailedSendInBatch_whenAwaitDelivery_thenThrowsDeliveryFailed() {
+        CompletableFuture<String> failed = CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+
+        assertThatThrownBy(() -> tracker.awaitDelivery(() -> tracker.send(10, () -> failed)))
+            .isInstanceOf(DeliveryFailedException.class)
+            .hasRootCauseMessage("broker down");
+    }
+
+    @Test
+    @DisplayName("Given_FailingBatchWork_When_AwaitDelivery_Then_WaitsForEarlierSendsBeforeRethrowing")
+    void givenFailingBatchWork_whenAwaitDelivery_thenWaitsForEarlierSendsBeforeRethrowing() {
+        // given
+        CompletableFuture<String> send = new CompletableFuture<>();
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(() -> send.complete("ok"));
+
+        // when & then
+        assertThatThrownBy(() -> tracker.awaitDelivery(() -> {
+            tracker.send(10, () -> send);
+            throw new IllegalArgumentException("bad row");
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(send).isDone();
+    }
+
+    @Test
+    @DisplayName("Given_FullRecordWindow_When_Sending_Then_BlocksUntilAnAckArrives")
+    void givenFullRecordWindow_whenSending_thenBlocksUntilAnAckArrives() throws InterruptedException {
+        // given - window of two records
+        CompletableFuture<String> first = new CompletableFuture<>();
+        tracker.send(10, () -> first);
+        tracker.send(10, () -> new CompletableFuture<>());
+        AtomicBoolean thirdSent = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        Thread sender = new Thread(() -> {
+            tracker.send(10, () -> {
+                thirdSent.set(true);
+                return new CompletableFuture<>();
+            });
+            done.countDown();
+        });
+        sender.start();
+
+        // then
+        assertThat(done.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(thirdSent).isFalse();
+        first.complete("ok");
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(thirdSent).isTrue();
+    }
+
+    @Test
+    @DisplayName("Given_FullByteWindow_When_Sending_Then_BlocksUntilBytesAreReleased")
+    void givenFullByteWindow_whenSending_thenBlocksUntilBytesAreReleased() throws InterruptedException {
+        // given - a record larger than the 1000-byte window takes all of it
+        CompletableFuture<String> large = new CompletableFuture<>();
+        tracker.send(5000, () -> large);
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        Thread sender = new Thread(() -> {
+            tracker.send(10, CompletableFuture::new);
+            done.countDown();
+        });
+        sender.start();
+
+        // then
+        assertThat(done.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        large.complete("ok");
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,70 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.utils.Utils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("IsbnPartitioner Unit Tests")
+class IsbnPartitionerTest {
+
+    private static final int PARTITIONS = 12;
+
+    @Test
+    @DisplayName("Given_DefaultStrategy_When_Partitioning_Then_MatchesKafkaKeyedPlacement")
+    void givenDefaultStrategy_whenPartitioning_thenMatchesKafkaKeyedPlacement() {
+        IsbnPartitioner partitioner = partitioner(Map.of());
+
+        for (String isbn : new String[] {"9788966262281", "9791192618944", "9780761921585"}) {
+            byte[] key = isbn.getBytes(StandardCharsets.UTF_8);
+            assertThat(partitioner.partition(isbn, PARTITIONS))
+                .isEqualTo(Utils.toPositive(Utils.murmur2(key)) % PARTITIONS);
+        }
+    }
+
+    @Test
+    @DisplayName("Given_RegistrantGroupStrategy_When_SamePrefix_Then_SamePartition")
+    void givenRegistrantGroupStrategy_whenSamePrefix_thenSamePartition() {
+        IsbnPartitioner partitioner = partitioner(Map.of(
+            IsbnPartitioner.STRATEGY_CONFIG, "registrant-group",
+            IsbnPartitioner.PREFIX_LENGTH_CONFIG, "8"
+        ));
+
+        // same publisher (978-89-6626), different titles
+        assertThat(partitioner.partition("9788966262281", PARTITIONS))
+            .isEqualTo(partitioner.partition("9788966260959", PARTITIONS));
+    }
+
+    @Test
+    @DisplayName("Given_ManyIsbns_When_Murmur2_Then_SpreadsOverPartitions")
+    void givenManyIsbns_whenMurmur2_thenSpreadsOverPartitions() {
+        IsbnPartitioner partitioner = partitioner(Map.of());
+        Set<Integer> used = new HashSet<>();
+
+        for (int i = 0; i < 1000; i++) {
+            used.add(partitioner.partition(String.format("978896626%04d", i), PARTITIONS));
+        }
+
+        assertThat(used).hasSize(PARTITIONS);
+    }
+
+    @Test
+    @DisplayName("Given_NonPositivePrefixLength_When_Configuring_Then_Rejects")
+    void givenNonPositivePrefixLength_whenConfiguring_thenRejects() {
+        assertThatThrownBy(() -> partitioner(Map.of(IsbnPartitioner.PREFIX_LENGTH_CONFIG, "0")))
+            .isInstanceOf(ConfigException.class);
+    }
+
+    private static IsbnPartitioner partitioner(Map<String, ?> configs) {
+        IsbnPartitioner partitioner = new IsbnPartitioner();
+        partitioner.configure(configs);
+        return partitioner;
+    }
+}
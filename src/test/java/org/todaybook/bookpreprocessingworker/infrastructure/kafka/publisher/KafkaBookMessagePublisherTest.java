@@ -0,0 +1,136 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.SendResult;
+import org.todaybook.bookpreprocessingworker.application.port.out.BookPublishException;
+import org.todaybook.bookpreprocessingworker.config.AppKafkaProperties;
+import org.todaybook.bookpreprocessingworker.config.TopicNames;
+import org.todaybook.bookpreprocessingworker.domain.model.Book;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaBookMessagePublisher Unit Tests")
+class KafkaBookMessagePublisherTest {
+
+    private static final String OUTPUT_TOPIC = "book.parsed";
+
+    @Mock
+    private KafkaTemplate<String, Book> kafkaTemplate;
+
+    private DeliveryTracker deliveryTracker;
+    private KafkaBookMessagePublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        AppKafkaProperties props = new AppKafkaProperties();
+        props.setOutputTopic(OUTPUT_TOPIC);
+        deliveryTracker = new DeliveryTracker(16, 1 << 20, (record, ex) -> { });
+        publisher = new KafkaBookMessagePublisher(kafkaTemplate, new TopicNames(props), deliveryTracker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deliveryTracker.close();
+    }
+
+    @Test
+    @DisplayName("Given_TrackedRecord_When_Publish_Then_AcknowledgesAfterBrokerAck")
+    void givenTrackedRecord_whenPublish_thenAcknowledgesAfterBrokerAck() {
+        // given
+        Book book = book("9788966262281", "클린 코드");
+        CompletableFuture<SendResult<String, Book>> send = new CompletableFuture<>();
+        given(kafkaTemplate.send(OUTPUT_TOPIC, "9788966262281", book)).willReturn(send);
+        Acknowledgment ack = mock(Acknowledgment.class);
+
+        // when
+        deliveryTracker.track(new ConsumerRecord<>("book.raw", 0, 0L, "k", "v"), ack, () -> publisher.publish(book));
+
+        // then
+        then(ack).should(never()).acknowledge();
+        send.complete(null);
+        then(ack).should().acknowledge();
+    }
+
+    @Test
+    @DisplayName("Given_BookWithPaddedIsbn_When_Publish_Then_KeysRecordByTrimmedIsbn")
+    void givenBookWithPaddedIsbn_whenPublish_thenKeysRecordByTrimmedIsbn() {
+        // given
+        Book book = book(" 9788966262281 ", "클린 코드");
+        given(kafkaTemplate.send(OUTPUT_TOPIC, "9788966262281", book)).willReturn(new CompletableFuture<>());
+
+        // when
+        publisher.publish(book);
+
+        // then
+        then(kafkaTemplate).should().send(OUTPUT_TOPIC, "9788966262281", book);
+    }
+
+    @Test
+    @DisplayName("Given_SendThrowsForSecondBook_When_PublishAll_Then_ReportsItsIndex")
+    void givenSendThrowsForSecondBook_whenPublishAll_thenReportsItsIndex() {
+        // given
+        Book first = book("9788966262281", "first");
+        Book second = book("9791192618944", "second");
+        given(kafkaTemplate.send(OUTPUT_TOPIC, "9788966262281", first)).willReturn(new CompletableFuture<>());
+        given(kafkaTemplate.send(OUTPUT_TOPIC, "9791192618944", second)).willThrow(new IllegalStateException("buffer exhausted"));
+
+        // when & then
+        assertThatThrownBy(() -> publisher.publishAll(List.of(first, second, book("9780761921585", "third"))))
+            .isInstanceOf(BookPublishException.class)
+            .satisfies(e -> assertThat(((BookPublishException) e).failedIndex()).isEqualTo(1));
+        assertThat(deliveryTracker.inFlightRecords()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given_NullBook_When_Publish_Then_DoesNotSend")
+    void givenNullBook_whenPublish_thenDoesNotSend() {
+        publisher.publish(null);
+
+        then(kafkaTemplate).should(never()).send(anyString(), anyString(), any(Book.class));
+    }
+
+    @Test
+    @DisplayName("Given_HangulFields_When_EstimatingSize_Then_CountsUtf8Bytes")
+    void givenHangulFields_whenEstimatingSize_thenCountsUtf8Bytes() {
+        Book ascii = new Book("9788966262281", "abc", List.of(), null, null, null, null, null);
+        Book hangul = new Book("9788966262281", "클린코", List.of(), null, null, null, null, null);
+
+        assertThat(KafkaBookMessagePublisher.estimatedSize(hangul) - KafkaBookMessagePublisher.estimatedSize(ascii))
+            .isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Given_SupplementaryCharacter_When_EstimatingSize_Then_CountsFourBytes")
+    void givenSupplementaryCharacter_whenEstimatingSize_thenCountsFourBytes() {
+        Book empty = new Book("9788966262281", "", List.of(), null, null, null, null, null);
+        Book emoji = new Book("9788966262281", "😀", List.of(), null, null, null, null, null);
+
+        assertThat(KafkaBookMessagePublisher.estimatedSize(emoji) - KafkaBookMessagePublisher.estimatedSize(empty))
+            .isEqualTo(4);
+    }
+
+    private static Book book(String isbn, String title) {
+        return new Book(isbn, title, List.of("IT"), "A long enough description to pass validation rules.",
+            "Robert C. Martin", "인사이트", LocalDate.of(2013, 12, 24), "http://image");
+    }
+}
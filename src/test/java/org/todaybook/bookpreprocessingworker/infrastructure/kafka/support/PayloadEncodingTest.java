@@ -0,0 +1,106 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.kafka.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.Zstd;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.todaybook.bookpreprocessingworker.application.dto.NaverBookItem;
+
+@DisplayName("PayloadEncoding Unit Tests")
+class PayloadEncodingTest {
+
+    private static final String TEXT = "\"1\",\"설명 문장\"\n".repeat(100);
+
+    @Test
+    @DisplayName("Given_NoHeader_When_Of_Then_Identity")
+    void givenNoHeader_whenOf_thenIdentity() {
+        assertThat(PayloadEncoding.of(new RecordHeaders())).isEqualTo(PayloadEncoding.IDENTITY);
+        assertThat(PayloadEncoding.of(null)).isEqualTo(PayloadEncoding.IDENTITY);
+    }
+
+    @Test
+    @DisplayName("Given_GzipPayload_When_Open_Then_StreamsOriginalBytes")
+    void givenGzipPayload_whenOpen_thenStreamsOriginalBytes() throws IOException {
+        // given
+        PayloadEncoding encoding = PayloadEncoding.of(headers("GZIP"));
+
+        // when
+        String decoded = read(encoding.open(gzip(TEXT)));
+
+        // then
+        assertThat(encoding).isEqualTo(PayloadEncoding.GZIP);
+        assertThat(decoded).isEqualTo(TEXT);
+    }
+
+    @Test
+    @DisplayName("Given_ZstdPayload_When_Open_Then_StreamsOriginalBytes")
+    void givenZstdPayload_whenOpen_thenStreamsOriginalBytes() throws IOException {
+        // given
+        PayloadEncoding encoding = PayloadEncoding.of(headers("zstd"));
+
+        // when
+        String decoded = read(encoding.open(Zstd.compress(TEXT.getBytes(StandardCharsets.UTF_8))));
+
+        // then
+        assertThat(encoding).isEqualTo(PayloadEncoding.ZSTD);
+        assertThat(decoded).isEqualTo(TEXT);
+    }
+
+    @Test
+    @DisplayName("Given_UnknownEncoding_When_Of_Then_Rejects")
+    void givenUnknownEncoding_whenOf_thenRejects() {
+        assertThatThrownBy(() -> PayloadEncoding.of(headers("br")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("br");
+    }
+
+    @Test
+    @DisplayName("Given_CompressedJsonRecord_When_Deserialize_Then_ReadsFromDecodingStream")
+    void givenCompressedJsonRecord_whenDeserialize_thenReadsFromDecodingStream() throws IOException {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper();
+        ContentDecodingDeserializer<String> deserializer = new ContentDecodingDeserializer<>(
+            new StringDeserializer(),
+            in -> objectMapper.readValue(in, NaverBookItem.class).isbn()
+        );
+        byte[] payload = gzip("{\"title\":\"Title\",\"isbn\":\"9780761921585\"}");
+
+        // when
+        String isbn = deserializer.deserialize("book.raw", headers("gzip"), payload);
+        String plain = deserializer.deserialize("book.raw", new RecordHeaders(), "plain".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(isbn).isEqualTo("9780761921585");
+        assertThat(plain).isEqualTo("plain");
+    }
+
+    private static RecordHeaders headers(String encoding) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(PayloadEncoding.HEADER, encoding.getBytes(StandardCharsets.US_ASCII));
+        return headers;
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
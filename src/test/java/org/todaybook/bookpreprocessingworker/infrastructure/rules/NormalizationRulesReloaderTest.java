@@ -0,0 +1,119 @@
+package org.todaybook.bookpreprocessingworker.infrastructure.rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.todaybook.bookpreprocessingworker.application.normalize.NormalizationRules;
+import org.todaybook.bookpreprocessingworker.application.parser.RawField;
+import org.todaybook.bookpreprocessingworker.application.port.in.NormalizationRulesUseCase;
+import org.todaybook.bookpreprocessingworker.config.PreprocessingProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NormalizationRulesReloader Unit Tests")
+class NormalizationRulesReloaderTest {
+
+    @Mock
+    private NormalizationRulesUseCase rulesUseCase;
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private PreprocessingProperties props;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("rules.yml");
+        props = new PreprocessingProperties();
+        props.setRulesFile(file);
+        props.setRulesReloadInterval(Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Given_RulesFile_When_Started_Then_AppliesItsRules")
+    void givenRulesFile_whenStarted_thenAppliesItsRules() throws Exception {
+        // given
+        write("min-description-length: 50\nrequired-fields: [title, publisher]\n", 1);
+
+        // when
+        try (NormalizationRulesReloader ignored = new NormalizationRulesReloader(rulesUseCase, props)) {
+            // then
+            ArgumentCaptor<NormalizationRules> captor = ArgumentCaptor.forClass(NormalizationRules.class);
+            then(rulesUseCase).should().replaceRules(captor.capture());
+            assertThat(captor.getValue().minDescriptionLength()).isEqualTo(50);
+            assertThat(captor.getValue().requiredFields())
+                .containsExactly(RawField.ISBN, RawField.TITLE, RawField.PUBLISHER);
+        }
+    }
+
+    @Test
+    @DisplayName("Given_ChangedFile_When_Polled_Then_ReplacesRulesOnlyOnce")
+    void givenChangedFile_whenPolled_thenReplacesRulesOnlyOnce() throws Exception {
+        // given
+        write("min-description-length: 30\n", 1);
+        try (NormalizationRulesReloader reloader = new NormalizationRulesReloader(rulesUseCase, props)) {
+            write("min-description-length: 10\nauthor-roles: [by]\n", 2);
+
+            // when
+            boolean first = reloader.reloadIfChanged();
+            boolean second = reloader.reloadIfChanged();
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            ArgumentCaptor<NormalizationRules> captor = ArgumentCaptor.forClass(NormalizationRules.class);
+            then(rulesUseCase).should(times(2)).replaceRules(captor.capture());
+            NormalizationRules reloaded = captor.getAllValues().get(1);
+            assertThat(reloaded.minDescriptionLength()).isEqualTo(10);
+            assertThat(reloaded.authorNormalizer().normalize("by Kim 지음")).isEqualTo("Kim 지음");
+        }
+    }
+
+    @Test
+    @DisplayName("Given_InvalidChange_When_Polled_Then_KeepsCurrentRules")
+    void givenInvalidChange_whenPolled_thenKeepsCurrentRules() throws Exception {
+        // given
+        write("min-description-length: 30\n", 1);
+        try (NormalizationRulesReloader reloader = new NormalizationRulesReloader(rulesUseCase, props)) {
+            write("min-description-length: -1\n", 2);
+
+            // when
+            boolean applied = reloader.reloadIfChanged();
+
+            // then
+            assertThat(applied).isFalse();
+            then(rulesUseCase).should(times(1)).replaceRules(any());
+        }
+    }
+
+    @Test
+    @DisplayName("Given_InvalidFileAtStartup_When_Created_Then_Fails")
+    void givenInvalidFileAtStartup_whenCreated_thenFails() throws Exception {
+        write("required-fields: [fallback-isbn]\n", 1);
+
+        assertThatThrownBy(() -> new NormalizationRulesReloader(rulesUseCase, props))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void write(String content, long second) throws Exception {
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.ofEpochSecond(1_700_000_000L + second)));
+    }
+}
@@ -49,7 +49,7 @@ public final class TestFixtures {
             null,
             null,
             null,
-            "9781234567890",
+            "9781234567897",
             "테스트 설명입니다."
         );
     }
@@ -67,7 +67,7 @@ public final class TestFixtures {
             "32400",
             "한빛미디어",
             "20050901",
-            "9788979143400",
+            "9788979143409",
             "디자인 패턴 입문서"
         );
     }
@@ -103,7 +103,7 @@ public final class TestFixtures {
             "18000",
             "출판사",
             "INVALID_DATE",
-            "9781234567890",
+            "9781234567897",
             "날짜 형식이 잘못된 책"
         );
     }
@@ -139,7 +139,7 @@ public final class TestFixtures {
             "18000",
             "출판사",
             "20231225",
-            "9781234567890",
+            "9781234567897",
             "제목 없는 책"
         );
     }
@@ -157,7 +157,7 @@ public final class TestFixtures {
             "22500",
             "출판사",
             "20230615",
-            "9789876543210",
+            "9789876543217",
             "여러 저자가 함께 쓴 책"
         );
     }
@@ -238,7 +238,7 @@ public final class TestFixtures {
         return """
             {
                 "title": "<b>헤드 퍼스트</b> 디자인 패턴",
-                "isbn": "9788979143400",
+                "isbn": "9788979143409",
                 "author": "에릭 프리먼",
                 "publisher": "한빛미디어",
                 "pubdate": "20050901",
@@ -276,7 +276,7 @@ public final class TestFixtures {
     public static String createJsonPayloadWithMissingFields() {
         return """
             {
-                "isbn": "9781234567890"
+                "isbn": "9781234567897"
             }
             """;
     }
@@ -294,7 +294,7 @@ public final class TestFixtures {
         private String discount = "18000";
         private String publisher = "테스트 출판사";
         private String pubdate = "20231225";
-        private String isbn = "9781234567890";
+        private String isbn = "9781234567897";
         private String description = "테스트 설명입니다.";
 
         public NaverBookItemBuilder title(String title) {
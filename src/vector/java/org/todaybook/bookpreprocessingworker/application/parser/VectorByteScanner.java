@@ -0,0 +1,50 @@
+package org.todaybook.bookpreprocessingworker.application.parser;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link ByteScanner} comparing a whole vector of bytes per step (16 to 64 lanes depending on the
+ * CPU), with a scalar loop for the tail. Only instantiated reflectively by {@link ByteScanner}.
+ */
+final class VectorByteScanner extends ByteScanner {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    @Override
+    int indexOf(byte[] bytes, int from, int to, byte b) {
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            VectorMask<Byte> hits = ByteVector.fromArray(SPECIES, bytes, i).eq(b);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    int indexOfEither(byte[] bytes, int from, int to, byte b1, byte b2) {
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            ByteVector block = ByteVector.fromArray(SPECIES, bytes, i);
+            VectorMask<Byte> hits = block.eq(b1).or(block.eq(b2));
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            byte b = bytes[i];
+            if (b == b1 || b == b2) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}